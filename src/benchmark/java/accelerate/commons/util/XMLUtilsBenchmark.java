@@ -0,0 +1,106 @@
+package accelerate.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import accelerate.commons.data.DataMap;
+
+/**
+ * Benchmarks for {@link XMLUtils}. They are run with the "benchmark" task, and
+ * are not part of the build.
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class XMLUtilsBenchmark {
+	/**
+	 * Benchmark of {@link XMLUtils#stringToXML(String)}, parsing the same document
+	 * on one thread and then on all cores, and logging the throughput of each run
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	void testParseThroughput() throws Exception {
+		String xml = StreamUtils.readInputStream("classpath:/accelerate/commons/util/XMLUtilsTests.xml");
+		int cores = Runtime.getRuntime().availableProcessors();
+		int parseCount = 20000;
+
+		for (int threads : new int[] { 1, cores }) {
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Callable<Integer>> tasks = new ArrayList<>();
+				for (int idx = 0; idx < threads; idx++) {
+					tasks.add(() -> {
+						int parsed = 0;
+						for (int count = 0; count < (parseCount / threads); count++) {
+							if ("TestDataBean".equals(XMLUtils.stringToXML(xml).getDocumentElement().getNodeName())) {
+								parsed++;
+							}
+						}
+						return parsed;
+					});
+				}
+
+				long start = System.nanoTime();
+				int parsed = 0;
+				for (Future<Integer> result : executor.invokeAll(tasks)) {
+					parsed += result.get();
+				}
+				long elapsed = System.nanoTime() - start;
+
+				assertEquals((parseCount / threads) * threads, parsed);
+				LOGGER.info("testParseThroughput: {} threads, {} documents/second", threads,
+						(parsed * 1_000_000_000L) / Math.max(elapsed, 1));
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Benchmark of {@link XMLUtils#toDataMap(String)} against building a
+	 * {@link org.w3c.dom.Document} and walking it, and against
+	 * {@link JacksonUtils#fromXML(String, Class)}, logging the time per document
+	 * of each. The results are compared in
+	 * {@link XMLUtilsTests#testToDataMapLayout()}.
+	 */
+	@Test
+	void testToDataMapThroughput() {
+		String xml = XMLUtilsTests.catalogXML(200);
+		int iterations = 500;
+
+		Map<String, Supplier<Object>> paths = new LinkedHashMap<>();
+		paths.put("toDataMap", () -> XMLUtils.toDataMap(xml));
+		paths.put("stringToXML+walk",
+				() -> XMLUtilsTests.domToDataMap(XMLUtils.stringToXML(xml).getDocumentElement()));
+		paths.put("JacksonUtils.fromXML", () -> JacksonUtils.fromXML(xml, DataMap.class));
+		paths.forEach((aName, aPath) -> {
+			IntStream.range(0, iterations).forEach(aIndex -> aPath.get());
+			long start = System.nanoTime();
+			IntStream.range(0, iterations).forEach(aIndex -> aPath.get());
+			LOGGER.info("testToDataMapThroughput: {}, {} microseconds/document", aName,
+					(System.nanoTime() - start) / (iterations * 1000L));
+		});
+	}
+
+	/**
+	 * {@link Logger} instance
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(XMLUtilsBenchmark.class);
+}
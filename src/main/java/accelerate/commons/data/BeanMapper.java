@@ -0,0 +1,359 @@
+package accelerate.commons.data;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import accelerate.commons.exception.ApplicationException;
+import accelerate.commons.util.CommonUtils;
+import accelerate.commons.util.FieldAccessor;
+import accelerate.commons.util.ReflectionUtils;
+
+/**
+ * Class providing methods to copy field values between beans and
+ * {@link DataMap} instances. The fields of each class are resolved once into
+ * the {@link FieldAccessor} instances cached by
+ * {@link ReflectionUtils#getFieldAccessor(Field)}, and the copy plan of each
+ * (source, target) class pair is compiled on first use, so repeated copies
+ * avoid reflective lookups.
+ * <p>
+ * Static and transient fields are skipped, and final fields are only read. For
+ * {@link DataBean} instances the dynamic values are copied along with the
+ * declared fields.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class BeanMapper {
+	/**
+	 * {@link BeanLayout} of each class
+	 */
+	private static final ClassValue<BeanLayout> LAYOUTS = new ClassValue<>() {
+		@Override
+		protected BeanLayout computeValue(Class<?> aClass) {
+			return new BeanLayout(aClass);
+		}
+	};
+
+	/**
+	 * Copy plans keyed by source class, and then by target class. As with
+	 * {@link #LAYOUTS}, entries do not keep the classes from being unloaded.
+	 */
+	private static final ClassValue<ClassValue<Property[][]>> COPY_PLANS = new ClassValue<>() {
+		@Override
+		protected ClassValue<Property[][]> computeValue(Class<?> aSourceClass) {
+			return new ClassValue<>() {
+				@Override
+				protected Property[][] computeValue(Class<?> aTargetClass) {
+					return copyPlan(aSourceClass, aTargetClass);
+				}
+			};
+		}
+	};
+
+	/**
+	 * This method returns a {@link DataMap} with the values of all fields of the
+	 * given object. Null values are skipped.
+	 *
+	 * @param aSource
+	 * @return
+	 * @throws ApplicationException Wrapping exceptions thrown by accessors
+	 */
+	public static DataMap toDataMap(Object aSource) throws ApplicationException {
+		DataMap dataMap = new DataMap();
+		if (aSource == null) {
+			return dataMap;
+		}
+
+		for (Property property : LAYOUTS.get(aSource.getClass()).properties) {
+			Object value = property.accessor.get(aSource);
+			if (value != null) {
+				dataMap.put(property.name, value);
+			}
+		}
+
+		if (aSource instanceof DataBean) {
+			dataMap.putAll(((DataBean) aSource).getDynamicValues());
+		}
+
+		return dataMap;
+	}
+
+	/**
+	 * This method returns a new instance of the given class loaded with the values
+	 * of the given map. Keys that do not match a field are added as dynamic values
+	 * if the target is a {@link DataBean}, and ignored otherwise.
+	 * <p>
+	 * Records, and classes without a no-arg constructor, are created through
+	 * their canonical or {@link com.fasterxml.jackson.annotation.JsonCreator}
+	 * constructor with {@link ReflectionUtils#newInstance(Class, Map)}.
+	 *
+	 * @param <T>
+	 * @param aSource
+	 * @param aTargetClass {@link Class} with a no-arg, canonical record or
+	 *                     {@link com.fasterxml.jackson.annotation.JsonCreator}
+	 *                     constructor
+	 * @return
+	 * @throws ApplicationException Wrapping exceptions thrown by accessors
+	 */
+	public static <T> T fromDataMap(Map<String, ?> aSource, Class<T> aTargetClass) throws ApplicationException {
+		BeanLayout layout = LAYOUTS.get(aTargetClass);
+		if (layout.constructor == null) {
+			return ReflectionUtils.newInstance(aTargetClass, aSource);
+		}
+
+		T target = aTargetClass.cast(layout.newInstance());
+		if (aSource == null) {
+			return target;
+		}
+
+		DataBean dataBean = (target instanceof DataBean) ? (DataBean) target : null;
+		aSource.forEach((aKey, aValue) -> {
+			Property property = layout.propertyMap.get(aKey);
+			if ((property != null) && property.writable) {
+				property.set(target, aValue);
+			} else if (dataBean != null) {
+				dataBean.add(aKey, aValue);
+			}
+		});
+
+		return target;
+	}
+
+	/**
+	 * This method copies the values of all fields of the source object to the
+	 * fields with the same name and a compatible type in the target object
+	 *
+	 * @param <T>
+	 * @param aSource
+	 * @param aTarget
+	 * @return target instance
+	 * @throws ApplicationException Wrapping exceptions thrown by accessors
+	 */
+	public static <T> T copy(Object aSource, T aTarget) throws ApplicationException {
+		if ((aSource == null) || (aTarget == null)) {
+			return aTarget;
+		}
+
+		for (Property[] pair : COPY_PLANS.get(aSource.getClass()).get(aTarget.getClass())) {
+			pair[1].set(aTarget, pair[0].accessor.get(aSource));
+		}
+
+		if ((aSource instanceof DataBean) && (aTarget instanceof DataBean)) {
+			((DataBean) aTarget).addAll(((DataBean) aSource).getDynamicValues());
+		}
+
+		return aTarget;
+	}
+
+	/**
+	 * This method builds the copy plan for the given classes
+	 *
+	 * @param aSourceClass
+	 * @param aTargetClass
+	 * @return array of source and target property pairs
+	 */
+	static Property[][] copyPlan(Class<?> aSourceClass, Class<?> aTargetClass) {
+		Map<String, Property> targetProperties = LAYOUTS.get(aTargetClass).propertyMap;
+		List<Property[]> pairs = new ArrayList<>();
+		for (Property source : LAYOUTS.get(aSourceClass).properties) {
+			Property target = targetProperties.get(source.name);
+			if ((target != null) && target.writable && target.type.isAssignableFrom(source.type)) {
+				pairs.add(new Property[] { source, target });
+			}
+		}
+
+		return pairs.toArray(new Property[pairs.size()][]);
+	}
+
+	/**
+	 * Resolved properties of a class
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class BeanLayout {
+		/**
+		 * properties of all instance fields, including inherited ones
+		 */
+		final Property[] properties;
+
+		/**
+		 * {@link Map} of field name to property
+		 */
+		final Map<String, Property> propertyMap;
+
+		/**
+		 * handle of the no-arg constructor, or null
+		 */
+		final MethodHandle constructor;
+
+		/**
+		 * name of the class, for error messages
+		 */
+		private final String className;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aClass
+		 */
+		BeanLayout(Class<?> aClass) {
+			this.className = aClass.getName();
+			Map<String, Property> fieldMap = new HashMap<>();
+			List<Property> fieldList = new ArrayList<>();
+			MethodHandle noArgConstructor = null;
+
+			try {
+				noArgConstructor = ReflectionUtils.lookup(aClass)
+						.findConstructor(aClass, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class));
+			} catch (NoSuchMethodException | IllegalAccessException error) {
+				LOGGER.trace("No accessible default constructor for {}", aClass);
+			}
+
+			for (Class<?> searchType = aClass; (searchType != null) && (searchType != Object.class)
+					&& (searchType != Record.class); searchType = searchType.getSuperclass()) {
+				for (Field field : searchType.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+							|| fieldMap.containsKey(field.getName())) {
+						continue;
+					}
+
+					Property property = new Property(field);
+					fieldMap.put(property.name, property);
+					fieldList.add(property);
+				}
+			}
+
+			this.properties = fieldList.toArray(new Property[fieldList.size()]);
+			this.propertyMap = Collections.unmodifiableMap(fieldMap);
+			this.constructor = noArgConstructor;
+		}
+
+		/**
+		 * @return new instance of the class
+		 */
+		Object newInstance() {
+			if (this.constructor == null) {
+				throw new ApplicationException("No default constructor found for '{}'", this.className);
+			}
+
+			try {
+				return this.constructor.invokeExact();
+			} catch (RuntimeException | Error error) {
+				throw error;
+			} catch (Throwable error) {
+				throw new ApplicationException(error);
+			}
+		}
+	}
+
+	/**
+	 * Field of a class, with the details needed to convert values to its type
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class Property {
+		/**
+		 * name of the field
+		 */
+		final String name;
+
+		/**
+		 * type of the field, boxed for primitives
+		 */
+		final Class<?> type;
+
+		/**
+		 * flag to indicate the field is primitive and cannot be set to null
+		 */
+		private final boolean primitive;
+
+		/**
+		 * flag to indicate the field is not final
+		 */
+		final boolean writable;
+
+		/**
+		 * cached accessor of the field
+		 */
+		final FieldAccessor accessor;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aField
+		 * @throws ApplicationException if the field cannot be accessed
+		 */
+		Property(Field aField) throws ApplicationException {
+			this.name = aField.getName();
+			this.primitive = aField.getType().isPrimitive();
+			this.type = MethodType.methodType(aField.getType()).wrap().returnType();
+			this.writable = !Modifier.isFinal(aField.getModifiers());
+			this.accessor = ReflectionUtils.getFieldAccessor(aField);
+		}
+
+		/**
+		 * This method sets the field value, converting numbers to the field type where
+		 * this is exact. Null values are skipped for primitive fields.
+		 *
+		 * @param aTarget
+		 * @param aValue
+		 */
+		void set(Object aTarget, Object aValue) {
+			Object value = aValue;
+			if (value == null) {
+				if (this.primitive) {
+					return;
+				}
+			} else if (!this.type.isInstance(value)) {
+				value = convert(value);
+			}
+
+			this.accessor.set(aTarget, value);
+		}
+
+		/**
+		 * @param aValue
+		 * @return value converted to the field type
+		 * @throws ApplicationException if the value does not match the type, or a
+		 *                              number cannot be converted without loss
+		 */
+		private Object convert(Object aValue) {
+			if ((aValue instanceof Number) && Number.class.isAssignableFrom(this.type)) {
+				Number number = CommonUtils.convertNumber((Number) aValue, this.type.asSubclass(Number.class));
+				if (number != null) {
+					return number;
+				}
+			}
+
+			throw new ApplicationException("Cannot assign {} to field '{}' of type {}", aValue.getClass().getName(),
+					this.name, this.type.getName());
+		}
+	}
+
+	/**
+	 * {@link Logger} instance
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(BeanMapper.class);
+
+	/**
+	 * hidden constructor
+	 */
+	private BeanMapper() {
+	}
+}
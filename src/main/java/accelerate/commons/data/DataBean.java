@@ -1,21 +1,43 @@
 package accelerate.commons.data;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import accelerate.commons.constant.CommonConstants;
 import accelerate.commons.exception.ApplicationException;
 import accelerate.commons.util.CommonUtils;
+import accelerate.commons.util.FieldAccessor;
 import accelerate.commons.util.JacksonUtils;
+import accelerate.commons.util.LRUCache;
+import accelerate.commons.util.ReflectionUtils;
 
 /**
  * Generic Data Bean class with embedded {@link DataMap} for extensibility
+ * <p>
+ * Keys declared by {@link DataBeanSchema} are stored in slots instead of the
+ * embedded map, so {@link #getDataMap()} does not contain them. Use
+ * {@link #get(String)} or {@link #getDynamicValues()} to read all keys.
  * 
  * @version 1.0 Initial Version
  * @author Rohit Narayanan
@@ -28,15 +50,107 @@ public class DataBean implements Serializable {
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Instance of {@link DataMap} for generic storage
+	 * Maximum number of serialization plans held in {@link #PLAN_CACHE}
 	 */
-	@JsonAnySetter
-	private transient final DataMap dataMap = DataMap.newMap();
+	private static final int PLAN_CACHE_LIMIT = 1024;
+
+	/**
+	 * Cache of {@link SerializationPlan} instances keyed by bean class and ignored
+	 * field set
+	 */
+	private static final LRUCache<Entry<Class<?>, Set<String>>, SerializationPlan> PLAN_CACHE = new LRUCache<>(
+			PLAN_CACHE_LIMIT);
+
+	/**
+	 * {@link Map} of bean class to the immutable set of fields new instances of
+	 * the class ignore by default
+	 */
+	private static final Map<Class<?>, Set<String>> DEFAULT_IGNORED_FIELDS = new ConcurrentHashMap<>();
+
+	/**
+	 * {@link SlotSchema} of each bean class, as declared by {@link DataBeanSchema}
+	 */
+	private static final ClassValue<SlotSchema> SLOT_SCHEMAS = new ClassValue<>() {
+		@Override
+		protected SlotSchema computeValue(Class<?> aBeanClass) {
+			return new SlotSchema(aBeanClass.getAnnotation(DataBeanSchema.class));
+		}
+	};
+
+	/**
+	 * Accessors of the declared fields of each bean class, whose values are
+	 * compared against the snapshot taken by {@link #checkpoint()}
+	 */
+	private static final ClassValue<FieldAccessor[]> TRACKED_FIELDS = new ClassValue<>() {
+		@Override
+		protected FieldAccessor[] computeValue(Class<?> aBeanClass) {
+			List<FieldAccessor> accessors = new ArrayList<>();
+			for (Class<?> type = aBeanClass; (type != null) && (type != DataBean.class); type = type.getSuperclass()) {
+				for (Field field : type.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+						accessors.add(ReflectionUtils.getFieldAccessor(field));
+					}
+				}
+			}
+
+			return accessors.toArray(new FieldAccessor[accessors.size()]);
+		}
+	};
+
+	/**
+	 * Updater for {@link #ignoredFields}
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static final AtomicReferenceFieldUpdater<DataBean, Set<String>> IGNORED_FIELDS = (AtomicReferenceFieldUpdater) AtomicReferenceFieldUpdater
+			.newUpdater(DataBean.class, Set.class, "ignoredFields");
+
+	/**
+	 * Instance of {@link DataMap} for generic storage, created on the first write
+	 */
+	private transient DataMap dataMap = null;
+
+	/**
+	 * {@link SlotSchema} of this bean class
+	 */
+	private transient final SlotSchema slotSchema = SLOT_SCHEMAS.get(getClass());
+
+	/**
+	 * Values of the keys declared by {@link DataBeanSchema}, indexed by slot. Null
+	 * if no keys are declared.
+	 */
+	private transient final Object[] slots = this.slotSchema.newSlots();
+
+	/**
+	 * Slots modified since the last {@link #checkpoint()}, created on the first
+	 * tracked slot write. Guarded by the bean's monitor, like
+	 * {@link #modifiedFields}.
+	 */
+	private transient boolean[] modifiedSlots = null;
+
+	/**
+	 * Immutable {@link Set} of names of fields to exclude while serializing. It is
+	 * replaced as a whole on every change, so readers never need a lock.
+	 */
+	private transient volatile Set<String> ignoredFields = DEFAULT_IGNORED_FIELDS.getOrDefault(getClass(),
+			Collections.emptySet());
+
+	/**
+	 * {@link Set} of declared fields marked as modified since the last
+	 * {@link #checkpoint()}
+	 */
+	private transient Set<String> modifiedFields = Collections.emptySet();
+
+	/**
+	 * Copies of the declared field values taken by {@link #checkpoint()}, in the
+	 * order of {@link #TRACKED_FIELDS}
+	 */
+	private transient Object[] fieldSnapshot = null;
 
 	/**
-	 * {@link Set} to include names of fields to exclude while serializing
+	 * {@link SerializationPlan} last used for {@link #ignoredFields}
 	 */
-	protected transient Set<String> ignoredFields = Collections.emptySet();
+	private transient SerializationPlan serializationPlan = null;
 
 	/*
 	 * Static Methods
@@ -49,22 +163,82 @@ public class DataBean implements Serializable {
 	 */
 	public static final DataBean newBean(Object... aArgs) {
 		DataBean bean = new DataBean();
-		bean.dataMap.addAll(aArgs);
+		bean.dataMap().addAll(aArgs);
 
 		return bean;
 	}
 
+	/**
+	 * This method sets the fields that new instances of the given bean class
+	 * exclude from serialization. All such instances share one immutable set until
+	 * their ignored fields are changed.
+	 *
+	 * @param aBeanClass
+	 * @param aFieldNames
+	 */
+	public static final void setDefaultIgnoredFields(Class<? extends DataBean> aBeanClass, String... aFieldNames) {
+		if (CommonUtils.isEmpty(aFieldNames)) {
+			DEFAULT_IGNORED_FIELDS.remove(aBeanClass);
+			return;
+		}
+
+		DEFAULT_IGNORED_FIELDS.put(aBeanClass, SerializationPlan
+				.of(aBeanClass, new HashSet<>(Arrays.asList(aFieldNames))).ignoredFields);
+	}
+
+	/**
+	 * This method returns the slot of the given key declared by
+	 * {@link DataBeanSchema}. Subclasses resolve their slots once into static
+	 * constants, so the constants follow the order of the declared keys.
+	 *
+	 * @param aBeanClass
+	 * @param aKey
+	 * @return slot for {@link #getSlot(int)} and {@link #setSlot(int, Object)}
+	 * @throws ApplicationException if the key is not declared for the class
+	 */
+	protected static final int slotOf(Class<? extends DataBean> aBeanClass, String aKey)
+			throws ApplicationException {
+		int slot = SLOT_SCHEMAS.get(aBeanClass).indexOf(aKey);
+		if (slot < 0) {
+			throw new ApplicationException("Key '{}' is not declared in the DataBeanSchema of {}", aKey,
+					aBeanClass.getName());
+		}
+
+		return slot;
+	}
+
 	/*
 	 * Public API
 	 */
 	/**
-	 * Getter method for "dataMap" property
+	 * Getter method for "dataMap" property. Values of keys declared by
+	 * {@link DataBeanSchema} are not part of the map.
 	 * 
 	 * @return dataMap
 	 */
-	@JsonAnyGetter
 	public DataMap getDataMap() {
-		return this.dataMap;
+		return dataMap();
+	}
+
+	/**
+	 * Getter method for "ignoredFields" property
+	 * 
+	 * @return immutable {@link Set} of ignored field names
+	 */
+	public Set<String> getIgnoredFields() {
+		return this.ignoredFields;
+	}
+
+	/**
+	 * This method gives subclasses read access to the fields excluded from
+	 * serialization, which used to be a protected field. Changes go through
+	 * {@link #addIgnoredFields(String...)} and
+	 * {@link #removeIgnoredFields(String...)}.
+	 *
+	 * @return immutable {@link Set} of ignored field names
+	 */
+	protected Set<String> ignoredFields() {
+		return this.ignoredFields;
 	}
 
 	/**
@@ -73,18 +247,15 @@ public class DataBean implements Serializable {
 	 *
 	 * @param aFieldNames
 	 */
-	public synchronized void addIgnoredFields(String... aFieldNames) {
+	public void addIgnoredFields(String... aFieldNames) {
 		if (CommonUtils.isEmpty(aFieldNames)) {
 			return;
 		}
 
-		if (this.ignoredFields == Collections.EMPTY_SET) {
-			this.ignoredFields = new HashSet<>();
-		}
-
-		for (String field : aFieldNames) {
-			this.ignoredFields.add(field);
-		}
+		IGNORED_FIELDS.updateAndGet(this, aFields -> {
+			Set<String> fields = new HashSet<>(aFields);
+			return Collections.addAll(fields, aFieldNames) ? Collections.unmodifiableSet(fields) : aFields;
+		});
 	}
 
 	/**
@@ -92,25 +263,26 @@ public class DataBean implements Serializable {
 	 *
 	 * @param aFieldNames
 	 */
-	public synchronized void removeIgnoredFields(String... aFieldNames) {
+	public void removeIgnoredFields(String... aFieldNames) {
 		if (CommonUtils.isEmpty(aFieldNames)) {
 			return;
 		}
 
-		if (this.ignoredFields.isEmpty()) {
-			return;
-		}
+		IGNORED_FIELDS.updateAndGet(this, aFields -> {
+			if (aFields.isEmpty()) {
+				return aFields;
+			}
 
-		for (String field : aFieldNames) {
-			this.ignoredFields.remove(field);
-		}
+			Set<String> fields = new HashSet<>(aFields);
+			return fields.removeAll(Arrays.asList(aFieldNames)) ? Collections.unmodifiableSet(fields) : aFields;
+		});
 	}
 
 	/**
 	 * This method clears out the serialzation exclusion list
 	 */
-	public synchronized void clearIgnoredFields() {
-		this.ignoredFields.clear();
+	public void clearIgnoredFields() {
+		this.ignoredFields = Collections.emptySet();
 	}
 
 	/**
@@ -143,6 +315,239 @@ public class DataBean implements Serializable {
 		return serialize(2);
 	}
 
+	/**
+	 * This method marks the current state of the bean as the baseline for change
+	 * tracking. Changes to the embedded {@link DataMap} are recorded as they are
+	 * made. The values of declared fields are copied with
+	 * {@link ReflectionUtils#deepClone(Object)}, and compared against the current
+	 * values by {@link #toJSONDelta()}.
+	 * 
+	 * @return
+	 */
+	public synchronized DataBean checkpoint() {
+		dataMap().checkpoint();
+		this.modifiedFields = new HashSet<>();
+
+		FieldAccessor[] fields = TRACKED_FIELDS.get(getClass());
+		Object[] snapshot = new Object[fields.length];
+		for (int idx = 0; idx < fields.length; idx++) {
+			snapshot[idx] = ReflectionUtils.deepClone(fields[idx].get(this));
+		}
+		this.fieldSnapshot = snapshot;
+
+		this.modifiedSlots = null;
+
+		return this;
+	}
+
+	/**
+	 * This method registers the given declared fields as modified since the last
+	 * {@link #checkpoint()}. Changed fields are found without it, so calling it
+	 * from the setters of subclasses is optional, and only saves comparing those
+	 * fields with their snapshot.
+	 *
+	 * @param aFieldNames
+	 */
+	protected synchronized void markModified(String... aFieldNames) {
+		if (CommonUtils.isEmpty(aFieldNames) || !isTracking()) {
+			return;
+		}
+
+		if (this.modifiedFields == Collections.EMPTY_SET) {
+			this.modifiedFields = new HashSet<>();
+		}
+
+		for (String field : aFieldNames) {
+			this.modifiedFields.add(field);
+		}
+	}
+
+	/**
+	 * This methods returns a JSON merge patch (RFC 7386) containing only the
+	 * changes since the last {@link #checkpoint()}. Ignored fields are excluded.
+	 * In case tracking has not been started the whole bean is returned.
+	 *
+	 * @return JSON merge patch
+	 * @throws ApplicationException
+	 * @see DataMap#toJSONDelta()
+	 */
+	public String toJSONDelta() throws ApplicationException {
+		if (!isTracking()) {
+			return toJSON();
+		}
+
+		DataMap delta = this.dataMap.getDelta();
+		Set<String> markedFields;
+		boolean[] markedSlots;
+		synchronized (this) {
+			markedFields = this.modifiedFields;
+			markedSlots = (this.modifiedSlots == null) ? null : this.modifiedSlots.clone();
+		}
+
+		for (String field : markedFields) {
+			int slot = this.slotSchema.indexOf(field);
+			delta.put(field, (slot < 0) ? ReflectionUtils.getFieldValue(this, field) : this.slots[slot]);
+		}
+
+		FieldAccessor[] fields = TRACKED_FIELDS.get(getClass());
+		Object[] snapshot = this.fieldSnapshot;
+		for (int idx = 0; idx < fields.length; idx++) {
+			String name = fields[idx].getField().getName();
+			Object value = fields[idx].get(this);
+			if (!markedFields.contains(name)
+					&& ((snapshot == null) || !ReflectionUtils.deepEquals(value, snapshot[idx]))) {
+				delta.put(name, value);
+			}
+		}
+
+		if (markedSlots != null) {
+			for (int idx = 0; idx < markedSlots.length; idx++) {
+				if (markedSlots[idx]) {
+					delta.put(this.slotSchema.keys[idx], this.slots[idx]);
+				}
+			}
+		}
+
+		this.ignoredFields.forEach(delta::remove);
+		return JacksonUtils.toJSONMergePatch(delta);
+	}
+
+	/**
+	 * This method applies the given JSON merge patch (RFC 7386) to this bean. Keys
+	 * matching declared fields are set on the bean, keys declared by
+	 * {@link DataBeanSchema} are merged into their slots and the rest are merged
+	 * into the embedded {@link DataMap}.
+	 * 
+	 * @param aDelta JSON merge patch, as generated by {@link #toJSONDelta()}
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public DataBean applyDelta(String aDelta) throws ApplicationException {
+		DataMap delta = JacksonUtils.fromJSON(aDelta, DataMap.class);
+		if (delta == null) {
+			return this;
+		}
+
+		DataMap fieldDelta = new DataMap();
+		DataMap slotDelta = new DataMap();
+		DataMap dataDelta = new DataMap();
+		delta.forEach((aKey, aValue) -> {
+			if (this.slotSchema.indexOf(aKey) >= 0) {
+				slotDelta.put(aKey, aValue);
+				return;
+			}
+
+			Field field = ReflectionUtils.getField(getClass(), aKey);
+			boolean declared = (field != null) && (field.getDeclaringClass() != DataBean.class)
+					&& !Modifier.isStatic(field.getModifiers());
+			(declared ? fieldDelta : dataDelta).put(aKey, aValue);
+		});
+
+		JacksonUtils.updateValue(this, fieldDelta);
+		markModified(fieldDelta.keySet().toArray(new String[fieldDelta.size()]));
+		if (!dataDelta.isEmpty()) {
+			DataMap.mergePatch(dataMap(), dataDelta);
+		}
+
+		if (!slotDelta.isEmpty()) {
+			DataMap slotValues = new DataMap();
+			slotDelta.keySet().forEach(aKey -> slotValues.put(aKey, this.slots[this.slotSchema.indexOf(aKey)]));
+			DataMap.mergePatch(slotValues, slotDelta);
+			slotDelta.keySet().forEach(aKey -> setSlot(this.slotSchema.indexOf(aKey), slotValues.get(aKey)));
+		}
+
+		return this;
+	}
+
+	/**
+	 * This method returns the value of the given slot, as declared by
+	 * {@link DataBeanSchema}
+	 *
+	 * @param <T>
+	 * @param aSlot position of the key in {@link DataBeanSchema#value()}
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> T getSlot(int aSlot) {
+		return (T) this.slots[aSlot];
+	}
+
+	/**
+	 * This method sets the value of the given slot, as declared by
+	 * {@link DataBeanSchema}
+	 *
+	 * @param aSlot  position of the key in {@link DataBeanSchema#value()}
+	 * @param aValue
+	 */
+	protected void setSlot(int aSlot, Object aValue) {
+		this.slots[aSlot] = aValue;
+		if (isTracking()) {
+			markSlot(aSlot);
+		}
+	}
+
+	/**
+	 * This method registers the given slot as modified since the last
+	 * {@link #checkpoint()}
+	 *
+	 * @param aSlot
+	 */
+	private synchronized void markSlot(int aSlot) {
+		if (this.modifiedSlots == null) {
+			this.modifiedSlots = new boolean[this.slots.length];
+		}
+
+		this.modifiedSlots[aSlot] = true;
+	}
+
+	/**
+	 * @return true if {@link #checkpoint()} has been called
+	 */
+	private boolean isTracking() {
+		DataMap map = this.dataMap;
+		return (map != null) && map.isTracking();
+	}
+
+	/**
+	 * @return embedded {@link DataMap}, created if required
+	 */
+	private DataMap dataMap() {
+		DataMap map = this.dataMap;
+		if (map == null) {
+			map = DataMap.newMap();
+			this.dataMap = map;
+		}
+
+		return map;
+	}
+
+	/**
+	 * This method returns all dynamic values, from the slots and the embedded
+	 * {@link DataMap}, for serialization and copying. Slot values are exposed
+	 * through a view, so no values are copied.
+	 *
+	 * @return read-only view of the dynamic values
+	 */
+	@JsonAnyGetter
+	public Map<String, Object> getDynamicValues() {
+		if (this.slots == null) {
+			return (this.dataMap == null) ? Collections.emptyMap() : Collections.unmodifiableMap(this.dataMap);
+		}
+
+		return Collections.unmodifiableMap(new DynamicValues());
+	}
+
+	/**
+	 * This method stores the dynamic values read during deserialization
+	 *
+	 * @param aKey
+	 * @param aValue
+	 */
+	@JsonAnySetter
+	private void setDynamicValue(String aKey, Object aValue) {
+		add(aKey, aValue);
+	}
+
 	/**
 	 * This methods returns a serialized representation of this bean
 	 * 
@@ -154,7 +559,8 @@ public class DataBean implements Serializable {
 	 * @throws ApplicationException
 	 */
 	private String serialize(int aMode) throws ApplicationException {
-		if (this.ignoredFields.isEmpty()) {
+		Set<String> fields = this.ignoredFields;
+		if (fields.isEmpty()) {
 			switch (aMode) {
 			case 1:
 				return JacksonUtils.toXML(this);
@@ -165,15 +571,14 @@ public class DataBean implements Serializable {
 			}
 		}
 
-		String[] excludedFieldArray = this.ignoredFields.toArray(new String[this.ignoredFields.size()]);
-		switch (aMode) {
-		case 1:
-			return JacksonUtils.toXMLExcludeFields(this, excludedFieldArray);
-		case 2:
-			return JacksonUtils.toYAMLExcludeFields(this, excludedFieldArray);
-		default:
-			return JacksonUtils.toJSONExcludeFields(this, excludedFieldArray);
+		SerializationPlan plan = this.serializationPlan;
+		if ((plan == null) || (plan.ignoredFields != fields)) {
+			plan = SerializationPlan.of(getClass(), fields);
+			IGNORED_FIELDS.compareAndSet(this, fields, plan.ignoredFields);
+			this.serializationPlan = plan;
 		}
+
+		return plan.serialize(this, aMode);
 	}
 
 	/*
@@ -186,7 +591,13 @@ public class DataBean implements Serializable {
 	 * @see accelerate.commons.data.DataMap#add(java.lang.String, java.lang.Object)
 	 */
 	public DataBean add(String aKey, Object aValue) {
-		this.dataMap.add(aKey, aValue);
+		int slot = this.slotSchema.indexOf(aKey);
+		if (slot < 0) {
+			dataMap().add(aKey, aValue);
+		} else {
+			setSlot(slot, aValue);
+		}
+
 		return this;
 	}
 
@@ -196,7 +607,12 @@ public class DataBean implements Serializable {
 	 * @see accelerate.commons.data.DataMap#addAll(java.util.Map)
 	 */
 	public DataBean addAll(Map<? extends String, ? extends Object> aSourceMap) {
-		this.dataMap.addAll(aSourceMap);
+		if (this.slots == null) {
+			dataMap().addAll(aSourceMap);
+		} else {
+			aSourceMap.forEach(this::add);
+		}
+
 		return this;
 	}
 
@@ -206,7 +622,12 @@ public class DataBean implements Serializable {
 	 * @see accelerate.commons.data.DataMap#addAll(Object...)
 	 */
 	public DataBean addAll(Object... aArgs) {
-		this.dataMap.addAll(aArgs);
+		if (this.slots == null) {
+			dataMap().addAll(aArgs);
+		} else {
+			addAll(DataMap.newMap(aArgs));
+		}
+
 		return this;
 	}
 
@@ -217,7 +638,12 @@ public class DataBean implements Serializable {
 	 * @see java.util.HashMap#get(java.lang.Object)
 	 */
 	public <T> T get(String aKey) {
-		return this.dataMap.get(aKey);
+		int slot = this.slotSchema.indexOf(aKey);
+		if (slot < 0) {
+			return (this.dataMap == null) ? null : this.dataMap.get(aKey);
+		}
+
+		return getSlot(slot);
 	}
 
 	/**
@@ -227,7 +653,13 @@ public class DataBean implements Serializable {
 	 * @return
 	 */
 	public <T> T getOrDefault(String aKey, T aDefaultValue) {
-		return this.dataMap.getOrDefault(aKey, aDefaultValue);
+		int slot = this.slotSchema.indexOf(aKey);
+		if (slot < 0) {
+			return (this.dataMap == null) ? aDefaultValue : this.dataMap.getOrDefault(aKey, aDefaultValue);
+		}
+
+		T value = getSlot(slot);
+		return (value == null) ? aDefaultValue : value;
 	}
 
 	/**
@@ -236,7 +668,7 @@ public class DataBean implements Serializable {
 	 * @see java.util.HashMap#get(java.lang.Object)
 	 */
 	public String getString(String aKey) {
-		Object value = this.dataMap.getOrDefault(aKey, CommonConstants.EMPTY_STRING);
+		Object value = getOrDefault(aKey, CommonConstants.EMPTY_STRING);
 		return value.toString();
 	}
 
@@ -248,7 +680,8 @@ public class DataBean implements Serializable {
 	 * @see java.util.HashMap#get(java.lang.Object)
 	 */
 	public <T extends Number> T getNumber(String aKey, Class<T> aClass) {
-		return this.dataMap.getNumber(aKey, aClass);
+		Object value = get(aKey);
+		return (value == null) ? null : aClass.cast(value);
 	}
 
 	/**
@@ -258,7 +691,7 @@ public class DataBean implements Serializable {
 	 * @see java.util.HashMap#get(java.lang.Object)
 	 */
 	public boolean checkValue(String aKey, Object aValue) {
-		return this.dataMap.checkValue(aKey, aValue);
+		return CommonUtils.compare(get(aKey), aValue);
 	}
 
 	/**
@@ -267,6 +700,215 @@ public class DataBean implements Serializable {
 	 * @return
 	 */
 	public <T> T remove(String aKey) {
-		return this.dataMap.remove(aKey);
+		int slot = this.slotSchema.indexOf(aKey);
+		if (slot < 0) {
+			return (this.dataMap == null) ? null : this.dataMap.remove(aKey);
+		}
+
+		T value = getSlot(slot);
+		setSlot(slot, null);
+
+		return value;
+	}
+
+	/**
+	 * Read-only view of the values of the embedded {@link DataMap} followed by the
+	 * non-null slot values
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private final class DynamicValues extends AbstractMap<String, Object> {
+		@Override
+		public Object get(Object aKey) {
+			return DataBean.this.get((String) aKey);
+		}
+
+		@Override
+		public boolean containsKey(Object aKey) {
+			int slot = DataBean.this.slotSchema.indexOf((String) aKey);
+			if (slot < 0) {
+				return (DataBean.this.dataMap != null) && DataBean.this.dataMap.containsKey(aKey);
+			}
+
+			return DataBean.this.slots[slot] != null;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					Object[] slotValues = DataBean.this.slots;
+					String[] slotKeys = DataBean.this.slotSchema.keys;
+					Map<String, Object> values = (DataBean.this.dataMap == null) ? Collections.emptyMap()
+							: DataBean.this.dataMap;
+					return Stream.concat(values.entrySet().stream(),
+							IntStream.range(0, slotValues.length).filter(aSlot -> slotValues[aSlot] != null)
+									.mapToObj(aSlot -> new SimpleImmutableEntry<>(slotKeys[aSlot], slotValues[aSlot])))
+							.iterator();
+				}
+
+				@Override
+				public int size() {
+					int size = (DataBean.this.dataMap == null) ? 0 : DataBean.this.dataMap.size();
+					for (Object value : DataBean.this.slots) {
+						if (value != null) {
+							size++;
+						}
+					}
+
+					return size;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Slot layout of a bean class, as declared by {@link DataBeanSchema}
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class SlotSchema {
+		/**
+		 * declared keys, in slot order
+		 */
+		final String[] keys;
+
+		/**
+		 * {@link Map} of declared key to slot
+		 */
+		private final Map<String, Integer> slotIndex;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aSchema declared schema, or null
+		 */
+		SlotSchema(DataBeanSchema aSchema) {
+			this.keys = (aSchema == null) ? new String[0] : aSchema.value();
+			this.slotIndex = new HashMap<>();
+			for (int idx = 0; idx < this.keys.length; idx++) {
+				if (this.slotIndex.putIfAbsent(this.keys[idx], idx) != null) {
+					throw new ApplicationException("Duplicate key '{}' in DataBeanSchema", this.keys[idx]);
+				}
+			}
+		}
+
+		/**
+		 * @param aKey
+		 * @return slot of the given key, or -1 if it is not declared
+		 */
+		int indexOf(String aKey) {
+			if (this.keys.length == 0) {
+				return -1;
+			}
+
+			Integer slot = this.slotIndex.get(aKey);
+			return (slot == null) ? -1 : slot;
+		}
+
+		/**
+		 * @return new slot array, or null if no keys are declared
+		 */
+		Object[] newSlots() {
+			return (this.keys.length == 0) ? null : new Object[this.keys.length];
+		}
+	}
+
+	/**
+	 * Precompiled serialization setup for a bean class and a set of ignored
+	 * fields. The writers are built on first use and shared by all beans with the
+	 * same class and ignored fields.
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	static final class SerializationPlan {
+		/**
+		 * bean class
+		 */
+		private final Class<?> beanClass;
+
+		/**
+		 * immutable {@link Set} of fields to exclude, shared by all beans using this
+		 * plan
+		 */
+		final Set<String> ignoredFields;
+
+		/**
+		 * names of fields to exclude
+		 */
+		private final String[] excludedFields;
+
+		/**
+		 * JSON, XML and YAML writers, built on first use
+		 */
+		private final ObjectWriter[] writers = new ObjectWriter[3];
+
+		/**
+		 * default constructor
+		 *
+		 * @param aBeanClass
+		 * @param aExcludedFields
+		 */
+		private SerializationPlan(Class<?> aBeanClass, Set<String> aExcludedFields) {
+			this.beanClass = aBeanClass;
+			this.ignoredFields = aExcludedFields;
+			this.excludedFields = aExcludedFields.toArray(new String[aExcludedFields.size()]);
+		}
+
+		/**
+		 * This method returns the cached plan for the given class and ignored fields,
+		 * building it on the first call
+		 *
+		 * @param aBeanClass
+		 * @param aExcludedFields
+		 * @return
+		 */
+		static SerializationPlan of(Class<?> aBeanClass, Set<String> aExcludedFields) {
+			Entry<Class<?>, Set<String>> key = Map.entry(aBeanClass, aExcludedFields);
+			SerializationPlan plan = PLAN_CACHE.get(key);
+			if (plan != null) {
+				return plan;
+			}
+
+			Set<String> fields = Collections.unmodifiableSet(new HashSet<>(aExcludedFields));
+			return PLAN_CACHE.putIfAbsent(Map.entry(aBeanClass, fields), new SerializationPlan(aBeanClass, fields));
+		}
+
+		/**
+		 * @param aBean
+		 * @param aMode
+		 *              <dd>0 or any other input: JSON</dd>
+		 *              <dd>1: XML</dd>
+		 *              <dd>2: YAML</dd>
+		 * @return
+		 * @throws ApplicationException
+		 */
+		String serialize(DataBean aBean, int aMode) throws ApplicationException {
+			int index = ((aMode == 1) || (aMode == 2)) ? aMode : 0;
+			ObjectWriter writer = this.writers[index];
+			if (writer == null) {
+				switch (index) {
+				case 1:
+					writer = JacksonUtils.xmlWriterExcludeFields(this.beanClass, this.excludedFields);
+					break;
+				case 2:
+					writer = JacksonUtils.yamlWriterExcludeFields(this.beanClass, this.excludedFields);
+					break;
+				default:
+					writer = JacksonUtils.jsonWriterExcludeFields(this.beanClass, this.excludedFields);
+				}
+
+				this.writers[index] = writer;
+			}
+
+			return JacksonUtils.write(writer, aBean);
+		}
 	}
-}
\ No newline at end of file
+}
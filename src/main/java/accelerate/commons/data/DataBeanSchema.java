@@ -0,0 +1,30 @@
+package accelerate.commons.data;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare the dynamic keys expected by a {@link DataBean}
+ * subclass. Values of declared keys are stored in a fixed slot array, indexed by
+ * the position of the key in {@link #value()}, instead of the embedded
+ * {@link DataMap}. Undeclared keys are still stored in the {@link DataMap}.
+ * Subclasses resolve slots with {@link DataBean#slotOf(Class, String)}.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DataBeanSchema {
+	/**
+	 * @return declared dynamic keys, in slot order
+	 */
+	String[] value();
+}
@@ -1,12 +1,20 @@
 package accelerate.commons.data;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import accelerate.commons.constant.CommonConstants;
 import accelerate.commons.exception.ApplicationException;
 import accelerate.commons.util.CommonUtils;
 import accelerate.commons.util.JacksonUtils;
+import accelerate.commons.util.LRUCache;
 
 /**
  * {@link HashMap} extension with overloaded methods for easy loading, method
@@ -22,6 +30,30 @@ public class DataMap extends HashMap<String, Object> {
 	 */
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Maximum number of compiled paths held in {@link #PATH_CACHE}
+	 */
+	private static final int PATH_CACHE_LIMIT = 4096;
+
+	/**
+	 * Cache of compiled paths used by {@link #getPath(String)} and
+	 * {@link #setPath(String, Object)}. Each segment is either a {@link String}
+	 * key or an {@link Integer} list index.
+	 */
+	private static final LRUCache<String, Object[]> PATH_CACHE = new LRUCache<>(PATH_CACHE_LIMIT);
+
+	/**
+	 * {@link Set} of keys modified or removed since the last {@link #checkpoint()}.
+	 * Change tracking is disabled while this is null.
+	 */
+	private transient Set<String> changedKeys = null;
+
+	/**
+	 * Key structure of the nested maps at the last {@link #checkpoint()}, used to
+	 * add removed nested keys to the delta of a replaced map
+	 */
+	private transient Map<String, Object> checkpointKeys = null;
+
 	/**
 	 * static method to build new instance and allow method chaining
 	 * 
@@ -43,7 +75,7 @@ public class DataMap extends HashMap<String, Object> {
 	 * @return
 	 */
 	public DataMap add(String aKey, Object aValue) {
-		super.put(aKey, aValue);
+		put(aKey, aValue);
 		return this;
 	}
 
@@ -54,7 +86,7 @@ public class DataMap extends HashMap<String, Object> {
 	 * @return
 	 */
 	public DataMap addAll(Map<? extends String, ? extends Object> aSourceMap) {
-		super.putAll(aSourceMap);
+		putAll(aSourceMap);
 		return this;
 	}
 
@@ -88,7 +120,7 @@ public class DataMap extends HashMap<String, Object> {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T get(String aKey) {
-		return (T) super.get(aKey);
+		return (T) get((Object) aKey);
 	}
 
 	/**
@@ -99,7 +131,7 @@ public class DataMap extends HashMap<String, Object> {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T getOrDefault(String aKey, T aDefaultValue) {
-		return (T) super.getOrDefault(aKey, aDefaultValue);
+		return (T) getOrDefault((Object) aKey, (Object) aDefaultValue);
 	}
 
 	/**
@@ -108,7 +140,7 @@ public class DataMap extends HashMap<String, Object> {
 	 * @see java.util.HashMap#get(java.lang.Object)
 	 */
 	public String getString(String aKey) {
-		return super.getOrDefault(aKey, CommonConstants.EMPTY_STRING).toString();
+		return getOrDefault((Object) aKey, (Object) CommonConstants.EMPTY_STRING).toString();
 	}
 
 	/**
@@ -144,7 +176,485 @@ public class DataMap extends HashMap<String, Object> {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T remove(String aKey) {
-		return (T) super.remove(aKey);
+		return (T) remove((Object) aKey);
+	}
+
+	/**
+	 * This method returns the value at the given path, walking through nested
+	 * maps and lists. Paths are of the form <code>a.b[2].c</code>. In case the map
+	 * contains the path itself as a key (e.g. flattened YAML configuration) that
+	 * value is returned.
+	 * 
+	 * @param <T>
+	 * @param aPath
+	 * @return value at the path, or null if any segment is missing
+	 * @throws ApplicationException on invalid path syntax
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getPath(String aPath) throws ApplicationException {
+		Object value = get((Object) aPath);
+		if ((value != null) || containsKey(aPath)) {
+			return (T) value;
+		}
+
+		value = this;
+		for (Object segment : compilePath(aPath)) {
+			if (segment instanceof Integer) {
+				int index = (Integer) segment;
+				if (!(value instanceof List) || (index >= ((List<?>) value).size())) {
+					return null;
+				}
+
+				value = ((List<?>) value).get(index);
+			} else {
+				if (!(value instanceof Map)) {
+					return null;
+				}
+
+				value = ((Map<?, ?>) value).get(segment);
+			}
+		}
+
+		return (T) value;
+	}
+
+	/**
+	 * This method sets the value at the given path, creating intermediate
+	 * {@link DataMap} and {@link List} instances as required. Lists are padded
+	 * with nulls up to the given index.
+	 * 
+	 * @param aPath  path of the form <code>a.b[2].c</code>
+	 * @param aValue
+	 * @return
+	 * @throws ApplicationException on invalid path syntax or if an intermediate
+	 *                              value is neither a map nor a list
+	 */
+	@SuppressWarnings("unchecked")
+	public DataMap setPath(String aPath, Object aValue) throws ApplicationException {
+		Object[] segments = compilePath(aPath);
+		Object container = this;
+		for (int idx = 0; idx < segments.length; idx++) {
+			Object segment = segments[idx];
+			boolean last = (idx == (segments.length - 1));
+			Object child = last ? aValue : ((segments[idx + 1] instanceof Integer) ? new ArrayList<>() : new DataMap());
+
+			if (segment instanceof Integer) {
+				if (!(container instanceof List)) {
+					throw new ApplicationException("Path '{}' does not resolve to a list at index {}", aPath, segment);
+				}
+
+				List<Object> list = (List<Object>) container;
+				int index = (Integer) segment;
+				while (list.size() <= index) {
+					list.add(null);
+				}
+
+				if (last || (list.get(index) == null)) {
+					list.set(index, child);
+				}
+
+				container = list.get(index);
+			} else {
+				if (!(container instanceof Map)) {
+					throw new ApplicationException("Path '{}' does not resolve to a map at key {}", aPath, segment);
+				}
+
+				Map<String, Object> map = (Map<String, Object>) container;
+				if (last || (map.get(segment) == null)) {
+					map.put((String) segment, child);
+				}
+
+				container = map.get(segment);
+			}
+		}
+
+		// nested values may have changed in place
+		markChanged(segments[0]);
+
+		return this;
+	}
+
+	/**
+	 * This method returns the compiled segments for the given path from
+	 * {@link #PATH_CACHE}, parsing it on the first call
+	 * 
+	 * @param aPath
+	 * @return
+	 * @throws ApplicationException on invalid path syntax
+	 */
+	private static Object[] compilePath(String aPath) throws ApplicationException {
+		if (CommonUtils.isEmpty(aPath)) {
+			throw new ApplicationException("Parameter aPath is required");
+		}
+
+		return PATH_CACHE.computeIfAbsent(aPath, DataMap::parsePath);
+	}
+
+	/**
+	 * @param aPath
+	 * @return
+	 * @throws ApplicationException on invalid path syntax
+	 */
+	private static Object[] parsePath(String aPath) throws ApplicationException {
+		List<Object> segments = new ArrayList<>();
+		int length = aPath.length();
+		int start = 0;
+		int idx = 0;
+		while (idx <= length) {
+			char ch = (idx == length) ? '.' : aPath.charAt(idx);
+			if ((ch != '.') && (ch != '[')) {
+				idx++;
+				continue;
+			}
+
+			if (idx > start) {
+				segments.add(aPath.substring(start, idx));
+			} else if ((ch == '.') && ((idx == 0) || (aPath.charAt(idx - 1) != ']'))) {
+				throw new ApplicationException("Invalid path '{}': empty key at position {}", aPath, idx);
+			}
+
+			if (ch == '[') {
+				int close = aPath.indexOf(']', idx);
+				if (close == -1) {
+					throw new ApplicationException("Invalid path '{}': unclosed index at position {}", aPath, idx);
+				}
+
+				int index = -1;
+				try {
+					index = Integer.parseInt(aPath.substring(idx + 1, close));
+				} catch (NumberFormatException error) {
+					throw new ApplicationException(error, "Invalid path '{}': bad index at position {}", aPath, idx);
+				}
+
+				if (index < 0) {
+					throw new ApplicationException("Invalid path '{}': negative index at position {}", aPath, idx);
+				}
+
+				segments.add(index);
+
+				idx = close + 1;
+				if ((idx < length) && (aPath.charAt(idx) != '.') && (aPath.charAt(idx) != '[')) {
+					throw new ApplicationException("Invalid path '{}': unexpected character at position {}", aPath,
+							idx);
+				}
+
+				if ((idx < length) && (aPath.charAt(idx) == '.')) {
+					idx++;
+				}
+			} else {
+				idx++;
+			}
+
+			start = idx;
+		}
+
+		return segments.toArray();
+	}
+
+	/**
+	 * This method marks the current state of the map as the baseline for change
+	 * tracking. From here on all modified and removed keys are recorded until the
+	 * next checkpoint.
+	 * 
+	 * @return
+	 */
+	public DataMap checkpoint() {
+		if (this.changedKeys == null) {
+			this.changedKeys = new HashSet<>();
+		} else {
+			this.changedKeys.clear();
+		}
+
+		this.checkpointKeys = snapshotKeys(this, true);
+		return this;
+	}
+
+	/**
+	 * @param aMap
+	 * @param aMapsOnly true, to leave out the keys that do not hold a nested map
+	 * @return key structure of the given map, with nested maps mapped to their
+	 *         own key structure and other keys mapped to {@link Boolean#TRUE}
+	 */
+	private static Map<String, Object> snapshotKeys(Map<?, ?> aMap, boolean aMapsOnly) {
+		Map<String, Object> snapshot = new HashMap<>();
+		aMap.forEach((aKey, aValue) -> {
+			if (aValue instanceof Map) {
+				snapshot.put((String) aKey, snapshotKeys((Map<?, ?>) aValue, false));
+			} else if (!aMapsOnly) {
+				snapshot.put((String) aKey, Boolean.TRUE);
+			}
+		});
+
+		return snapshot;
+	}
+
+	/**
+	 * @return true, if changes are being recorded
+	 */
+	public boolean isTracking() {
+		return this.changedKeys != null;
+	}
+
+	/**
+	 * This method returns the keys that have been modified or removed since the
+	 * last {@link #checkpoint()}. Removed keys are the ones no longer present in
+	 * the map.
+	 * 
+	 * @return {@link Set} of changed keys, or all keys if tracking has not been
+	 *         started
+	 */
+	public Set<String> getChangedKeys() {
+		if (this.changedKeys == null) {
+			return Collections.unmodifiableSet(keySet());
+		}
+
+		return Collections.unmodifiableSet(this.changedKeys);
+	}
+
+	/**
+	 * This method returns the changes since the last {@link #checkpoint()} in JSON
+	 * merge patch (RFC 7386) form. Removed keys are mapped to null. If a nested
+	 * map has been replaced by another map, the keys it no longer contains are
+	 * mapped to null as well, so that merging the delta removes them.
+	 * 
+	 * @return {@link DataMap} containing only the changed keys
+	 */
+	public DataMap getDelta() {
+		if (this.changedKeys == null) {
+			return new DataMap().addAll(this);
+		}
+
+		DataMap delta = new DataMap();
+		this.changedKeys.forEach(aKey -> {
+			Object value = get((Object) aKey);
+			Object oldKeys = this.checkpointKeys.get(aKey);
+			delta.put(aKey, ((value instanceof Map) && (oldKeys instanceof Map))
+					? diffPatch((Map<?, ?>) value, (Map<?, ?>) oldKeys)
+					: value);
+		});
+
+		return delta;
+	}
+
+	/**
+	 * @param aValue   current nested map
+	 * @param aOldKeys key structure of the nested map at the last checkpoint
+	 * @return merge patch that turns the old nested map into the current one
+	 */
+	private static DataMap diffPatch(Map<?, ?> aValue, Map<?, ?> aOldKeys) {
+		DataMap patch = new DataMap();
+		aValue.forEach((aKey, aNestedValue) -> {
+			Object oldKeys = aOldKeys.get(aKey);
+			patch.put((String) aKey, ((aNestedValue instanceof Map) && (oldKeys instanceof Map))
+					? diffPatch((Map<?, ?>) aNestedValue, (Map<?, ?>) oldKeys)
+					: aNestedValue);
+		});
+
+		aOldKeys.keySet().forEach(aKey -> {
+			if (!aValue.containsKey(aKey)) {
+				patch.put((String) aKey, null);
+			}
+		});
+
+		return patch;
+	}
+
+	/**
+	 * This methods returns a JSON merge patch (RFC 7386) containing only the
+	 * changes since the last {@link #checkpoint()}. In case tracking has not been
+	 * started the whole map is returned.
+	 * <p>
+	 * NOTE: Changes made inside nested values, or through the views returned by
+	 * {@link #keySet()}, {@link #values()} and {@link #entrySet()} are not
+	 * tracked. A nested map has to be replaced for its changes to be part of the
+	 * delta, in which case the keys removed from it are included as nulls.
+	 *
+	 * @return JSON merge patch
+	 * @throws ApplicationException
+	 */
+	public String toJSONDelta() throws ApplicationException {
+		return JacksonUtils.toJSONMergePatch(getDelta());
+	}
+
+	/**
+	 * This method applies the given JSON merge patch (RFC 7386) to this map. Keys
+	 * with null values are removed and nested objects are merged recursively.
+	 * 
+	 * @param aDelta JSON merge patch, as generated by {@link #toJSONDelta()}
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public DataMap applyDelta(String aDelta) throws ApplicationException {
+		DataMap delta = JacksonUtils.fromJSON(aDelta, DataMap.class);
+		if (delta != null) {
+			mergePatch(this, delta);
+		}
+
+		return this;
+	}
+
+	/**
+	 * @param aTarget
+	 * @param aPatch
+	 */
+	@SuppressWarnings("unchecked")
+	static void mergePatch(Map<String, Object> aTarget, Map<String, Object> aPatch) {
+		aPatch.forEach((aKey, aValue) -> {
+			if (aValue == null) {
+				aTarget.remove(aKey);
+				return;
+			}
+
+			if (!(aValue instanceof Map)) {
+				aTarget.put(aKey, aValue);
+				return;
+			}
+
+			Object targetValue = aTarget.get(aKey);
+			Map<String, Object> nestedTarget = (targetValue instanceof Map) ? (Map<String, Object>) targetValue
+					: new DataMap();
+			mergePatch(nestedTarget, (Map<String, Object>) aValue);
+			aTarget.put(aKey, nestedTarget);
+		});
+	}
+
+	/**
+	 * @param aKey
+	 */
+	private void markChanged(Object aKey) {
+		if (this.changedKeys != null) {
+			this.changedKeys.add((String) aKey);
+		}
+	}
+
+	/*
+	 * Tracked Overrides
+	 */
+	@Override
+	public Object put(String aKey, Object aValue) {
+		markChanged(aKey);
+		return super.put(aKey, aValue);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends Object> aSourceMap) {
+		if (this.changedKeys != null) {
+			this.changedKeys.addAll(aSourceMap.keySet());
+		}
+
+		super.putAll(aSourceMap);
+	}
+
+	@Override
+	public Object putIfAbsent(String aKey, Object aValue) {
+		markChanged(aKey);
+		return super.putIfAbsent(aKey, aValue);
+	}
+
+	@Override
+	public Object remove(Object aKey) {
+		if (containsKey(aKey)) {
+			markChanged(aKey);
+		}
+
+		return super.remove(aKey);
+	}
+
+	@Override
+	public boolean remove(Object aKey, Object aValue) {
+		boolean removed = super.remove(aKey, aValue);
+		if (removed) {
+			markChanged(aKey);
+		}
+
+		return removed;
+	}
+
+	@Override
+	public Object replace(String aKey, Object aValue) {
+		markChanged(aKey);
+		return super.replace(aKey, aValue);
+	}
+
+	@Override
+	public boolean replace(String aKey, Object aOldValue, Object aNewValue) {
+		boolean replaced = super.replace(aKey, aOldValue, aNewValue);
+		if (replaced) {
+			markChanged(aKey);
+		}
+
+		return replaced;
+	}
+
+	@Override
+	public Object computeIfAbsent(String aKey, Function<? super String, ? extends Object> aMappingFunction) {
+		Object currentValue = get(aKey);
+		if (currentValue != null) {
+			return currentValue;
+		}
+
+		Object value = super.computeIfAbsent(aKey, aMappingFunction);
+		if (value != null) {
+			markChanged(aKey);
+		}
+
+		return value;
+	}
+
+	@Override
+	public Object computeIfPresent(String aKey,
+			BiFunction<? super String, ? super Object, ? extends Object> aRemappingFunction) {
+		if (get(aKey) != null) {
+			markChanged(aKey);
+		}
+
+		return super.computeIfPresent(aKey, aRemappingFunction);
+	}
+
+	@Override
+	public Object compute(String aKey, BiFunction<? super String, ? super Object, ? extends Object> aRemappingFunction) {
+		boolean present = containsKey(aKey);
+		Object value = super.compute(aKey, aRemappingFunction);
+		if (present || (value != null)) {
+			markChanged(aKey);
+		}
+
+		return value;
+	}
+
+	@Override
+	public Object merge(String aKey, Object aValue,
+			BiFunction<? super Object, ? super Object, ? extends Object> aRemappingFunction) {
+		markChanged(aKey);
+		return super.merge(aKey, aValue, aRemappingFunction);
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super String, ? super Object, ? extends Object> aFunction) {
+		if (this.changedKeys != null) {
+			this.changedKeys.addAll(keySet());
+		}
+
+		super.replaceAll(aFunction);
+	}
+
+	@Override
+	public void clear() {
+		if (this.changedKeys != null) {
+			this.changedKeys.addAll(keySet());
+		}
+
+		super.clear();
+	}
+
+	@Override
+	public Object clone() {
+		DataMap clone = (DataMap) super.clone();
+		if (this.changedKeys != null) {
+			clone.changedKeys = new HashSet<>(this.changedKeys);
+		}
+
+		return clone;
 	}
 
 	/**
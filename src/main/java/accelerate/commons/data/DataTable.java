@@ -0,0 +1,1103 @@
+package accelerate.commons.data;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import accelerate.commons.constant.CommonConstants;
+import accelerate.commons.exception.ApplicationException;
+import accelerate.commons.util.CommonUtils;
+import accelerate.commons.util.JacksonUtils;
+
+/**
+ * Columnar store for large collections of {@link DataMap} sharing the same
+ * keys. Each key is held in a single typed column, with {@link Integer},
+ * {@link Long} and {@link Double} values stored in primitive arrays. A column
+ * mixing these types is widened in place to the widest of them, and remembers
+ * the type of each value, so values are still returned as they were added.
+ * {@link Long} values are only widened to {@link Double} while they can be
+ * represented exactly. Columns holding any other type, or a mix of numbers and
+ * other types, fall back to an {@link Object} array.
+ * <p>
+ * NOTE: This class is not thread safe.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public class DataTable implements Iterable<DataTable.Row>, Serializable {
+	/**
+	 * serialVersionUID
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Default number of rows allocated for a new table
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * {@link Map} of column name to {@link Column}, in the order of addition
+	 */
+	private final Map<String, Column> columns = new LinkedHashMap<>();
+
+	/**
+	 * Number of rows in the table
+	 */
+	private int size = 0;
+
+	/**
+	 * Number of rows allocated in each column
+	 */
+	private int capacity = DEFAULT_CAPACITY;
+
+	/**
+	 * default constructor
+	 *
+	 * @param aColumns names of the columns to declare upfront. Columns are also
+	 *                 added on demand by {@link #addRow(Map)}.
+	 */
+	public DataTable(String... aColumns) {
+		if (!CommonUtils.isEmpty(aColumns)) {
+			for (String column : aColumns) {
+				getOrAddColumn(column);
+			}
+		}
+	}
+
+	/*
+	 * Static Methods
+	 */
+	/**
+	 * This method builds a new table from the given list of maps
+	 *
+	 * @param aRows
+	 * @return
+	 */
+	public static DataTable fromList(List<? extends Map<String, ?>> aRows) {
+		DataTable table = new DataTable();
+		if (CommonUtils.isEmpty(aRows)) {
+			return table;
+		}
+
+		table.ensureCapacity(aRows.size());
+		aRows.forEach(table::addRow);
+
+		return table;
+	}
+
+	/**
+	 * This method builds a new table from the given JSON array of objects
+	 *
+	 * @param aJSONString
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static DataTable fromJSON(String aJSONString) throws ApplicationException {
+		DataMap[] rows = JacksonUtils.fromJSON(aJSONString, DataMap[].class);
+		return (rows == null) ? new DataTable() : fromList(Arrays.asList(rows));
+	}
+
+	/*
+	 * Public API
+	 */
+	/**
+	 * This method appends a row to the table. Keys not yet present are added as
+	 * new columns, and columns missing from the row are set to null.
+	 *
+	 * @param aRow
+	 * @return
+	 */
+	public DataTable addRow(Map<String, ?> aRow) {
+		ensureCapacity(this.size + 1);
+
+		int row = this.size++;
+		if (aRow != null) {
+			aRow.forEach((aKey, aValue) -> getOrAddColumn(aKey).set(row, aValue, this.size));
+		}
+
+		for (Column column : this.columns.values()) {
+			if ((aRow == null) || !aRow.containsKey(column.name)) {
+				column.nulls.set(row);
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Shortcut method to allow multiple key/value as VarArgs
+	 *
+	 * @param aArgs
+	 * @return
+	 * @see DataMap#addAll(Object...)
+	 */
+	public DataTable addRow(Object... aArgs) {
+		return addRow(DataMap.newMap(aArgs));
+	}
+
+	/**
+	 * @return number of rows
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return names of the columns, in the order of addition
+	 */
+	public List<String> getColumns() {
+		return Collections.unmodifiableList(new ArrayList<>(this.columns.keySet()));
+	}
+
+	/**
+	 * @param <T>
+	 * @param aRow
+	 * @param aColumn
+	 * @return value at the given position, or null if the column does not exist
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getValue(int aRow, String aColumn) {
+		checkRow(aRow);
+
+		Column column = this.columns.get(aColumn);
+		return (column == null) ? null : (T) column.get(aRow);
+	}
+
+	/**
+	 * @param aRow
+	 * @param aColumn
+	 * @param aValue
+	 * @return
+	 */
+	public DataTable setValue(int aRow, String aColumn, Object aValue) {
+		checkRow(aRow);
+		getOrAddColumn(aColumn).set(aRow, aValue, this.size);
+
+		return this;
+	}
+
+	/**
+	 * This method returns a live view of the given row
+	 *
+	 * @param aRow
+	 * @return
+	 */
+	public Row getRow(int aRow) {
+		checkRow(aRow);
+		return new Row(aRow);
+	}
+
+	@Override
+	public Iterator<Row> iterator() {
+		return new Iterator<Row>() {
+			private int row = 0;
+
+			@Override
+			public boolean hasNext() {
+				return this.row < DataTable.this.size;
+			}
+
+			@Override
+			public Row next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				return new Row(this.row++);
+			}
+		};
+	}
+
+	/**
+	 * @return {@link Stream} of row views
+	 */
+	public Stream<Row> stream() {
+		return IntStream.range(0, this.size).mapToObj(Row::new);
+	}
+
+	/**
+	 * This method returns a new table with the rows for which the predicate
+	 * matches the value of the given numeric column. Values are converted with
+	 * {@link Number#longValue()}, which truncates decimals. Null values never
+	 * match.
+	 *
+	 * @param aColumn
+	 * @param aPredicate
+	 * @return
+	 * @throws ApplicationException if the column is not numeric
+	 */
+	public DataTable filterLong(String aColumn, LongPredicate aPredicate) throws ApplicationException {
+		Column column = getColumn(aColumn);
+		int[] selection = new int[this.size];
+		int count = 0;
+
+		switch (column.type) {
+		case Column.INT:
+			for (int row = 0; row < this.size; row++) {
+				if (aPredicate.test(column.ints[row])) {
+					selection[count++] = row;
+				}
+			}
+			break;
+		case Column.LONG:
+			for (int row = 0; row < this.size; row++) {
+				if (aPredicate.test(column.longs[row])) {
+					selection[count++] = row;
+				}
+			}
+			break;
+		case Column.EMPTY:
+			break;
+		default:
+			checkNumeric(column);
+			return select(row -> !column.nulls.get(row) && aPredicate.test(column.longAt(row)));
+		}
+
+		return select(removeNulls(column, selection, count));
+	}
+
+	/**
+	 * This method returns a new table with the rows for which the predicate
+	 * matches the value of the given numeric column. Null values never match.
+	 *
+	 * @param aColumn
+	 * @param aPredicate
+	 * @return
+	 * @throws ApplicationException if the column is not numeric
+	 */
+	public DataTable filterDouble(String aColumn, DoublePredicate aPredicate) throws ApplicationException {
+		Column column = getColumn(aColumn);
+		if (column.type != Column.DOUBLE) {
+			checkNumeric(column);
+			return select(row -> !column.nulls.get(row) && aPredicate.test(column.doubleAt(row)));
+		}
+
+		int[] selection = new int[this.size];
+		int count = 0;
+		for (int row = 0; row < this.size; row++) {
+			if (aPredicate.test(column.doubles[row])) {
+				selection[count++] = row;
+			}
+		}
+
+		return select(removeNulls(column, selection, count));
+	}
+
+	/**
+	 * This method returns a new table with the rows for which the predicate
+	 * matches the value of the given column
+	 *
+	 * @param aColumn
+	 * @param aPredicate
+	 * @return
+	 */
+	public DataTable filter(String aColumn, Predicate<Object> aPredicate) {
+		Column column = getColumn(aColumn);
+		return select(row -> aPredicate.test(column.get(row)));
+	}
+
+	/**
+	 * This method returns a new table with the rows for which the predicate
+	 * matches
+	 *
+	 * @param aPredicate
+	 * @return
+	 */
+	public DataTable filter(Predicate<Row> aPredicate) {
+		return select(row -> aPredicate.test(new Row(row)));
+	}
+
+	/**
+	 * This method returns a new table with only the given columns
+	 *
+	 * @param aColumns
+	 * @return
+	 */
+	public DataTable project(String... aColumns) {
+		DataTable table = new DataTable();
+		table.size = this.size;
+		table.capacity = Math.max(this.size, DEFAULT_CAPACITY);
+
+		for (String name : aColumns) {
+			table.columns.put(name, getColumn(name).copy(null, this.size, table.capacity));
+		}
+
+		return table;
+	}
+
+	/**
+	 * @param aColumn
+	 * @return number of non-null values in the column
+	 */
+	public int count(String aColumn) {
+		return this.size - getColumn(aColumn).nulls.cardinality();
+	}
+
+	/**
+	 * @param aColumn
+	 * @return sum of the non-null values in the column. Integral columns are
+	 *         summed exactly, unless the sum overflows a long.
+	 * @throws ApplicationException if the column is not numeric
+	 */
+	public double sum(String aColumn) throws ApplicationException {
+		Column column = getColumn(aColumn);
+		boolean dense = column.nulls.isEmpty();
+		double sum = 0;
+
+		switch (column.type) {
+		case Column.INT:
+			// at most Integer.MAX_VALUE rows of int values, so it cannot overflow
+			long intSum = 0;
+			for (int row = column.nulls.nextClearBit(0); row < this.size; row = column.nulls
+					.nextClearBit(row + 1)) {
+				intSum += column.ints[row];
+			}
+
+			return intSum;
+		case Column.LONG:
+			try {
+				long longSum = 0;
+				if (dense) {
+					for (int row = 0; row < this.size; row++) {
+						longSum = Math.addExact(longSum, column.longs[row]);
+					}
+				} else {
+					for (int row = column.nulls.nextClearBit(0); row < this.size; row = column.nulls
+							.nextClearBit(row + 1)) {
+						longSum = Math.addExact(longSum, column.longs[row]);
+					}
+				}
+
+				return longSum;
+			} catch (ArithmeticException error) {
+				// overflow, sum as double below
+			}
+			break;
+		case Column.DOUBLE:
+			if (dense) {
+				for (int row = 0; row < this.size; row++) {
+					sum += column.doubles[row];
+				}
+
+				return sum;
+			}
+			break;
+		default:
+			checkNumeric(column);
+		}
+
+		for (int row = column.nulls.nextClearBit(0); row < this.size; row = column.nulls.nextClearBit(row + 1)) {
+			sum += column.doubleAt(row);
+		}
+
+		return sum;
+	}
+
+	/**
+	 * @param aColumn
+	 * @return average of the non-null values in the column, or
+	 *         {@link Double#NaN} if there are none
+	 * @throws ApplicationException if the column is not numeric
+	 */
+	public double average(String aColumn) throws ApplicationException {
+		int count = count(aColumn);
+		return (count == 0) ? Double.NaN : (sum(aColumn) / count);
+	}
+
+	/**
+	 * @param aColumn
+	 * @return minimum of the non-null values in the column, or
+	 *         {@link Double#NaN} if there are none
+	 * @throws ApplicationException if the column is not numeric
+	 */
+	public double min(String aColumn) throws ApplicationException {
+		return extreme(aColumn, true);
+	}
+
+	/**
+	 * @param aColumn
+	 * @return maximum of the non-null values in the column, or
+	 *         {@link Double#NaN} if there are none
+	 * @throws ApplicationException if the column is not numeric
+	 */
+	public double max(String aColumn) throws ApplicationException {
+		return extreme(aColumn, false);
+	}
+
+	/**
+	 * This method materializes the table as a list of {@link DataMap}. Null
+	 * values are left out of the maps.
+	 *
+	 * @return
+	 */
+	public List<DataMap> toList() {
+		List<DataMap> list = new ArrayList<>(this.size);
+		for (int row = 0; row < this.size; row++) {
+			list.add(new Row(row).toDataMap());
+		}
+
+		return list;
+	}
+
+	/**
+	 * This methods returns a JSON array representation of this table
+	 *
+	 * @return JSON Representation
+	 * @throws ApplicationException
+	 */
+	public String toJSON() throws ApplicationException {
+		return JacksonUtils.toJSON(toList());
+	}
+
+	/*
+	 * Private Methods
+	 */
+	/**
+	 * @param aColumn
+	 * @return
+	 * @throws ApplicationException if the column does not exist
+	 */
+	private Column getColumn(String aColumn) throws ApplicationException {
+		Column column = this.columns.get(aColumn);
+		if (column == null) {
+			throw new ApplicationException("Column '{}' not found", aColumn);
+		}
+
+		return column;
+	}
+
+	/**
+	 * @param aColumn
+	 * @return
+	 */
+	private Column getOrAddColumn(String aColumn) {
+		return this.columns.computeIfAbsent(aColumn, aKey -> {
+			Column column = new Column(aKey, this.capacity);
+			column.nulls.set(0, this.size);
+			return column;
+		});
+	}
+
+	/**
+	 * @param aRow
+	 */
+	private void checkRow(int aRow) {
+		if ((aRow < 0) || (aRow >= this.size)) {
+			throw new ApplicationException("Row {} out of bounds for size {}", aRow, this.size);
+		}
+	}
+
+	/**
+	 * @param aColumn
+	 * @throws ApplicationException if the column holds non-numeric values
+	 */
+	private void checkNumeric(Column aColumn) throws ApplicationException {
+		if (aColumn.type != Column.OBJECT) {
+			return;
+		}
+
+		for (int row = aColumn.nulls.nextClearBit(0); row < this.size; row = aColumn.nulls.nextClearBit(row + 1)) {
+			if (!(aColumn.objects[row] instanceof Number)) {
+				throw new ApplicationException("Column '{}' is not numeric", aColumn.name);
+			}
+		}
+	}
+
+	/**
+	 * @param aMinRows
+	 */
+	private void ensureCapacity(int aMinRows) {
+		if (aMinRows <= this.capacity) {
+			return;
+		}
+
+		this.capacity = Math.max(aMinRows, this.capacity << 1);
+		this.columns.values().forEach(aColumn -> aColumn.resize(this.capacity));
+	}
+
+	/**
+	 * @param aColumn
+	 * @param aMin
+	 * @return
+	 * @throws ApplicationException if the column is not numeric
+	 */
+	private double extreme(String aColumn, boolean aMin) throws ApplicationException {
+		Column column = getColumn(aColumn);
+		checkNumeric(column);
+
+		double result = Double.NaN;
+		for (int row = column.nulls.nextClearBit(0); row < this.size; row = column.nulls.nextClearBit(row + 1)) {
+			double value = column.doubleAt(row);
+			if (Double.isNaN(result) || (aMin ? (value < result) : (value > result))) {
+				result = value;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @param aColumn
+	 * @param aSelection
+	 * @param aCount
+	 * @return selection trimmed to size, without the rows where the column is
+	 *         null
+	 */
+	private static int[] removeNulls(Column aColumn, int[] aSelection, int aCount) {
+		if (aColumn.nulls.isEmpty()) {
+			return Arrays.copyOf(aSelection, aCount);
+		}
+
+		return Arrays.stream(aSelection, 0, aCount).filter(aRow -> !aColumn.nulls.get(aRow)).toArray();
+	}
+
+	/**
+	 * @param aRowPredicate
+	 * @return
+	 */
+	private DataTable select(IntPredicate aRowPredicate) {
+		return select(IntStream.range(0, this.size).filter(aRowPredicate).toArray());
+	}
+
+	/**
+	 * @param aSelection row indexes to copy
+	 * @return new table containing the selected rows
+	 */
+	private DataTable select(int[] aSelection) {
+		DataTable table = new DataTable();
+		table.size = aSelection.length;
+		table.capacity = Math.max(aSelection.length, DEFAULT_CAPACITY);
+		this.columns.forEach((aName, aColumn) -> table.columns.put(aName,
+				aColumn.copy(aSelection, aSelection.length, table.capacity)));
+
+		return table;
+	}
+
+	/**
+	 * Live view of a single row of a {@link DataTable}, providing the same
+	 * type-casted getters as {@link DataMap}. Null values are reported as absent
+	 * keys.
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	public class Row extends AbstractMap<String, Object> {
+		/**
+		 * index of the row
+		 */
+		private final int row;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aRow
+		 */
+		Row(int aRow) {
+			this.row = aRow;
+		}
+
+		/**
+		 * Getter method for "index" property
+		 *
+		 * @return index of the row in the table
+		 */
+		public int getIndex() {
+			return this.row;
+		}
+
+		/**
+		 * @param <T>
+		 * @param aKey
+		 * @return
+		 * @see DataMap#get(String)
+		 */
+		@SuppressWarnings("unchecked")
+		public <T> T get(String aKey) {
+			Column column = DataTable.this.columns.get(aKey);
+			return (column == null) ? null : (T) column.get(this.row);
+		}
+
+		@Override
+		public Object get(Object aKey) {
+			return (aKey instanceof String) ? get((String) aKey) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object aKey) {
+			Column column = DataTable.this.columns.get(aKey);
+			return (column != null) && !column.nulls.get(this.row);
+		}
+
+		@Override
+		public Object put(String aKey, Object aValue) {
+			Object value = get(aKey);
+			setValue(this.row, aKey, aValue);
+
+			return value;
+		}
+
+		@Override
+		public Object remove(Object aKey) {
+			Object value = get(aKey);
+			if (value != null) {
+				setValue(this.row, (String) aKey, null);
+			}
+
+			return value;
+		}
+
+		/**
+		 * @param aKey
+		 * @return
+		 * @see DataMap#getString(String)
+		 */
+		public String getString(String aKey) {
+			Object value = get(aKey);
+			return (value == null) ? CommonConstants.EMPTY_STRING : value.toString();
+		}
+
+		/**
+		 * @param <T>
+		 * @param aKey
+		 * @param aClass
+		 * @return
+		 * @see DataMap#getNumber(String, Class)
+		 */
+		public <T extends Number> T getNumber(String aKey, Class<T> aClass) {
+			Object value = get(aKey);
+			return (value == null) ? null : aClass.cast(value);
+		}
+
+		/**
+		 * @param aKey
+		 * @param aValue
+		 * @return
+		 * @see DataMap#checkValue(String, Object)
+		 */
+		public boolean checkValue(String aKey, Object aValue) {
+			return CommonUtils.compare(get(aKey), aValue);
+		}
+
+		/**
+		 * @return copy of this row as a {@link DataMap}
+		 */
+		public DataMap toDataMap() {
+			DataMap dataMap = new DataMap();
+			DataTable.this.columns.forEach((aName, aColumn) -> {
+				if (!aColumn.nulls.get(this.row)) {
+					dataMap.put(aName, aColumn.get(this.row));
+				}
+			});
+
+			return dataMap;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<Entry<String, Object>>() {
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					return Collections.unmodifiableMap(toDataMap()).entrySet().iterator();
+				}
+
+				@Override
+				public int size() {
+					return (int) DataTable.this.columns.values().stream()
+							.filter(aColumn -> !aColumn.nulls.get(Row.this.row)).count();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Single typed column of a {@link DataTable}
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class Column implements Serializable {
+		/**
+		 * serialVersionUID
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Column types
+		 */
+		static final int EMPTY = 0, INT = 1, LONG = 2, DOUBLE = 3, OBJECT = 4;
+
+		/**
+		 * name of the column
+		 */
+		final String name;
+
+		/**
+		 * rows holding null values
+		 */
+		final BitSet nulls = new BitSet();
+
+		/**
+		 * type of the column, decided by the first non-null value
+		 */
+		int type = EMPTY;
+
+		/**
+		 * value arrays, only the one matching {@link #type} is allocated
+		 */
+		int[] ints;
+		long[] longs;
+		double[] doubles;
+		Object[] objects;
+
+		/**
+		 * type each value was added with, allocated once the column has been
+		 * widened. Null while all values have the column type.
+		 */
+		byte[] valueTypes;
+
+		/**
+		 * allocated number of rows
+		 */
+		int capacity;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aName
+		 * @param aCapacity
+		 */
+		Column(String aName, int aCapacity) {
+			this.name = aName;
+			this.capacity = aCapacity;
+		}
+
+		/**
+		 * @param aRow
+		 * @return
+		 */
+		Object get(int aRow) {
+			if (this.nulls.get(aRow)) {
+				return null;
+			}
+
+			int valueType = (this.valueTypes == null) ? this.type : this.valueTypes[aRow];
+			switch (this.type) {
+			case INT:
+				return this.ints[aRow];
+			case LONG:
+				if (valueType == INT) {
+					return (int) this.longs[aRow];
+				}
+
+				return this.longs[aRow];
+			case DOUBLE:
+				if (valueType == INT) {
+					return (int) this.doubles[aRow];
+				} else if (valueType == LONG) {
+					return (long) this.doubles[aRow];
+				}
+
+				return this.doubles[aRow];
+			case OBJECT:
+				return this.objects[aRow];
+			default:
+				return null;
+			}
+		}
+
+		/**
+		 * @param aRow
+		 * @return numeric value at the row
+		 */
+		double doubleAt(int aRow) {
+			switch (this.type) {
+			case INT:
+				return this.ints[aRow];
+			case LONG:
+				return this.longs[aRow];
+			case DOUBLE:
+				return this.doubles[aRow];
+			default:
+				return ((Number) this.objects[aRow]).doubleValue();
+			}
+		}
+
+		/**
+		 * @param aRow
+		 * @return numeric value at the row, converted as by
+		 *         {@link Number#longValue()}
+		 */
+		long longAt(int aRow) {
+			switch (this.type) {
+			case INT:
+				return this.ints[aRow];
+			case LONG:
+				return this.longs[aRow];
+			case DOUBLE:
+				return (long) this.doubles[aRow];
+			default:
+				return ((Number) this.objects[aRow]).longValue();
+			}
+		}
+
+		/**
+		 * @param aRow
+		 * @param aValue
+		 * @param aSize  current number of rows in the table
+		 */
+		void set(int aRow, Object aValue, int aSize) {
+			if (aValue == null) {
+				this.nulls.set(aRow);
+				if (this.type == OBJECT) {
+					this.objects[aRow] = null;
+				}
+
+				return;
+			}
+
+			int valueType = typeOf(aValue);
+			if (this.type == EMPTY) {
+				allocate(valueType);
+			} else if ((this.type != valueType) && (this.type != OBJECT)
+					&& ((valueType == OBJECT) || !widen(Math.max(this.type, valueType), aValue, aSize))) {
+				toObjectColumn(aSize);
+			}
+
+			this.nulls.clear(aRow);
+			switch (this.type) {
+			case INT:
+				this.ints[aRow] = (Integer) aValue;
+				break;
+			case LONG:
+				this.longs[aRow] = ((Number) aValue).longValue();
+				break;
+			case DOUBLE:
+				this.doubles[aRow] = ((Number) aValue).doubleValue();
+				break;
+			default:
+				this.objects[aRow] = aValue;
+			}
+
+			if (this.valueTypes != null) {
+				this.valueTypes[aRow] = (byte) valueType;
+			}
+		}
+
+		/**
+		 * @param aCapacity
+		 */
+		void resize(int aCapacity) {
+			this.capacity = aCapacity;
+			switch (this.type) {
+			case INT:
+				this.ints = Arrays.copyOf(this.ints, aCapacity);
+				break;
+			case LONG:
+				this.longs = Arrays.copyOf(this.longs, aCapacity);
+				break;
+			case DOUBLE:
+				this.doubles = Arrays.copyOf(this.doubles, aCapacity);
+				break;
+			case OBJECT:
+				this.objects = Arrays.copyOf(this.objects, aCapacity);
+				break;
+			default:
+				break;
+			}
+
+			if (this.valueTypes != null) {
+				this.valueTypes = Arrays.copyOf(this.valueTypes, aCapacity);
+			}
+		}
+
+		/**
+		 * @param aSelection row indexes to copy, or null to copy all rows
+		 * @param aCount     number of rows to copy
+		 * @param aCapacity  capacity of the new column
+		 * @return
+		 */
+		Column copy(int[] aSelection, int aCount, int aCapacity) {
+			Column column = new Column(this.name, aCapacity);
+			column.allocate(this.type);
+			if (this.valueTypes != null) {
+				column.valueTypes = new byte[aCapacity];
+			}
+
+			for (int idx = 0; idx < aCount; idx++) {
+				int row = (aSelection == null) ? idx : aSelection[idx];
+				if (this.nulls.get(row)) {
+					column.nulls.set(idx);
+					continue;
+				}
+
+				switch (this.type) {
+				case INT:
+					column.ints[idx] = this.ints[row];
+					break;
+				case LONG:
+					column.longs[idx] = this.longs[row];
+					break;
+				case DOUBLE:
+					column.doubles[idx] = this.doubles[row];
+					break;
+				case OBJECT:
+					column.objects[idx] = this.objects[row];
+					break;
+				default:
+					column.nulls.set(idx);
+				}
+
+				if (this.valueTypes != null) {
+					column.valueTypes[idx] = this.valueTypes[row];
+				}
+			}
+
+			return column;
+		}
+
+		/**
+		 * @param aType
+		 */
+		private void allocate(int aType) {
+			this.type = aType;
+			switch (aType) {
+			case INT:
+				this.ints = new int[this.capacity];
+				break;
+			case LONG:
+				this.longs = new long[this.capacity];
+				break;
+			case DOUBLE:
+				this.doubles = new double[this.capacity];
+				break;
+			case OBJECT:
+				this.objects = new Object[this.capacity];
+				break;
+			default:
+				break;
+			}
+		}
+
+		/**
+		 * This method widens the column to the given numeric type, so that it can
+		 * hold the given value. The type of the existing values is recorded in
+		 * {@link #valueTypes}, so that they are returned unchanged.
+		 *
+		 * @param aType  {@link #LONG} or {@link #DOUBLE}
+		 * @param aValue value to be added
+		 * @param aSize
+		 * @return false, if a {@link Long} value cannot be represented exactly as a
+		 *         {@link Double}
+		 */
+		private boolean widen(int aType, Object aValue, int aSize) {
+			if ((aType == DOUBLE) && (aValue instanceof Long) && !isExactDouble((Long) aValue)) {
+				return false;
+			}
+
+			if (aType == this.type) {
+				return true;
+			}
+
+			if (this.type == INT) {
+				long[] longValues = (aType == LONG) ? new long[this.capacity] : null;
+				double[] doubleValues = (aType == DOUBLE) ? new double[this.capacity] : null;
+				for (int row = 0; row < aSize; row++) {
+					if (longValues != null) {
+						longValues[row] = this.ints[row];
+					} else {
+						doubleValues[row] = this.ints[row];
+					}
+				}
+
+				this.longs = longValues;
+				this.doubles = doubleValues;
+				this.ints = null;
+			} else {
+				double[] doubleValues = new double[this.capacity];
+				for (int row = 0; row < aSize; row++) {
+					if (!this.nulls.get(row) && !isExactDouble(this.longs[row])) {
+						return false;
+					}
+
+					doubleValues[row] = this.longs[row];
+				}
+
+				this.doubles = doubleValues;
+				this.longs = null;
+			}
+
+			if (this.valueTypes == null) {
+				this.valueTypes = new byte[this.capacity];
+				Arrays.fill(this.valueTypes, 0, aSize, (byte) this.type);
+			}
+
+			this.type = aType;
+			return true;
+		}
+
+		/**
+		 * @param aValue
+		 * @return true, if the value can be represented exactly as a {@link Double}
+		 */
+		private static boolean isExactDouble(long aValue) {
+			double value = aValue;
+			return ((long) value == aValue) && (value < 0x1p63);
+		}
+
+		/**
+		 * This method converts a primitive column to an {@link Object} column when a
+		 * value of a different type is added
+		 *
+		 * @param aSize
+		 */
+		private void toObjectColumn(int aSize) {
+			Object[] values = new Object[this.capacity];
+			for (int row = 0; row < aSize; row++) {
+				values[row] = get(row);
+			}
+
+			this.ints = null;
+			this.longs = null;
+			this.doubles = null;
+			this.valueTypes = null;
+			this.objects = values;
+			this.type = OBJECT;
+		}
+
+		/**
+		 * @param aValue
+		 * @return
+		 */
+		private static int typeOf(Object aValue) {
+			Class<?> valueClass = aValue.getClass();
+			if (valueClass == Integer.class) {
+				return INT;
+			} else if (valueClass == Long.class) {
+				return LONG;
+			} else if (valueClass == Double.class) {
+				return DOUBLE;
+			}
+
+			return OBJECT;
+		}
+	}
+}
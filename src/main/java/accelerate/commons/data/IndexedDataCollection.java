@@ -0,0 +1,642 @@
+package accelerate.commons.data;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * {@link Collection} of {@link DataMap} instances with secondary indexes on
+ * selected keys. Hash indexes serve equality lookups through
+ * {@link #find(String, Object)} and sorted indexes serve range lookups through
+ * {@link #findRange(String, Object, Object)}. Lookups on keys without an index
+ * fall back to a full scan.
+ * <p>
+ * Numbers are compared by value, so {@link Integer}, {@link Long} and
+ * integral {@link Double} values that are numerically equal match each other,
+ * and a sorted index can hold a mix of numeric types. Null values match only
+ * through {@link #find(String, Object)}, and never through range lookups.
+ * <p>
+ * Indexes are maintained on {@link #add(DataMap)} and {@link #remove(Object)}.
+ * Reads may run concurrently, while writes are exclusive. Rows are held by
+ * identity, so a row modified after being added has to be passed to
+ * {@link #reindex(DataMap)} to keep the indexes in sync. Rows are returned in
+ * the order they were added, within each key for sorted indexes.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public class IndexedDataCollection extends AbstractCollection<DataMap> {
+	/**
+	 * Order of values in sorted indexes, with numbers compared by value
+	 */
+	private static final Comparator<Object> VALUE_ORDER = IndexedDataCollection::compareValues;
+
+	/**
+	 * {@link Map} of row to its {@link Entry}
+	 */
+	private final Map<DataMap, Entry> rows = new IdentityHashMap<>();
+
+	/**
+	 * {@link Map} of sequence number to row, in the order of addition
+	 */
+	private final Map<Long, DataMap> order = new LinkedHashMap<>();
+
+	/**
+	 * sequence number of the next row added
+	 */
+	private long nextSequence = 0;
+
+	/**
+	 * {@link Map} of key to {@link Index}, in the order of declaration
+	 */
+	private final Map<String, Index> indexes = new LinkedHashMap<>();
+
+	/**
+	 * {@link ReadWriteLock} guarding rows and indexes
+	 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * default constructor
+	 */
+	public IndexedDataCollection() {
+	}
+
+	/**
+	 * overloaded constructor
+	 *
+	 * @param aRows
+	 */
+	public IndexedDataCollection(Collection<? extends DataMap> aRows) {
+		addAll(aRows);
+	}
+
+	/*
+	 * Public API
+	 */
+	/**
+	 * This method declares a hash index on the given key, for equality lookups.
+	 * Existing rows are indexed immediately.
+	 *
+	 * @param aKey
+	 * @return
+	 */
+	public IndexedDataCollection addHashIndex(String aKey) {
+		return addIndex(aKey, HashMap::new);
+	}
+
+	/**
+	 * This method declares a sorted index on the given key, for equality and range
+	 * lookups. Values of the key must be mutually {@link Comparable}, null values
+	 * are not indexed. Existing rows are indexed immediately.
+	 *
+	 * @param aKey
+	 * @return
+	 * @throws ApplicationException if existing values are not comparable
+	 */
+	public IndexedDataCollection addSortedIndex(String aKey) throws ApplicationException {
+		return addIndex(aKey, () -> new TreeMap<>(VALUE_ORDER));
+	}
+
+	/**
+	 * @param aKey
+	 * @return true, if the key has an index
+	 */
+	public boolean hasIndex(String aKey) {
+		return read(() -> this.indexes.containsKey(aKey));
+	}
+
+	/**
+	 * This method returns all rows where the value of the key is equal to the
+	 * given value. A null value matches the rows where the key is missing or
+	 * null.
+	 *
+	 * @param aKey
+	 * @param aValue
+	 * @return {@link List} of matching rows, in the order of addition
+	 * @throws ApplicationException if the value is not comparable for a sorted
+	 *                              index
+	 */
+	public List<DataMap> find(String aKey, Object aValue) {
+		Object value = normalize(aValue);
+		return read(() -> {
+			Index index = this.indexes.get(aKey);
+			if ((index == null) || (index.sorted && (value == null))) {
+				return this.order.values().stream().filter(aRow -> Objects.equals(normalize(aRow.get(aKey)), value))
+						.collect(Collectors.toList());
+			}
+
+			try {
+				NavigableMap<Long, DataMap> matches = index.entries.get(value);
+				return (matches == null) ? new ArrayList<>() : new ArrayList<>(matches.values());
+			} catch (ClassCastException error) {
+				throw new ApplicationException(error, "Values of key '{}' are not comparable", aKey);
+			}
+		});
+	}
+
+	/**
+	 * This method returns the first row where the value of the key is equal to
+	 * the given value
+	 *
+	 * @param aKey
+	 * @param aValue
+	 * @return matching row, or null
+	 */
+	public DataMap findFirst(String aKey, Object aValue) {
+		List<DataMap> matches = find(aKey, aValue);
+		return matches.isEmpty() ? null : matches.get(0);
+	}
+
+	/**
+	 * This method returns all rows where the value of the key falls within the
+	 * given bounds, both inclusive
+	 *
+	 * @param aKey
+	 * @param aFrom lower bound, or null for no lower bound
+	 * @param aTo   upper bound, or null for no upper bound
+	 * @return {@link List} of matching rows, in the order of the key for sorted
+	 *         indexes and in the order of addition otherwise
+	 * @throws ApplicationException if the values are not comparable
+	 */
+	public List<DataMap> findRange(String aKey, Object aFrom, Object aTo) throws ApplicationException {
+		return findRange(aKey, aFrom, true, aTo, true);
+	}
+
+	/**
+	 * This method returns all rows where the value of the key falls within the
+	 * given bounds
+	 *
+	 * @param aKey
+	 * @param aFrom          lower bound, or null for no lower bound
+	 * @param aFromInclusive
+	 * @param aTo            upper bound, or null for no upper bound
+	 * @param aToInclusive
+	 * @return {@link List} of matching rows, in the order of the key for sorted
+	 *         indexes and in the order of addition otherwise
+	 * @throws ApplicationException if the values are not comparable
+	 */
+	@SuppressWarnings("unchecked")
+	public List<DataMap> findRange(String aKey, Object aFrom, boolean aFromInclusive, Object aTo,
+			boolean aToInclusive) throws ApplicationException {
+		Object from = normalize(aFrom);
+		Object to = normalize(aTo);
+		return read(() -> {
+			try {
+				Index index = this.indexes.get(aKey);
+				if ((index != null) && index.sorted) {
+					NavigableMap<Object, NavigableMap<Long, DataMap>> range = (NavigableMap<Object, NavigableMap<Long, DataMap>>) index.entries;
+					if (from != null) {
+						range = range.tailMap(from, aFromInclusive);
+					}
+
+					if (to != null) {
+						range = range.headMap(to, aToInclusive);
+					}
+
+					List<DataMap> matches = new ArrayList<>();
+					range.values().forEach(aMatches -> matches.addAll(aMatches.values()));
+
+					return matches;
+				}
+
+				return this.order.values().stream().filter(aRow -> {
+					Object value = normalize(aRow.get(aKey));
+					if (value == null) {
+						return false;
+					}
+
+					if (from != null) {
+						int compare = compareValues(value, from);
+						if ((compare < 0) || ((compare == 0) && !aFromInclusive)) {
+							return false;
+						}
+					}
+
+					if (to != null) {
+						int compare = compareValues(value, to);
+						if ((compare > 0) || ((compare == 0) && !aToInclusive)) {
+							return false;
+						}
+					}
+
+					return true;
+				}).collect(Collectors.toList());
+			} catch (ClassCastException error) {
+				throw new ApplicationException(error, "Values of key '{}' are not comparable", aKey);
+			}
+		});
+	}
+
+	/**
+	 * This method refreshes the index entries of the given row, after it has been
+	 * modified
+	 *
+	 * @param aRow
+	 * @return true, if the row is part of this collection
+	 * @throws ApplicationException if new values are not comparable, in which
+	 *                              case the row is removed from the collection
+	 */
+	public boolean reindex(DataMap aRow) throws ApplicationException {
+		return write(() -> {
+			if (!this.rows.containsKey(aRow)) {
+				return false;
+			}
+
+			Entry entry = removeRow(aRow);
+			addRow(aRow, entry.sequence);
+			return true;
+		});
+	}
+
+	/**
+	 * @throws ApplicationException if the row has values that are not comparable
+	 *                              for a sorted index
+	 */
+	@Override
+	public boolean add(DataMap aRow) throws ApplicationException {
+		if (aRow == null) {
+			throw new ApplicationException("Null rows are not supported");
+		}
+
+		return write(() -> {
+			if (this.rows.containsKey(aRow)) {
+				return false;
+			}
+
+			addRow(aRow, this.nextSequence++);
+			return true;
+		});
+	}
+
+	@Override
+	public boolean remove(Object aRow) {
+		return write(() -> {
+			if (!this.rows.containsKey(aRow)) {
+				return false;
+			}
+
+			this.order.remove(removeRow((DataMap) aRow).sequence);
+			return true;
+		});
+	}
+
+	@Override
+	public boolean contains(Object aRow) {
+		return read(() -> this.rows.containsKey(aRow));
+	}
+
+	@Override
+	public int size() {
+		return read(() -> this.rows.size());
+	}
+
+	@Override
+	public void clear() {
+		write(() -> {
+			this.rows.clear();
+			this.order.clear();
+			this.indexes.values().forEach(aIndex -> aIndex.entries.clear());
+			return null;
+		});
+	}
+
+	/**
+	 * This method returns an iterator over a snapshot of the rows, in the order
+	 * of addition. Removal through the iterator is reflected in this collection.
+	 */
+	@Override
+	public Iterator<DataMap> iterator() {
+		Iterator<DataMap> snapshot = read(() -> new ArrayList<>(this.order.values())).iterator();
+		return new Iterator<DataMap>() {
+			private DataMap current = null;
+
+			@Override
+			public boolean hasNext() {
+				return snapshot.hasNext();
+			}
+
+			@Override
+			public DataMap next() {
+				this.current = snapshot.next();
+				return this.current;
+			}
+
+			@Override
+			public void remove() {
+				if (this.current == null) {
+					throw new IllegalStateException();
+				}
+
+				IndexedDataCollection.this.remove(this.current);
+				this.current = null;
+			}
+		};
+	}
+
+	/*
+	 * Private Methods
+	 */
+	/**
+	 * @param aKey
+	 * @param aMapSupplier
+	 * @return
+	 */
+	private IndexedDataCollection addIndex(String aKey,
+			Supplier<Map<Object, NavigableMap<Long, DataMap>>> aMapSupplier) {
+		write(() -> {
+			if (this.indexes.containsKey(aKey)) {
+				return null;
+			}
+
+			Index index = new Index(aKey, aMapSupplier.get());
+			try {
+				this.rows.forEach((aRow, aEntry) -> index.add(normalize(aRow.get(aKey)), aEntry.sequence, aRow));
+			} catch (ClassCastException error) {
+				throw new ApplicationException(error, "Values of key '{}' are not comparable", aKey);
+			}
+
+			this.indexes.put(aKey, index);
+			this.rows.forEach((aRow, aEntry) -> {
+				aEntry.values = Arrays.copyOf(aEntry.values, this.indexes.size());
+				aEntry.values[aEntry.values.length - 1] = normalize(aRow.get(aKey));
+			});
+
+			return null;
+		});
+
+		return this;
+	}
+
+	/**
+	 * This method adds the row to all indexes, rolling back on failure. Must be
+	 * called under the write lock.
+	 *
+	 * @param aRow
+	 * @param aSequence sequence number of the row
+	 * @throws ApplicationException if the row has values that are not comparable
+	 *                              for a sorted index
+	 */
+	private void addRow(DataMap aRow, long aSequence) throws ApplicationException {
+		Object[] values = new Object[this.indexes.size()];
+		int idx = 0;
+		for (Index index : this.indexes.values()) {
+			values[idx] = normalize(aRow.get(index.key));
+			try {
+				index.add(values[idx], aSequence, aRow);
+			} catch (ClassCastException error) {
+				Iterator<Index> indexIterator = this.indexes.values().iterator();
+				for (int rollback = 0; rollback < idx; rollback++) {
+					indexIterator.next().remove(values[rollback], aSequence);
+				}
+
+				this.order.remove(aSequence);
+				throw new ApplicationException(error, "Values of key '{}' are not comparable", index.key);
+			}
+
+			idx++;
+		}
+
+		this.rows.put(aRow, new Entry(aSequence, values));
+		this.order.putIfAbsent(aSequence, aRow);
+	}
+
+	/**
+	 * This method removes the row from all indexes, using the values it was
+	 * indexed with. The row keeps its position in {@link #order}, which is only
+	 * updated by the caller. Must be called under the write lock.
+	 *
+	 * @param aRow
+	 * @return removed {@link Entry}
+	 */
+	private Entry removeRow(DataMap aRow) {
+		Entry entry = this.rows.remove(aRow);
+		int idx = 0;
+		for (Index index : this.indexes.values()) {
+			index.remove(entry.values[idx++], entry.sequence);
+		}
+
+		return entry;
+	}
+
+	/**
+	 * This method converts numbers to {@link Long} where they hold an integral
+	 * value in its range, and otherwise to {@link Double} where that is exact, so
+	 * that equal numbers have the same hash key
+	 *
+	 * @param aValue
+	 * @return
+	 */
+	private static Object normalize(Object aValue) {
+		if ((aValue instanceof Long) || !(aValue instanceof Number)) {
+			return aValue;
+		} else if ((aValue instanceof Integer) || (aValue instanceof Short) || (aValue instanceof Byte)) {
+			return ((Number) aValue).longValue();
+		} else if ((aValue instanceof Double) || (aValue instanceof Float)) {
+			double value = ((Number) aValue).doubleValue();
+			long longValue = (long) value;
+			return ((longValue == value) && (value < 0x1p63)) ? (Object) longValue : (Object) value;
+		} else if ((aValue instanceof BigInteger) && (((BigInteger) aValue).bitLength() < Long.SIZE)) {
+			return ((BigInteger) aValue).longValue();
+		} else if ((aValue instanceof BigInteger) || (aValue instanceof BigDecimal)) {
+			double value = ((Number) aValue).doubleValue();
+			return (Double.isFinite(value) && (new BigDecimal(value).compareTo(toBigDecimal((Number) aValue)) == 0))
+					? normalize(value)
+					: aValue;
+		}
+
+		return aValue;
+	}
+
+	/**
+	 * @param aValue1
+	 * @param aValue2
+	 * @return order of the given values, with numbers compared by value
+	 * @throws ClassCastException if the values are not comparable
+	 */
+	@SuppressWarnings("unchecked")
+	private static int compareValues(Object aValue1, Object aValue2) {
+		if ((aValue1 instanceof Number) && (aValue2 instanceof Number) && (aValue1.getClass() != aValue2.getClass())) {
+			return toBigDecimal((Number) aValue1).compareTo(toBigDecimal((Number) aValue2));
+		}
+
+		return ((Comparable<Object>) aValue1).compareTo(aValue2);
+	}
+
+	/**
+	 * @param aValue normalized number
+	 * @return
+	 * @throws ClassCastException if the value is not finite
+	 */
+	private static BigDecimal toBigDecimal(Number aValue) {
+		if (aValue instanceof BigDecimal) {
+			return (BigDecimal) aValue;
+		} else if (aValue instanceof BigInteger) {
+			return new BigDecimal((BigInteger) aValue);
+		} else if (aValue instanceof Long) {
+			return BigDecimal.valueOf(aValue.longValue());
+		}
+
+		double value = aValue.doubleValue();
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new ClassCastException(aValue + " cannot be compared to other number types");
+		}
+
+		return new BigDecimal(value);
+	}
+
+	/**
+	 * @param <T>
+	 * @param aReader
+	 * @return
+	 */
+	private <T> T read(Supplier<T> aReader) {
+		return locked(this.lock.readLock(), aReader);
+	}
+
+	/**
+	 * @param <T>
+	 * @param aWriter
+	 * @return
+	 */
+	private <T> T write(Supplier<T> aWriter) {
+		return locked(this.lock.writeLock(), aWriter);
+	}
+
+	/**
+	 * @param <T>
+	 * @param aLock
+	 * @param aAction
+	 * @return
+	 */
+	private static <T> T locked(Lock aLock, Supplier<T> aAction) {
+		aLock.lock();
+		try {
+			return aAction.get();
+		} finally {
+			aLock.unlock();
+		}
+	}
+
+	/**
+	 * Single hash or sorted index over a key
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class Index {
+		/**
+		 * indexed key
+		 */
+		final String key;
+
+		/**
+		 * {@link Map} of normalized value to rows holding the value, by sequence
+		 * number
+		 */
+		final Map<Object, NavigableMap<Long, DataMap>> entries;
+
+		/**
+		 * true, if this is a range index
+		 */
+		final boolean sorted;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aKey
+		 * @param aEntries
+		 */
+		Index(String aKey, Map<Object, NavigableMap<Long, DataMap>> aEntries) {
+			this.key = aKey;
+			this.entries = aEntries;
+			this.sorted = aEntries instanceof NavigableMap;
+		}
+
+		/**
+		 * @param aValue    normalized value
+		 * @param aSequence
+		 * @param aRow
+		 */
+		void add(Object aValue, long aSequence, DataMap aRow) {
+			if (this.sorted && (aValue == null)) {
+				return;
+			}
+
+			this.entries.computeIfAbsent(aValue, aKey -> new TreeMap<>()).put(aSequence, aRow);
+		}
+
+		/**
+		 * @param aValue    normalized value
+		 * @param aSequence
+		 */
+		void remove(Object aValue, long aSequence) {
+			if (this.sorted && (aValue == null)) {
+				return;
+			}
+
+			NavigableMap<Long, DataMap> matches = this.entries.get(aValue);
+			if (matches == null) {
+				return;
+			}
+
+			matches.remove(aSequence);
+			if (matches.isEmpty()) {
+				this.entries.remove(aValue);
+			}
+		}
+	}
+
+	/**
+	 * Sequence number and indexed values of a row
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class Entry {
+		/**
+		 * position of the row in the order of addition
+		 */
+		final long sequence;
+
+		/**
+		 * normalized values the row was indexed with, in the order of
+		 * {@link IndexedDataCollection#indexes}
+		 */
+		Object[] values;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aSequence
+		 * @param aValues
+		 */
+		Entry(long aSequence, Object[] aValues) {
+			this.sequence = aSequence;
+			this.values = aValues;
+		}
+	}
+}
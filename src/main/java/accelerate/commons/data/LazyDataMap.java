@@ -0,0 +1,820 @@
+package accelerate.commons.data;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import accelerate.commons.exception.ApplicationException;
+import accelerate.commons.util.JacksonUtils;
+
+/**
+ * {@link DataMap} extension backed by the raw UTF-8 bytes of a JSON object.
+ * The first access builds an index of the byte offsets of the top level
+ * values, and each value is parsed only when its key is read. As long as the
+ * map is not modified, JSON serialization copies the original bytes, unless
+ * they contain null object members, which are left out as for any other
+ * {@link DataMap}.
+ * <p>
+ * NOTE: Changes made inside nested values are not detected. Use
+ * {@link #put(String, Object)} to store a modified nested value. The given byte
+ * array is not copied and must not be modified. Reads parse values into the
+ * map, so an instance is not safe for concurrent use, even if all threads only
+ * read from it.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@JsonSerialize(using = LazyDataMap.LazyDataMapSerializer.class)
+public class LazyDataMap extends DataMap {
+	/**
+	 * serialVersionUID
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * {@link JsonFactory} used to build the offset index
+	 */
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	/**
+	 * raw UTF-8 bytes of the JSON object
+	 */
+	private final transient byte[] jsonBytes;
+
+	/**
+	 * {@link Map} of key to byte range for values that have not been parsed yet,
+	 * with the offset in the upper and the length in the lower 32 bits. Null until
+	 * the index is built.
+	 */
+	private transient Map<String, Long> pendingOffsets = null;
+
+	/**
+	 * flag to indicate that the map no longer matches {@link #jsonBytes}
+	 */
+	private transient boolean modified = false;
+
+	/**
+	 * flag to indicate that {@link #jsonBytes} contain object members with null
+	 * values. Set when the index is built.
+	 */
+	private transient boolean nullMembers = false;
+
+	/**
+	 * default constructor
+	 *
+	 * @param aJSONBytes UTF-8 encoded JSON object
+	 */
+	public LazyDataMap(byte[] aJSONBytes) {
+		this.jsonBytes = (aJSONBytes == null) ? new byte[0] : aJSONBytes;
+	}
+
+	/**
+	 * overloaded constructor
+	 *
+	 * @param aJSONString JSON object
+	 */
+	public LazyDataMap(String aJSONString) {
+		this((aJSONString == null) ? null : aJSONString.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return true, if the map has been modified since it was loaded
+	 */
+	public boolean isModified() {
+		return this.modified;
+	}
+
+	/**
+	 * This methods returns a JSON representation of this map. The original bytes
+	 * are returned as is if the map has not been modified.
+	 *
+	 * @return JSON Representation
+	 * @throws ApplicationException
+	 */
+	@Override
+	public String toJSON() throws ApplicationException {
+		if (isRawCopy()) {
+			return new String(this.jsonBytes, StandardCharsets.UTF_8);
+		}
+
+		return super.toJSON();
+	}
+
+	/*
+	 * Read Overrides
+	 */
+	@Override
+	public Object get(Object aKey) {
+		materialize(aKey);
+		return super.get(aKey);
+	}
+
+	@Override
+	public Object getOrDefault(Object aKey, Object aDefaultValue) {
+		materialize(aKey);
+		return super.getOrDefault(aKey, aDefaultValue);
+	}
+
+	@Override
+	public boolean containsKey(Object aKey) {
+		return index().containsKey(aKey) || super.containsKey(aKey);
+	}
+
+	@Override
+	public boolean containsValue(Object aValue) {
+		materializeAll();
+		return super.containsValue(aValue);
+	}
+
+	@Override
+	public int size() {
+		return index().size() + super.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super Object> aAction) {
+		materializeAll();
+		super.forEach(aAction);
+	}
+
+	/**
+	 * Changes made through the returned view mark the map as modified.
+	 */
+	@Override
+	public Set<String> keySet() {
+		materializeAll();
+		return new TrackedSet<>(super.keySet());
+	}
+
+	/**
+	 * Changes made through the returned view mark the map as modified.
+	 */
+	@Override
+	public Collection<Object> values() {
+		materializeAll();
+		return new TrackedCollection<>(super.values());
+	}
+
+	/**
+	 * Changes made through the returned view mark the map as modified.
+	 */
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		materializeAll();
+		return new TrackedEntrySet(super.entrySet());
+	}
+
+	@Override
+	public DataMap checkpoint() {
+		materializeAll();
+		return super.checkpoint();
+	}
+
+	@Override
+	public boolean equals(Object aObject) {
+		if (aObject == this) {
+			return true;
+		}
+
+		if (!(aObject instanceof Map) || (((Map<?, ?>) aObject).size() != size())) {
+			return false;
+		}
+
+		Map<?, ?> other = (Map<?, ?>) aObject;
+		for (Entry<String, Object> entry : entries()) {
+			Object value = entry.getValue();
+			if (!Objects.equals(value, other.get(entry.getKey()))
+					|| ((value == null) && !other.containsKey(entry.getKey()))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		return entries().stream().mapToInt(Object::hashCode).sum();
+	}
+
+	@Override
+	public String toString() {
+		Map<String, Object> copy = new HashMap<>();
+		forEach(copy::put);
+
+		return copy.toString();
+	}
+
+	/*
+	 * Write Overrides
+	 */
+	@Override
+	public Object put(String aKey, Object aValue) {
+		materialize(aKey);
+		this.modified = true;
+		return super.put(aKey, aValue);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends Object> aSourceMap) {
+		aSourceMap.keySet().forEach(this::materialize);
+		this.modified = true;
+		super.putAll(aSourceMap);
+	}
+
+	@Override
+	public Object putIfAbsent(String aKey, Object aValue) {
+		materialize(aKey);
+		this.modified = true;
+		return super.putIfAbsent(aKey, aValue);
+	}
+
+	@Override
+	public Object remove(Object aKey) {
+		materialize(aKey);
+		this.modified = true;
+		return super.remove(aKey);
+	}
+
+	@Override
+	public boolean remove(Object aKey, Object aValue) {
+		materialize(aKey);
+		this.modified = true;
+		return super.remove(aKey, aValue);
+	}
+
+	@Override
+	public Object replace(String aKey, Object aValue) {
+		materialize(aKey);
+		this.modified = true;
+		return super.replace(aKey, aValue);
+	}
+
+	@Override
+	public boolean replace(String aKey, Object aOldValue, Object aNewValue) {
+		materialize(aKey);
+		this.modified = true;
+		return super.replace(aKey, aOldValue, aNewValue);
+	}
+
+	@Override
+	public Object computeIfAbsent(String aKey, Function<? super String, ? extends Object> aMappingFunction) {
+		materialize(aKey);
+		this.modified = true;
+		return super.computeIfAbsent(aKey, aMappingFunction);
+	}
+
+	@Override
+	public Object computeIfPresent(String aKey,
+			BiFunction<? super String, ? super Object, ? extends Object> aRemappingFunction) {
+		materialize(aKey);
+		this.modified = true;
+		return super.computeIfPresent(aKey, aRemappingFunction);
+	}
+
+	@Override
+	public Object compute(String aKey, BiFunction<? super String, ? super Object, ? extends Object> aRemappingFunction) {
+		materialize(aKey);
+		this.modified = true;
+		return super.compute(aKey, aRemappingFunction);
+	}
+
+	@Override
+	public Object merge(String aKey, Object aValue,
+			BiFunction<? super Object, ? super Object, ? extends Object> aRemappingFunction) {
+		materialize(aKey);
+		this.modified = true;
+		return super.merge(aKey, aValue, aRemappingFunction);
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super String, ? super Object, ? extends Object> aFunction) {
+		materializeAll();
+		this.modified = true;
+		super.replaceAll(aFunction);
+	}
+
+	@Override
+	public void clear() {
+		materializeAll();
+		this.modified = true;
+		super.clear();
+	}
+
+	@Override
+	public Object clone() {
+		materializeAll();
+		return super.clone();
+	}
+
+	/*
+	 * Private Methods
+	 */
+	/**
+	 * This method returns the offset index of the values not parsed yet, building
+	 * it on the first call
+	 *
+	 * @return
+	 * @throws ApplicationException if the bytes are not a valid JSON object
+	 */
+	private Map<String, Long> index() throws ApplicationException {
+		if (this.pendingOffsets != null) {
+			return this.pendingOffsets;
+		}
+
+		Map<String, Long> offsets = new HashMap<>();
+		if (this.jsonBytes.length > 0) {
+			try (JsonParser parser = JSON_FACTORY.createParser(this.jsonBytes)) {
+				if (parser.nextToken() != JsonToken.START_OBJECT) {
+					throw new ApplicationException("JSON content is not an object");
+				}
+
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String key = parser.getCurrentName();
+					JsonToken token = parser.nextToken();
+					long start = parser.getTokenLocation().getByteOffset();
+					if (token.isStructStart()) {
+						skipValue(parser);
+					} else if (token == JsonToken.VALUE_NULL) {
+						this.nullMembers = true;
+					} else {
+						parser.finishToken();
+					}
+
+					long end = parser.getCurrentLocation().getByteOffset();
+					offsets.put(key, (start << 32) | (end - start));
+				}
+			} catch (IOException error) {
+				throw new ApplicationException(error);
+			}
+		}
+
+		this.pendingOffsets = offsets;
+		return offsets;
+	}
+
+	/**
+	 * This method skips the object or array the parser is positioned at, noting
+	 * object members with null values
+	 *
+	 * @param aParser
+	 * @throws IOException
+	 */
+	private void skipValue(JsonParser aParser) throws IOException {
+		for (int depth = 1; depth > 0;) {
+			JsonToken token = aParser.nextToken();
+			if (token == null) {
+				throw new ApplicationException("Unexpected end of JSON content");
+			} else if (token.isStructStart()) {
+				depth++;
+			} else if (token.isStructEnd()) {
+				depth--;
+			} else if ((token == JsonToken.VALUE_NULL) && aParser.getParsingContext().inObject()) {
+				this.nullMembers = true;
+			}
+		}
+	}
+
+	/**
+	 * This method checks whether the original bytes can be copied as is for
+	 * serialization. The index is built only if the bytes contain a null literal.
+	 *
+	 * @return true, if the map is not modified and has no null object members
+	 */
+	private boolean isRawCopy() {
+		if (this.modified || (this.jsonBytes.length == 0)) {
+			return false;
+		}
+
+		if ((this.pendingOffsets == null) && !containsNullLiteral(this.jsonBytes)) {
+			return true;
+		}
+
+		index();
+		return !this.nullMembers;
+	}
+
+	/**
+	 * @param aBytes
+	 * @return true, if the bytes contain "null", inside a string or not
+	 */
+	private static boolean containsNullLiteral(byte[] aBytes) {
+		for (int i = 0; i < (aBytes.length - 3); i++) {
+			if ((aBytes[i] == 'n') && (aBytes[i + 1] == 'u') && (aBytes[i + 2] == 'l') && (aBytes[i + 3] == 'l')) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * This method parses the value of the given key, if it has not been parsed
+	 * yet, and stores it in the map
+	 *
+	 * @param aKey
+	 */
+	private void materialize(Object aKey) {
+		Long range = index().remove(aKey);
+		if (range != null) {
+			store((String) aKey, range);
+		}
+	}
+
+	/**
+	 * This method parses all pending values
+	 */
+	private void materializeAll() {
+		Map<String, Long> offsets = index();
+		if (offsets.isEmpty()) {
+			return;
+		}
+
+		offsets.forEach(this::store);
+		offsets.clear();
+	}
+
+	/**
+	 * @param aKey
+	 * @param aRange offset and length of the value
+	 */
+	private void store(String aKey, long aRange) {
+		super.put(aKey, JacksonUtils.fromJSON(this.jsonBytes, (int) (aRange >>> 32), (int) aRange, Object.class));
+	}
+
+	/**
+	 * This method returns the entries of the map, without the tracking view
+	 *
+	 * @return
+	 */
+	private Set<Entry<String, Object>> entries() {
+		materializeAll();
+		return super.entrySet();
+	}
+
+	/**
+	 * This method replaces the instance with a plain {@link DataMap} for java
+	 * serialization
+	 *
+	 * @return
+	 */
+	private Object writeReplace() {
+		DataMap dataMap = new DataMap();
+		forEach(dataMap::put);
+
+		return dataMap;
+	}
+
+	/**
+	 * Jackson serializer for {@link LazyDataMap}. It copies the original bytes for
+	 * unmodified maps written as JSON, and writes the entries otherwise. Null
+	 * values are skipped in both cases.
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	static class LazyDataMapSerializer extends StdSerializer<LazyDataMap> {
+		/**
+		 * serialVersionUID
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * default constructor
+		 */
+		LazyDataMapSerializer() {
+			super(LazyDataMap.class);
+		}
+
+		@Override
+		public void serialize(LazyDataMap aValue, JsonGenerator aGenerator, SerializerProvider aProvider)
+				throws IOException {
+			if ((aGenerator instanceof JsonGeneratorImpl) && aValue.isRawCopy()) {
+				aGenerator.writeRawValue(new RawJSON(aValue.jsonBytes));
+				return;
+			}
+
+			aGenerator.writeStartObject(aValue);
+			for (Entry<String, Object> entry : aValue.entries()) {
+				if (entry.getValue() != null) {
+					aGenerator.writeFieldName(entry.getKey());
+					aProvider.defaultSerializeValue(entry.getValue(), aGenerator);
+				}
+			}
+			aGenerator.writeEndObject();
+		}
+	}
+
+	/**
+	 * {@link Collection} view of the map that marks it as modified when elements
+	 * are removed
+	 *
+	 * @param <E>
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private class TrackedCollection<E> extends AbstractCollection<E> {
+		/**
+		 * view of the underlying map
+		 */
+		private final Collection<E> view;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aView
+		 */
+		TrackedCollection(Collection<E> aView) {
+			this.view = aView;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			Iterator<E> iterator = this.view.iterator();
+			return new Iterator<>() {
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public E next() {
+					return track(iterator.next());
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+					LazyDataMap.this.modified = true;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return this.view.size();
+		}
+
+		@Override
+		public boolean contains(Object aObject) {
+			return this.view.contains(aObject);
+		}
+
+		@Override
+		public boolean remove(Object aObject) {
+			boolean removed = this.view.remove(aObject);
+			LazyDataMap.this.modified |= removed;
+			return removed;
+		}
+
+		@Override
+		public void clear() {
+			LazyDataMap.this.modified |= !this.view.isEmpty();
+			this.view.clear();
+		}
+
+		@Override
+		public boolean equals(Object aObject) {
+			return (aObject == this) || this.view.equals(aObject);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.view.hashCode();
+		}
+
+		/**
+		 * @param aElement
+		 * @return element to be returned by the iterator
+		 */
+		E track(E aElement) {
+			return aElement;
+		}
+	}
+
+	/**
+	 * {@link Set} view of the map that marks it as modified when elements are
+	 * removed
+	 *
+	 * @param <E>
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private class TrackedSet<E> extends TrackedCollection<E> implements Set<E> {
+		/**
+		 * default constructor
+		 *
+		 * @param aView
+		 */
+		TrackedSet(Set<E> aView) {
+			super(aView);
+		}
+	}
+
+	/**
+	 * Entry set view of the map that also marks it as modified when an entry value
+	 * is set
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private final class TrackedEntrySet extends TrackedSet<Entry<String, Object>> {
+		/**
+		 * default constructor
+		 *
+		 * @param aView
+		 */
+		TrackedEntrySet(Set<Entry<String, Object>> aView) {
+			super(aView);
+		}
+
+		@Override
+		Entry<String, Object> track(Entry<String, Object> aEntry) {
+			return new Entry<>() {
+				@Override
+				public String getKey() {
+					return aEntry.getKey();
+				}
+
+				@Override
+				public Object getValue() {
+					return aEntry.getValue();
+				}
+
+				@Override
+				public Object setValue(Object aValue) {
+					LazyDataMap.this.modified = true;
+					return aEntry.setValue(aValue);
+				}
+
+				@Override
+				public boolean equals(Object aObject) {
+					return (aObject == this) || aEntry.equals(aObject);
+				}
+
+				@Override
+				public int hashCode() {
+					return aEntry.hashCode();
+				}
+
+				@Override
+				public String toString() {
+					return aEntry.toString();
+				}
+			};
+		}
+	}
+
+	/**
+	 * {@link SerializableString} over raw UTF-8 encoded JSON, so that byte based
+	 * generators copy the bytes without decoding them. Character based generators
+	 * decode them once.
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class RawJSON implements SerializableString {
+		/**
+		 * UTF-8 bytes
+		 */
+		private final byte[] bytes;
+
+		/**
+		 * decoded value, created on first use
+		 */
+		private String value = null;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aBytes
+		 */
+		RawJSON(byte[] aBytes) {
+			this.bytes = aBytes;
+		}
+
+		@Override
+		public String getValue() {
+			if (this.value == null) {
+				this.value = new String(this.bytes, StandardCharsets.UTF_8);
+			}
+
+			return this.value;
+		}
+
+		@Override
+		public int charLength() {
+			return getValue().length();
+		}
+
+		@Override
+		public byte[] asUnquotedUTF8() {
+			return Arrays.copyOf(this.bytes, this.bytes.length);
+		}
+
+		@Override
+		public int appendUnquotedUTF8(byte[] aBuffer, int aOffset) {
+			if (this.bytes.length > (aBuffer.length - aOffset)) {
+				return -1;
+			}
+
+			System.arraycopy(this.bytes, 0, aBuffer, aOffset, this.bytes.length);
+			return this.bytes.length;
+		}
+
+		@Override
+		public int appendUnquoted(char[] aBuffer, int aOffset) {
+			String string = getValue();
+			if (string.length() > (aBuffer.length - aOffset)) {
+				return -1;
+			}
+
+			string.getChars(0, string.length(), aBuffer, aOffset);
+			return string.length();
+		}
+
+		@Override
+		public int writeUnquotedUTF8(OutputStream aOutputStream) throws IOException {
+			aOutputStream.write(this.bytes);
+			return this.bytes.length;
+		}
+
+		@Override
+		public int putUnquotedUTF8(ByteBuffer aBuffer) {
+			if (this.bytes.length > aBuffer.remaining()) {
+				return -1;
+			}
+
+			aBuffer.put(this.bytes);
+			return this.bytes.length;
+		}
+
+		/*
+		 * Quoted forms are not used for raw values, and are delegated to a
+		 * SerializedString of the decoded value.
+		 */
+		@Override
+		public char[] asQuotedChars() {
+			return new SerializedString(getValue()).asQuotedChars();
+		}
+
+		@Override
+		public byte[] asQuotedUTF8() {
+			return new SerializedString(getValue()).asQuotedUTF8();
+		}
+
+		@Override
+		public int appendQuotedUTF8(byte[] aBuffer, int aOffset) {
+			return new SerializedString(getValue()).appendQuotedUTF8(aBuffer, aOffset);
+		}
+
+		@Override
+		public int appendQuoted(char[] aBuffer, int aOffset) {
+			return new SerializedString(getValue()).appendQuoted(aBuffer, aOffset);
+		}
+
+		@Override
+		public int writeQuotedUTF8(OutputStream aOutputStream) throws IOException {
+			return new SerializedString(getValue()).writeQuotedUTF8(aOutputStream);
+		}
+
+		@Override
+		public int putQuotedUTF8(ByteBuffer aBuffer) {
+			return new SerializedString(getValue()).putQuotedUTF8(aBuffer);
+		}
+	}
+}
@@ -0,0 +1,572 @@
+package accelerate.commons.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import accelerate.commons.exception.ApplicationException;
+import accelerate.commons.util.StringUtils;
+
+/**
+ * Class providing methods to stream the rows of delimited text, like CSV or
+ * TSV, as {@link DataMap} or {@link DataBean} instances. The first line is read
+ * as the header, and its column names are used as keys for all rows. Rows are
+ * parsed lazily as the returned {@link Stream} is consumed, so memory use does
+ * not grow with the size of the source.
+ * <p>
+ * Fields may be quoted with double quotes, and a doubled quote inside a quoted
+ * field is read as a single quote. Empty fields are skipped, and fields beyond
+ * the header length are ignored.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class TabularDataReader {
+	/**
+	 * Comma delimiter
+	 */
+	public static final char CSV = ',';
+
+	/**
+	 * Tab delimiter
+	 */
+	public static final char TSV = '\t';
+
+	/**
+	 * Minimum size of a chunk for parallel parsing
+	 */
+	private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+	/**
+	 * This method streams the rows of the given reader as {@link DataMap}
+	 * instances. The reader is closed when the stream is closed.
+	 *
+	 * @param aReader
+	 * @param aDelimiter
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static Stream<DataMap> streamMaps(Reader aReader, char aDelimiter) throws ApplicationException {
+		return streamRows(aReader, aDelimiter, DataMap::new, TabularDataReader::putMap);
+	}
+
+	/**
+	 * This method streams the rows of the given reader as {@link DataBean}
+	 * instances created by the given supplier. The reader is closed when the
+	 * stream is closed.
+	 *
+	 * @param <T>
+	 * @param aReader
+	 * @param aDelimiter
+	 * @param aBeanSupplier
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static <T extends DataBean> Stream<T> streamBeans(Reader aReader, char aDelimiter,
+			Supplier<T> aBeanSupplier) throws ApplicationException {
+		return streamRows(aReader, aDelimiter, aBeanSupplier, TabularDataReader::putBean);
+	}
+
+	/**
+	 * This method streams the rows of the given file as {@link DataMap} instances.
+	 * With aParallel set, the file is split into chunks at line boundaries and the
+	 * chunks are parsed in parallel. Quoted fields must not contain line breaks in
+	 * that case.
+	 *
+	 * @param aPath      UTF-8 encoded file
+	 * @param aDelimiter
+	 * @param aParallel
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static Stream<DataMap> streamMaps(Path aPath, char aDelimiter, boolean aParallel)
+			throws ApplicationException {
+		return streamRows(aPath, aDelimiter, aParallel, DataMap::new, TabularDataReader::putMap);
+	}
+
+	/**
+	 * This method streams the rows of the given file as {@link DataBean} instances
+	 * created by the given supplier. With aParallel set, the file is split into
+	 * chunks at line boundaries and the chunks are parsed in parallel. Quoted
+	 * fields must not contain line breaks in that case.
+	 *
+	 * @param <T>
+	 * @param aPath         UTF-8 encoded file
+	 * @param aDelimiter
+	 * @param aParallel
+	 * @param aBeanSupplier
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static <T extends DataBean> Stream<T> streamBeans(Path aPath, char aDelimiter, boolean aParallel,
+			Supplier<T> aBeanSupplier) throws ApplicationException {
+		return streamRows(aPath, aDelimiter, aParallel, aBeanSupplier, TabularDataReader::putBean);
+	}
+
+	/**
+	 * @param <T>
+	 * @param aReader
+	 * @param aDelimiter
+	 * @param aSupplier
+	 * @param aSetter
+	 * @return
+	 * @throws ApplicationException
+	 */
+	private static <T> Stream<T> streamRows(Reader aReader, char aDelimiter, Supplier<T> aSupplier,
+			RowSetter<T> aSetter) throws ApplicationException {
+		BufferedReader reader = (aReader instanceof BufferedReader) ? (BufferedReader) aReader
+				: new BufferedReader(aReader);
+		try {
+			RowParser parser = new RowParser(reader, aDelimiter);
+			String[] header = parser.next();
+			if (header == null) {
+				reader.close();
+				return Stream.empty();
+			}
+
+			return StreamSupport.stream(new RowSpliterator<>(parser, header, aSupplier, aSetter), false)
+					.onClose(() -> close(reader));
+		} catch (IOException error) {
+			close(reader);
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * @param <T>
+	 * @param aPath
+	 * @param aDelimiter
+	 * @param aParallel
+	 * @param aSupplier
+	 * @param aSetter
+	 * @return
+	 * @throws ApplicationException
+	 */
+	private static <T> Stream<T> streamRows(Path aPath, char aDelimiter, boolean aParallel, Supplier<T> aSupplier,
+			RowSetter<T> aSetter) throws ApplicationException {
+		if (!aParallel) {
+			try {
+				return streamRows(Files.newBufferedReader(aPath, StandardCharsets.UTF_8), aDelimiter, aSupplier,
+						aSetter);
+			} catch (IOException error) {
+				throw new ApplicationException(error);
+			}
+		}
+
+		String[] header;
+		long[] boundaries;
+		try (FileChannel channel = FileChannel.open(aPath, StandardOpenOption.READ)) {
+			RowParser parser = new RowParser(
+					new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), -1)),
+					aDelimiter);
+			header = parser.next();
+			if (header == null) {
+				return Stream.empty();
+			}
+
+			boundaries = chunkBoundaries(channel, headerLength(channel));
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		}
+
+		LOGGER.debug("Parsing [{}] in {} chunks", aPath, boundaries.length - 1);
+		return IntStream.range(0, boundaries.length - 1).parallel().boxed().flatMap(aChunk -> {
+			BufferedReader reader = openChunk(aPath, boundaries[aChunk], boundaries[aChunk + 1]);
+			return StreamSupport
+					.stream(new RowSpliterator<>(new RowParser(reader, aDelimiter), header, aSupplier, aSetter), false)
+					.onClose(() -> close(reader));
+		});
+	}
+
+	/**
+	 * This method returns the byte length of the header line, including the line
+	 * break
+	 *
+	 * @param aChannel
+	 * @return
+	 * @throws IOException
+	 */
+	private static long headerLength(FileChannel aChannel) throws IOException {
+		long position = nextLineStart(aChannel, 0);
+		return (position < 0) ? aChannel.size() : position;
+	}
+
+	/**
+	 * This method splits the given file, after the header, into chunks that start
+	 * at line boundaries
+	 *
+	 * @param aChannel
+	 * @param aStart
+	 * @return positions of the chunk starts, followed by the file size
+	 * @throws IOException
+	 */
+	private static long[] chunkBoundaries(FileChannel aChannel, long aStart) throws IOException {
+		long size = aChannel.size();
+		int chunks = (int) Math.max(1,
+				Math.min(Runtime.getRuntime().availableProcessors(), (size - aStart) / MIN_CHUNK_SIZE));
+		long chunkSize = (size - aStart) / chunks;
+
+		List<Long> boundaries = new ArrayList<>();
+		boundaries.add(aStart);
+		for (int idx = 1; idx < chunks; idx++) {
+			long position = nextLineStart(aChannel, Math.max(aStart + (idx * chunkSize),
+					boundaries.get(boundaries.size() - 1)));
+			if ((position < 0) || (position >= size)) {
+				break;
+			}
+
+			if (position > boundaries.get(boundaries.size() - 1)) {
+				boundaries.add(position);
+			}
+		}
+		boundaries.add(size);
+
+		return boundaries.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	/**
+	 * @param aChannel
+	 * @param aPosition
+	 * @return position following the next line break at or after aPosition, or -1
+	 * @throws IOException
+	 */
+	private static long nextLineStart(FileChannel aChannel, long aPosition) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long position = aPosition;
+		while (aChannel.read(buffer.clear(), position) > 0) {
+			buffer.flip();
+			while (buffer.hasRemaining()) {
+				if (buffer.get() == '\n') {
+					return position + buffer.position();
+				}
+			}
+
+			position += buffer.limit();
+		}
+
+		return -1;
+	}
+
+	/**
+	 * @param aPath
+	 * @param aStart
+	 * @param aEnd
+	 * @return {@link BufferedReader} over the given byte range of the file
+	 */
+	private static BufferedReader openChunk(Path aPath, long aStart, long aEnd) {
+		try {
+			FileChannel channel = FileChannel.open(aPath, StandardOpenOption.READ).position(aStart);
+			return new BufferedReader(
+					new InputStreamReader(new ChunkInputStream(channel, aEnd - aStart), StandardCharsets.UTF_8));
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * @param aReader
+	 */
+	private static void close(Reader aReader) {
+		try {
+			aReader.close();
+		} catch (IOException error) {
+			throw new UncheckedIOException(error);
+		}
+	}
+
+	/**
+	 * @param aDataMap
+	 * @param aKey
+	 * @param aValue
+	 */
+	private static void putMap(DataMap aDataMap, String aKey, String aValue) {
+		aDataMap.put(aKey, aValue);
+	}
+
+	/**
+	 * @param aDataBean
+	 * @param aKey
+	 * @param aValue
+	 */
+	private static void putBean(DataBean aDataBean, String aKey, String aValue) {
+		aDataBean.add(aKey, aValue);
+	}
+
+	/**
+	 * Function to store a value in a row instance
+	 *
+	 * @param <T> row type
+	 */
+	@FunctionalInterface
+	private interface RowSetter<T> {
+		/**
+		 * @param aRow
+		 * @param aKey
+		 * @param aValue
+		 */
+		void set(T aRow, String aKey, String aValue);
+	}
+
+	/**
+	 * {@link InputStream} reading a fixed number of bytes from a
+	 * {@link FileChannel}
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class ChunkInputStream extends InputStream {
+		/**
+		 * source stream
+		 */
+		private final InputStream source;
+
+		/**
+		 * number of bytes left to read
+		 */
+		private long remaining;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aChannel  channel positioned at the start of the chunk
+		 * @param aLength
+		 */
+		ChunkInputStream(FileChannel aChannel, long aLength) {
+			this.source = Channels.newInputStream(aChannel);
+			this.remaining = aLength;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+
+			this.remaining--;
+			return this.source.read();
+		}
+
+		@Override
+		public int read(byte[] aBuffer, int aOffset, int aLength) throws IOException {
+			if (this.remaining <= 0) {
+				return -1;
+			}
+
+			int count = this.source.read(aBuffer, aOffset, (int) Math.min(aLength, this.remaining));
+			if (count > 0) {
+				this.remaining -= count;
+			}
+
+			return count;
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.source.close();
+		}
+	}
+
+	/**
+	 * {@link Spliterator} converting parsed rows to row instances using the header
+	 * layout
+	 *
+	 * @param <T> row type
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class RowSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+		/**
+		 * parser of the source
+		 */
+		private final RowParser parser;
+
+		/**
+		 * column names
+		 */
+		private final String[] header;
+
+		/**
+		 * supplier of new row instances
+		 */
+		private final Supplier<T> supplier;
+
+		/**
+		 * setter for column values
+		 */
+		private final RowSetter<T> setter;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aParser
+		 * @param aHeader
+		 * @param aSupplier
+		 * @param aSetter
+		 */
+		RowSpliterator(RowParser aParser, String[] aHeader, Supplier<T> aSupplier, RowSetter<T> aSetter) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.parser = aParser;
+			this.header = aHeader;
+			this.supplier = aSupplier;
+			this.setter = aSetter;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> aAction) {
+			String[] values;
+			try {
+				values = this.parser.next();
+			} catch (IOException error) {
+				throw new ApplicationException(error);
+			}
+
+			if (values == null) {
+				return false;
+			}
+
+			T row = this.supplier.get();
+			int length = Math.min(values.length, this.header.length);
+			for (int idx = 0; idx < length; idx++) {
+				if (!StringUtils.isEmpty(values[idx])) {
+					this.setter.set(row, this.header[idx], values[idx]);
+				}
+			}
+
+			aAction.accept(row);
+			return true;
+		}
+	}
+
+	/**
+	 * Parser splitting delimited lines into fields. Buffers are reused across
+	 * rows.
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class RowParser {
+		/**
+		 * source reader
+		 */
+		private final BufferedReader reader;
+
+		/**
+		 * field delimiter
+		 */
+		private final char delimiter;
+
+		/**
+		 * buffer for the current field
+		 */
+		private final StringBuilder field = new StringBuilder();
+
+		/**
+		 * fields of the current row
+		 */
+		private final List<String> fields = new ArrayList<>();
+
+		/**
+		 * default constructor
+		 *
+		 * @param aReader
+		 * @param aDelimiter
+		 */
+		RowParser(BufferedReader aReader, char aDelimiter) {
+			this.reader = aReader;
+			this.delimiter = aDelimiter;
+		}
+
+		/**
+		 * This method returns the fields of the next non-empty row
+		 *
+		 * @return fields, or null at the end of the source
+		 * @throws IOException
+		 */
+		String[] next() throws IOException {
+			String line;
+			do {
+				line = this.reader.readLine();
+				if (line == null) {
+					return null;
+				}
+			} while (line.isEmpty());
+
+			this.fields.clear();
+			this.field.setLength(0);
+			boolean quoted = false;
+			while (true) {
+				int length = line.length();
+				for (int idx = 0; idx < length; idx++) {
+					char ch = line.charAt(idx);
+					if (quoted) {
+						if (ch != '"') {
+							this.field.append(ch);
+						} else if ((idx + 1 < length) && (line.charAt(idx + 1) == '"')) {
+							this.field.append('"');
+							idx++;
+						} else {
+							quoted = false;
+						}
+					} else if (ch == this.delimiter) {
+						this.fields.add(this.field.toString());
+						this.field.setLength(0);
+					} else if ((ch == '"') && (this.field.length() == 0)) {
+						quoted = true;
+					} else {
+						this.field.append(ch);
+					}
+				}
+
+				if (!quoted) {
+					break;
+				}
+
+				line = this.reader.readLine();
+				if (line == null) {
+					throw new ApplicationException("Unterminated quoted field");
+				}
+				this.field.append('\n');
+			}
+
+			this.fields.add(this.field.toString());
+			return this.fields.toArray(new String[this.fields.size()]);
+		}
+	}
+
+	/**
+	 * {@link Logger} instance
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(TabularDataReader.class);
+
+	/**
+	 * hidden constructor
+	 */
+	private TabularDataReader() {
+	}
+}
@@ -0,0 +1,185 @@
+package accelerate.commons.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * Class providing methods to read the class index written at compile time by
+ * the {@code ClassIndexProcessor}, which is shipped in the separate
+ * "processor" artifact of this library. It replaces classpath scanning at
+ * startup with reading one small resource per jar.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class ClassIndex {
+	/**
+	 * Resource path of the index files. Each file is named after an annotation and
+	 * lists one class name per line.
+	 */
+	public static final String INDEX_PATH = "META-INF/accelerate/index/";
+
+	/**
+	 * Cache of class names by class loader and annotation name
+	 */
+	private static final Map<ClassLoader, Map<String, List<String>>> INDEX_CACHE = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * This method returns the names of the classes indexed under the given
+	 * annotation, using the context class loader
+	 *
+	 * @param aAnnotation
+	 * @return
+	 * @throws ApplicationException on I/O errors
+	 */
+	public static List<String> getClassNames(Class<? extends Annotation> aAnnotation) throws ApplicationException {
+		return getClassNames(aAnnotation, defaultClassLoader());
+	}
+
+	/**
+	 * This method returns the names of the classes indexed under the given
+	 * annotation in all index files visible to the given class loader
+	 *
+	 * @param aAnnotation
+	 * @param aClassLoader
+	 * @return
+	 * @throws ApplicationException on I/O errors
+	 */
+	public static List<String> getClassNames(Class<? extends Annotation> aAnnotation, ClassLoader aClassLoader)
+			throws ApplicationException {
+		Map<String, List<String>> cache = INDEX_CACHE.computeIfAbsent(aClassLoader,
+				aKey -> new ConcurrentHashMap<>());
+		return cache.computeIfAbsent(aAnnotation.getName(), aKey -> readIndex(aKey, aClassLoader));
+	}
+
+	/**
+	 * This method returns the classes indexed under the given annotation, using
+	 * the context class loader. Classes that cannot be loaded, or no longer carry
+	 * the annotation, are skipped.
+	 *
+	 * @param aAnnotation
+	 * @return
+	 * @throws ApplicationException on I/O errors
+	 */
+	public static List<Class<?>> getClasses(Class<? extends Annotation> aAnnotation) throws ApplicationException {
+		return getClasses(aAnnotation, defaultClassLoader());
+	}
+
+	/**
+	 * This method returns the classes indexed under the given annotation. Classes
+	 * that cannot be loaded, or no longer carry the annotation, are skipped, as
+	 * the index may be stale after an incremental build.
+	 *
+	 * @param aAnnotation
+	 * @param aClassLoader
+	 * @return
+	 * @throws ApplicationException on I/O errors
+	 */
+	public static List<Class<?>> getClasses(Class<? extends Annotation> aAnnotation, ClassLoader aClassLoader)
+			throws ApplicationException {
+		List<Class<?>> classes = new ArrayList<>();
+		for (String className : getClassNames(aAnnotation, aClassLoader)) {
+			try {
+				Class<?> indexedClass = Class.forName(className, false, aClassLoader);
+				if (indexedClass.isAnnotationPresent(aAnnotation)) {
+					classes.add(indexedClass);
+				} else {
+					LOGGER.debug("Skipping indexed class {}: not annotated with {}", className, aAnnotation);
+				}
+			} catch (ClassNotFoundException | LinkageError error) {
+				LOGGER.debug("Skipping indexed class {}: {}", className, error.getMessage());
+			}
+		}
+
+		return classes;
+	}
+
+	/**
+	 * This method returns the indexed classes under the given annotation that are
+	 * subtypes of the given type, using the context class loader
+	 *
+	 * @param <T>
+	 * @param aAnnotation
+	 * @param aSuperType
+	 * @return
+	 * @throws ApplicationException on I/O errors
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<Class<? extends T>> getSubclasses(Class<? extends Annotation> aAnnotation,
+			Class<T> aSuperType) throws ApplicationException {
+		List<Class<? extends T>> classes = new ArrayList<>();
+		for (Class<?> indexedClass : getClasses(aAnnotation)) {
+			if (aSuperType.isAssignableFrom(indexedClass)) {
+				classes.add((Class<? extends T>) indexedClass);
+			}
+		}
+
+		return classes;
+	}
+
+	/**
+	 * @param aAnnotationName
+	 * @param aClassLoader
+	 * @return
+	 * @throws ApplicationException
+	 */
+	private static List<String> readIndex(String aAnnotationName, ClassLoader aClassLoader)
+			throws ApplicationException {
+		Set<String> classNames = new LinkedHashSet<>();
+		try {
+			Enumeration<URL> resources = aClassLoader.getResources(INDEX_PATH + aAnnotationName);
+			while (resources.hasMoreElements()) {
+				URL resource = resources.nextElement();
+				try (BufferedReader reader = new BufferedReader(
+						new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+					reader.lines().map(String::trim).filter(aLine -> !aLine.isEmpty() && !aLine.startsWith("#"))
+							.forEach(classNames::add);
+				}
+			}
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		}
+
+		LOGGER.debug("Read {} indexed classes for {}", classNames.size(), aAnnotationName);
+		return Collections.unmodifiableList(new ArrayList<>(classNames));
+	}
+
+	/**
+	 * @return context class loader, or the loader of this class
+	 */
+	private static ClassLoader defaultClassLoader() {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		return (classLoader == null) ? ClassIndex.class.getClassLoader() : classLoader;
+	}
+
+	/**
+	 * {@link Logger} instance
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ClassIndex.class);
+
+	/**
+	 * hidden constructor
+	 */
+	private ClassIndex() {
+	}
+}
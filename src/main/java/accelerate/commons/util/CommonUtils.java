@@ -3,6 +3,8 @@ package accelerate.commons.util;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -190,6 +192,110 @@ public final class CommonUtils {
 		return false;
 	}
 
+	/**
+	 * This method converts the given number to the given boxed number type, if the
+	 * value can be represented exactly. Numbers are never narrowed, so a
+	 * {@link Long} above {@link Integer#MAX_VALUE}, or 1.5, cannot be converted
+	 * to {@link Integer}.
+	 *
+	 * @param <T>
+	 * @param aNumber
+	 * @param aType   {@link Integer}, {@link Long}, {@link Short}, {@link Byte},
+	 *                {@link Double} or {@link Float}
+	 * @return converted number, or null if the type is not supported or the
+	 *         value cannot be represented exactly
+	 */
+	public static <T extends Number> T convertNumber(Number aNumber, Class<T> aType) {
+		if ((aNumber == null) || aType.isInstance(aNumber)) {
+			return aType.cast(aNumber);
+		}
+
+		try {
+			if ((aNumber instanceof Integer) || (aNumber instanceof Long) || (aNumber instanceof Short)
+					|| (aNumber instanceof Byte)) {
+				return aType.cast(convertLong(aNumber.longValue(), aType));
+			}
+
+			if (((aNumber instanceof Double) || (aNumber instanceof Float))
+					&& !Double.isFinite(aNumber.doubleValue())) {
+				return aType.cast((aType == Double.class) ? (Object) aNumber.doubleValue()
+						: (aType == Float.class) ? (Object) aNumber.floatValue() : null);
+			}
+
+			return aType.cast(convertDecimal(toBigDecimal(aNumber), aType));
+		} catch (ArithmeticException | NumberFormatException error) {
+			LOGGER.trace("convertNumber: {} to {}: {}", aNumber, aType, error.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * @param aValue
+	 * @param aType
+	 * @return value converted to the given type, or null
+	 * @throws ArithmeticException if the value does not fit the type
+	 */
+	private static Number convertLong(long aValue, Class<?> aType) {
+		if (aType == Long.class) {
+			return aValue;
+		} else if (aType == Integer.class) {
+			return Math.toIntExact(aValue);
+		} else if ((aType == Short.class) && ((short) aValue == aValue)) {
+			return (short) aValue;
+		} else if ((aType == Byte.class) && ((byte) aValue == aValue)) {
+			return (byte) aValue;
+		} else if ((aType == Double.class) && ((long) (double) aValue == aValue) && (aValue != Long.MAX_VALUE)) {
+			return (double) aValue;
+		} else if ((aType == Float.class) && ((long) (float) aValue == aValue) && (aValue != Long.MAX_VALUE)) {
+			return (float) aValue;
+		}
+
+		return null;
+	}
+
+	/**
+	 * @param aValue
+	 * @param aType
+	 * @return value converted to the given type, or null
+	 * @throws ArithmeticException if the value does not fit the type
+	 */
+	private static Number convertDecimal(BigDecimal aValue, Class<?> aType) {
+		if (aType == Long.class) {
+			return aValue.longValueExact();
+		} else if (aType == Integer.class) {
+			return aValue.intValueExact();
+		} else if (aType == Short.class) {
+			return aValue.shortValueExact();
+		} else if (aType == Byte.class) {
+			return aValue.byteValueExact();
+		} else if (aType == Double.class) {
+			double value = aValue.doubleValue();
+			return (Double.isFinite(value) && (new BigDecimal(value).compareTo(aValue) == 0)) ? value : null;
+		} else if (aType == Float.class) {
+			float value = aValue.floatValue();
+			return (Float.isFinite(value) && (new BigDecimal(value).compareTo(aValue) == 0)) ? value : null;
+		}
+
+		return null;
+	}
+
+	/**
+	 * @param aNumber finite number
+	 * @return exact {@link BigDecimal} value of the number
+	 * @throws NumberFormatException if the number has no decimal representation
+	 */
+	private static BigDecimal toBigDecimal(Number aNumber) {
+		if (aNumber instanceof BigDecimal) {
+			return (BigDecimal) aNumber;
+		} else if (aNumber instanceof BigInteger) {
+			return new BigDecimal((BigInteger) aNumber);
+		} else if ((aNumber instanceof Double) || (aNumber instanceof Float)) {
+			return new BigDecimal(aNumber.doubleValue());
+		}
+
+		return new BigDecimal(aNumber.toString());
+	}
+
 	/**
 	 * @param aError
 	 * @return error log
@@ -0,0 +1,138 @@
+package accelerate.commons.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * Accessor for a single field, backed by a {@link VarHandle} resolved once. It
+ * replaces toggling {@link Field#setAccessible(boolean)} on every access.
+ * Instances are cached by {@link ReflectionUtils#getFieldAccessor(Field)}.
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class FieldAccessor {
+	/**
+	 * target field
+	 */
+	private final Field field;
+
+	/**
+	 * flag to indicate a static field
+	 */
+	private final boolean staticField;
+
+	/**
+	 * handle to read and write the field
+	 */
+	private final VarHandle varHandle;
+
+	/**
+	 * setter handle of type (Object,Object)void for final instance fields, which
+	 * {@link #varHandle} cannot write
+	 */
+	private final MethodHandle finalSetter;
+
+	/**
+	 * default constructor
+	 * 
+	 * @param aField
+	 * @throws ApplicationException if the field cannot be accessed
+	 */
+	FieldAccessor(Field aField) throws ApplicationException {
+		this.field = aField;
+		this.staticField = Modifier.isStatic(aField.getModifiers());
+
+		try {
+			MethodHandles.Lookup lookup = ReflectionUtils.lookup(aField.getDeclaringClass());
+			this.varHandle = lookup.unreflectVarHandle(aField);
+			this.finalSetter = (Modifier.isFinal(aField.getModifiers()) && !this.staticField)
+					? finalSetter(lookup, aField)
+					: null;
+		} catch (IllegalAccessException | SecurityException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * This method returns the setter of a final field. The setter is taken from a
+	 * private copy of the field, made accessible only for this purpose, so the
+	 * accessibility of the shared {@link Field} instance is not changed.
+	 *
+	 * @param aLookup
+	 * @param aField
+	 * @return setter handle of type (Object,Object)void, or null if the field
+	 *         cannot be written, as for record components
+	 */
+	private static MethodHandle finalSetter(MethodHandles.Lookup aLookup, Field aField) {
+		try {
+			Field field = aField.getDeclaringClass().getDeclaredField(aField.getName());
+			if (!field.trySetAccessible()) {
+				return null;
+			}
+
+			return aLookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+		} catch (NoSuchFieldException | IllegalAccessException | SecurityException error) {
+			return null;
+		}
+	}
+
+	/**
+	 * Getter method for "field" property
+	 * 
+	 * @return field
+	 */
+	public Field getField() {
+		return this.field;
+	}
+
+	/**
+	 * @param <T>
+	 * @param aTargetInstance target object, ignored for static fields
+	 * @return field value
+	 * @throws ApplicationException if the target is null or not an instance of
+	 *                              the declaring class
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object aTargetInstance) throws ApplicationException {
+		try {
+			return (T) (this.staticField ? this.varHandle.get() : this.varHandle.get(aTargetInstance));
+		} catch (NullPointerException | ClassCastException | WrongMethodTypeException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * @param aTargetInstance target object, ignored for static fields
+	 * @param aFieldValue
+	 * @throws ApplicationException if the target or value does not match the
+	 *                              field, including null for primitive fields, or
+	 *                              the field is static final
+	 */
+	public void set(Object aTargetInstance, Object aFieldValue) throws ApplicationException {
+		try {
+			if (this.staticField) {
+				this.varHandle.set(aFieldValue);
+			} else if (this.finalSetter != null) {
+				this.finalSetter.invokeExact(aTargetInstance, aFieldValue);
+			} else {
+				this.varHandle.set(aTargetInstance, aFieldValue);
+			}
+		} catch (NullPointerException | ClassCastException | WrongMethodTypeException
+				| UnsupportedOperationException error) {
+			throw new ApplicationException(error);
+		} catch (RuntimeException | Error error) {
+			throw error;
+		} catch (Throwable error) {
+			throw new ApplicationException(error);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package accelerate.commons.util;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to add a class to the compile time index read by
+ * {@link ClassIndex}. It can also be placed on another annotation, in which case
+ * all classes carrying that annotation are indexed under it. Such annotations
+ * need {@link RetentionPolicy#RUNTIME} retention to be returned by
+ * {@link ClassIndex#getClasses(Class)}.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Indexed {
+	// marker annotation
+}
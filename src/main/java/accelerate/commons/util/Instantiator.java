@@ -0,0 +1,275 @@
+package accelerate.commons.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * Instantiator for a class built through its canonical record constructor, or
+ * a constructor annotated with {@link JsonCreator}. The constructor is resolved
+ * once into a {@link MethodHandle}, along with the argument position of each
+ * key, so values can be passed straight from a {@link Map}. Instances are cached
+ * by {@link ReflectionUtils#getInstantiator(Class)}.
+ * <p>
+ * Argument names are taken from the record components, from
+ * {@link JsonProperty} on the parameters, or from the parameter names when the
+ * class is compiled with <code>-parameters</code>.
+ *
+ * @param <T> type of the instances created
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class Instantiator<T> {
+	/**
+	 * target class
+	 */
+	private final Class<T> targetClass;
+
+	/**
+	 * argument names, in constructor order
+	 */
+	private final List<String> argNames;
+
+	/**
+	 * {@link Map} of argument name to position
+	 */
+	private final Map<String, Integer> argPositions;
+
+	/**
+	 * boxed argument types
+	 */
+	private final Class<?>[] argTypes;
+
+	/**
+	 * default argument values, zero for primitives and null otherwise
+	 */
+	private final Object[] defaultArgs;
+
+	/**
+	 * constructor handle of type (Object[])Object
+	 */
+	private final MethodHandle constructor;
+
+	/**
+	 * default constructor
+	 *
+	 * @param aTargetClass
+	 * @throws ApplicationException if no suitable constructor is found, or it
+	 *                              cannot be accessed
+	 */
+	Instantiator(Class<T> aTargetClass) throws ApplicationException {
+		this.targetClass = aTargetClass;
+
+		Constructor<?> creator = findConstructor(aTargetClass);
+		Parameter[] parameters = creator.getParameters();
+		RecordComponent[] components = aTargetClass.isRecord() ? aTargetClass.getRecordComponents() : null;
+		if ((components != null) && !Arrays.equals(creator.getParameterTypes(),
+				Arrays.stream(components).map(RecordComponent::getType).toArray())) {
+			components = null;
+		}
+
+		String[] names = new String[parameters.length];
+		Map<String, Integer> positions = new HashMap<>();
+		this.argTypes = new Class<?>[parameters.length];
+		this.defaultArgs = new Object[parameters.length];
+		for (int idx = 0; idx < parameters.length; idx++) {
+			names[idx] = argName(parameters[idx], (components == null) ? null : components[idx]);
+			if (positions.put(names[idx], idx) != null) {
+				throw new ApplicationException("Duplicate argument '{}' in constructor of '{}'", names[idx],
+						aTargetClass.getName());
+			}
+
+			Class<?> type = parameters[idx].getType();
+			this.argTypes[idx] = MethodType.methodType(type).wrap().returnType();
+			this.defaultArgs[idx] = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+		}
+
+		this.argNames = Collections.unmodifiableList(Arrays.asList(names));
+		this.argPositions = Collections.unmodifiableMap(positions);
+
+		try {
+			this.constructor = ReflectionUtils.lookup(aTargetClass).unreflectConstructor(creator)
+					.asSpreader(Object[].class, parameters.length)
+					.asType(MethodType.methodType(Object.class, Object[].class));
+		} catch (IllegalAccessException | SecurityException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * Getter method for "targetClass" property
+	 *
+	 * @return targetClass
+	 */
+	public Class<T> getTargetClass() {
+		return this.targetClass;
+	}
+
+	/**
+	 * Getter method for "argNames" property
+	 *
+	 * @return argument names, in constructor order
+	 */
+	public List<String> getArgNames() {
+		return this.argNames;
+	}
+
+	/**
+	 * This method creates a new instance with the values of the given map. Keys
+	 * that do not match an argument are ignored, and missing arguments are passed
+	 * as null, or zero for primitives. Numbers are converted to the argument type
+	 * where required, as long as the value is represented exactly.
+	 *
+	 * @param aValues
+	 * @return
+	 * @throws ApplicationException if a value does not match its argument, or
+	 *                              wrapping checked exceptions thrown by the
+	 *                              constructor. Unchecked exceptions and errors
+	 *                              are rethrown as is.
+	 */
+	public T newInstance(Map<String, ?> aValues) throws ApplicationException {
+		Object[] args = this.defaultArgs.clone();
+		if (aValues != null) {
+			aValues.forEach((aKey, aValue) -> {
+				Integer position = this.argPositions.get(aKey);
+				if ((position != null) && (aValue != null)) {
+					args[position] = convert(position, aValue);
+				}
+			});
+		}
+
+		return construct(args);
+	}
+
+	/**
+	 * This method creates a new instance with the given arguments, in constructor
+	 * order
+	 *
+	 * @param aArgs
+	 * @return
+	 * @throws ApplicationException if the number or types of arguments do not
+	 *                              match, or wrapping checked exceptions thrown by
+	 *                              the constructor. Unchecked exceptions and
+	 *                              errors are rethrown as is.
+	 */
+	public T newInstance(Object... aArgs) throws ApplicationException {
+		int count = (aArgs == null) ? 0 : aArgs.length;
+		if (count != this.defaultArgs.length) {
+			throw new ApplicationException("Expected {} arguments for '{}', found {}", this.defaultArgs.length,
+					this.targetClass.getName(), count);
+		}
+
+		Object[] args = this.defaultArgs.clone();
+		for (int idx = 0; idx < count; idx++) {
+			if (aArgs[idx] != null) {
+				args[idx] = convert(idx, aArgs[idx]);
+			}
+		}
+
+		return construct(args);
+	}
+
+	/**
+	 * @param aArgs
+	 * @return
+	 */
+	private T construct(Object[] aArgs) {
+		try {
+			return this.targetClass.cast((Object) this.constructor.invokeExact(aArgs));
+		} catch (RuntimeException | Error error) {
+			throw error;
+		} catch (Throwable error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * @param aPosition
+	 * @param aValue    non-null value
+	 * @return value converted to the argument type where required
+	 * @throws ApplicationException if the value does not match the type, or a
+	 *                              number cannot be converted without loss
+	 */
+	private Object convert(int aPosition, Object aValue) {
+		Class<?> type = this.argTypes[aPosition];
+		if (type.isInstance(aValue)) {
+			return aValue;
+		}
+
+		if ((aValue instanceof Number) && Number.class.isAssignableFrom(type)) {
+			Number number = CommonUtils.convertNumber((Number) aValue, type.asSubclass(Number.class));
+			if (number != null) {
+				return number;
+			}
+		}
+
+		throw new ApplicationException("Cannot assign {} to argument '{}' of type {}", aValue.getClass().getName(),
+				this.argNames.get(aPosition), type.getName());
+	}
+
+	/**
+	 * @param aTargetClass
+	 * @return constructor annotated with {@link JsonCreator}, else the canonical
+	 *         record constructor
+	 * @throws ApplicationException if neither is found
+	 */
+	private static Constructor<?> findConstructor(Class<?> aTargetClass) throws ApplicationException {
+		for (Constructor<?> constructor : aTargetClass.getDeclaredConstructors()) {
+			JsonCreator creator = constructor.getAnnotation(JsonCreator.class);
+			if ((creator != null) && (creator.mode() != JsonCreator.Mode.DISABLED)) {
+				return constructor;
+			}
+		}
+
+		if (aTargetClass.isRecord()) {
+			Class<?>[] componentTypes = Arrays.stream(aTargetClass.getRecordComponents())
+					.map(RecordComponent::getType).toArray(Class<?>[]::new);
+			try {
+				return aTargetClass.getDeclaredConstructor(componentTypes);
+			} catch (NoSuchMethodException | SecurityException error) {
+				throw new ApplicationException(error);
+			}
+		}
+
+		throw new ApplicationException("No record or @JsonCreator constructor found for '{}'",
+				aTargetClass.getName());
+	}
+
+	/**
+	 * @param aParameter
+	 * @param aComponent matching record component, or null
+	 * @return
+	 * @throws ApplicationException if the name cannot be determined
+	 */
+	private static String argName(Parameter aParameter, RecordComponent aComponent) throws ApplicationException {
+		JsonProperty property = aParameter.getAnnotation(JsonProperty.class);
+		if ((property != null) && !property.value().isEmpty()) {
+			return property.value();
+		}
+
+		if (aComponent != null) {
+			return aComponent.getName();
+		}
+
+		if (!aParameter.isNamePresent()) {
+			throw new ApplicationException("Name of parameter {} of '{}' not found, add @JsonProperty",
+					aParameter.getName(), aParameter.getDeclaringExecutable());
+		}
+
+		return aParameter.getName();
+	}
+}
@@ -3,17 +3,20 @@ package accelerate.commons.util;
 import static accelerate.commons.constant.CommonConstants.EMPTY_STRING;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.ser.PropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
@@ -38,6 +41,13 @@ public final class JacksonUtils {
 	 */
 	private static ObjectMapper jsonMapper = configureMapper(new ObjectMapper());
 
+	/**
+	 * {@link ObjectMapper} to be used for JSON merge patches. It retains null map
+	 * entries as they mark removed keys.
+	 */
+	private static ObjectMapper jsonPatchMapper = configureMapper(new ObjectMapper())
+			.setDefaultPropertyInclusion(JsonInclude.Value.construct(Include.NON_NULL, Include.ALWAYS));
+
 	/**
 	 * Default {@link ObjectMapper} to be used for all XML serialization
 	 */
@@ -194,6 +204,41 @@ public final class JacksonUtils {
 		}
 	}
 
+	/**
+	 * This method converts the given map to a JSON merge patch (RFC 7386) string.
+	 * Unlike {@link #toJSON(Object)}, entries with null values are retained as
+	 * they mark keys to be removed.
+	 *
+	 * @param aPatch {@link Map} of changed keys
+	 * @return JSON string
+	 * @throws ApplicationException
+	 */
+	public static String toJSONMergePatch(Map<String, ?> aPatch) throws ApplicationException {
+		return serialize(jsonPatchMapper, aPatch);
+	}
+
+	/**
+	 * This method updates the properties of the given object with the values in
+	 * the given map. Null values are applied as well.
+	 *
+	 * @param <T>     Any subclass of {@link Object}
+	 * @param aObject Object to be updated
+	 * @param aValues {@link Map} of property names and values
+	 * @return updated instance
+	 * @throws ApplicationException
+	 */
+	public static <T> T updateValue(T aObject, Map<String, ?> aValues) throws ApplicationException {
+		if ((aObject == null) || CommonUtils.isEmpty(aValues)) {
+			return aObject;
+		}
+
+		try {
+			return jsonPatchMapper.updateValue(aObject, aValues);
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
 	/**
 	 * This method converts the given object to JSON string, excluding all the given
 	 * field names
@@ -278,6 +323,83 @@ public final class JacksonUtils {
 		return serializeExcept(aObject, aMapper, aExcludedFields);
 	}
 
+	/**
+	 * This method returns a reusable {@link ObjectWriter} that converts instances
+	 * of the given class to JSON string, excluding all the given field names
+	 *
+	 * @param aClass          {@link Class} of the objects to be converted
+	 * @param aExcludedFields Fields to be excluded from the JSON string
+	 * @return {@link ObjectWriter} instance
+	 */
+	public static ObjectWriter jsonWriterExcludeFields(Class<?> aClass, String... aExcludedFields) {
+		return writerExcept(aClass, jsonMapper.copy(), aExcludedFields);
+	}
+
+	/**
+	 * This method returns a reusable {@link ObjectWriter} that converts instances
+	 * of the given class to XML string, excluding all the given field names
+	 *
+	 * @param aClass          {@link Class} of the objects to be converted
+	 * @param aExcludedFields Fields to be excluded from the XML string
+	 * @return {@link ObjectWriter} instance
+	 */
+	public static ObjectWriter xmlWriterExcludeFields(Class<?> aClass, String... aExcludedFields) {
+		return writerExcept(aClass, xmlMapper.copy(), aExcludedFields);
+	}
+
+	/**
+	 * This method returns a reusable {@link ObjectWriter} that converts instances
+	 * of the given class to YAML string, excluding all the given field names
+	 *
+	 * @param aClass          {@link Class} of the objects to be converted
+	 * @param aExcludedFields Fields to be excluded from the YAML string
+	 * @return {@link ObjectWriter} instance
+	 */
+	public static ObjectWriter yamlWriterExcludeFields(Class<?> aClass, String... aExcludedFields) {
+		return writerExcept(aClass, yamlMapper.copy(), aExcludedFields);
+	}
+
+	/**
+	 * This method converts the given object to string using the given writer, as
+	 * returned by {@link #jsonWriterExcludeFields(Class, String...)} and its XML /
+	 * YAML counterparts
+	 *
+	 * @param aWriter {@link ObjectWriter} instance to use for serialization
+	 * @param aObject Object to be converted to string
+	 * @return serialized string
+	 * @throws ApplicationException
+	 */
+	public static String write(ObjectWriter aWriter, Object aObject) throws ApplicationException {
+		if (aObject == null) {
+			return EMPTY_STRING;
+		}
+
+		try {
+			return aWriter.writeValueAsString(aObject);
+		} catch (JsonProcessingException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * This method registers the property filter for the given class on the mapper
+	 * instance provided and returns a writer excluding the given field names
+	 *
+	 * @param <T>             {@link ObjectMapper} or subtype like {@link XmlMapper}
+	 *                        / {@link YAMLMapper}
+	 *
+	 * @param aClass
+	 * @param aMapper
+	 * @param aExcludedFields Field names to be excluded
+	 * @return
+	 */
+	private static <T extends ObjectMapper> ObjectWriter writerExcept(Class<?> aClass, T aMapper,
+			String... aExcludedFields) {
+		aMapper.addMixIn(aClass, PropertyFilterMixIn.class);
+		return aMapper.writer(
+				new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAllExcept(aExcludedFields)));
+	}
+
 	/**
 	 * This is method serializes the given object using the mapper instance
 	 * provided. It is common for JSON/XML/YAML converion
@@ -298,11 +420,7 @@ public final class JacksonUtils {
 		}
 
 		try {
-			aMapper.addMixIn(aObject.getClass(), PropertyFilterMixIn.class);
-			String jsonString = aMapper
-					.writer(new SimpleFilterProvider()
-							.setDefaultFilter(SimpleBeanPropertyFilter.serializeAllExcept(aExcludedFields)))
-					.writeValueAsString(aObject);
+			String jsonString = writerExcept(aObject.getClass(), aMapper, aExcludedFields).writeValueAsString(aObject);
 			LOGGER.trace("serializeExcept: {} | {} | {}", aObject, aExcludedFields, jsonString);
 
 			return jsonString;
@@ -461,6 +579,31 @@ public final class JacksonUtils {
 		return deserialize(aMapper, aJSONString, aClass);
 	}
 
+	/**
+	 * This method parses the given range of UTF-8 bytes and returns an instance of
+	 * the given class loaded with data
+	 *
+	 * @param <T>     Any subclass of {@link Object}
+	 * @param aBytes  UTF-8 encoded JSON
+	 * @param aOffset position of the value
+	 * @param aLength length of the value
+	 * @param aClass  {@link Class} which should be instantiated from the JSON
+	 * @return loaded instance
+	 * @throws ApplicationException
+	 */
+	public static <T> T fromJSON(byte[] aBytes, int aOffset, int aLength, Class<T> aClass)
+			throws ApplicationException {
+		if (CommonUtils.isEmpty(aBytes)) {
+			return null;
+		}
+
+		try {
+			return jsonMapper.readValue(aBytes, aOffset, aLength, aClass);
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
 	/**
 	 * This method parses the given XML string and returns an instance of the given
 	 * class loaded with data
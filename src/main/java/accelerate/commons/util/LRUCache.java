@@ -0,0 +1,94 @@
+package accelerate.commons.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded cache evicting the least recently used entry when full. Entries are
+ * held in an access-ordered {@link LinkedHashMap} guarded by the cache's
+ * monitor. Values are computed outside the lock, so a value may be computed
+ * more than once under contention, but only one is kept.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class LRUCache<K, V> {
+	/**
+	 * maximum number of entries
+	 */
+	private final int maxSize;
+
+	/**
+	 * entries, in the order of access
+	 */
+	private final Map<K, V> entries;
+
+	/**
+	 * default constructor
+	 *
+	 * @param aMaxSize maximum number of entries
+	 */
+	public LRUCache(int aMaxSize) {
+		this.maxSize = aMaxSize;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> aEldest) {
+				return size() > LRUCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @param aKey
+	 * @return cached value, or null if there is none
+	 */
+	public synchronized V get(K aKey) {
+		return this.entries.get(aKey);
+	}
+
+	/**
+	 * This method caches the given value, unless a value is already cached for
+	 * the key
+	 *
+	 * @param aKey
+	 * @param aValue
+	 * @return cached value
+	 */
+	public synchronized V putIfAbsent(K aKey, V aValue) {
+		V existing = this.entries.putIfAbsent(aKey, aValue);
+		return (existing == null) ? aValue : existing;
+	}
+
+	/**
+	 * This method returns the cached value for the key, computing and caching it
+	 * on the first call
+	 *
+	 * @param aKey
+	 * @param aFunction
+	 * @return cached value
+	 */
+	public V computeIfAbsent(K aKey, Function<? super K, ? extends V> aFunction) {
+		V value = get(aKey);
+		return (value == null) ? putIfAbsent(aKey, aFunction.apply(aKey)) : value;
+	}
+
+	/**
+	 * @return number of cached entries
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * This method removes all entries
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+}
@@ -0,0 +1,96 @@
+package accelerate.commons.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * Invoker for a single method, backed by a {@link MethodHandle} resolved once.
+ * It replaces toggling {@link Method#setAccessible(boolean)} on every call.
+ * Instances are cached by {@link ReflectionUtils#getMethodInvoker(Method)}.
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class MethodInvoker {
+	/**
+	 * Empty argument array
+	 */
+	private static final Object[] NO_ARGS = new Object[0];
+
+	/**
+	 * target method
+	 */
+	private final Method method;
+
+	/**
+	 * flag to indicate a static method
+	 */
+	private final boolean staticMethod;
+
+	/**
+	 * handle of type (Object,Object[])Object, or (Object[])Object for static
+	 * methods
+	 */
+	private final MethodHandle methodHandle;
+
+	/**
+	 * default constructor
+	 * 
+	 * @param aMethod
+	 * @throws ApplicationException if the method cannot be accessed
+	 */
+	MethodInvoker(Method aMethod) throws ApplicationException {
+		this.method = aMethod;
+		this.staticMethod = Modifier.isStatic(aMethod.getModifiers());
+
+		try {
+			MethodHandle handle = ReflectionUtils.lookup(aMethod.getDeclaringClass()).unreflect(aMethod);
+			if (aMethod.isVarArgs()) {
+				handle = handle.asFixedArity();
+			}
+
+			MethodType genericType = handle.type().generic();
+			this.methodHandle = handle.asType(genericType).asSpreader(Object[].class,
+					aMethod.getParameterCount());
+		} catch (IllegalAccessException | SecurityException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * Getter method for "method" property
+	 * 
+	 * @return method
+	 */
+	public Method getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * @param <T>
+	 * @param aTargetInstance target object, ignored for static methods
+	 * @param aMethodArgs
+	 * @return value returned by the method, or null for void methods
+	 * @throws ApplicationException Wrapping exceptions thrown by the method or
+	 *                              caused by mismatching arguments. Errors are
+	 *                              rethrown as is.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T invoke(Object aTargetInstance, Object... aMethodArgs) throws ApplicationException {
+		Object[] args = (aMethodArgs == null) ? NO_ARGS : aMethodArgs;
+		try {
+			Object value = this.staticMethod ? (Object) this.methodHandle.invokeExact(args)
+					: (Object) this.methodHandle.invokeExact(aTargetInstance, args);
+			return (T) value;
+		} catch (Error error) {
+			throw error;
+		} catch (Throwable error) {
+			throw new ApplicationException(error);
+		}
+	}
+}
@@ -4,15 +4,24 @@ import static accelerate.commons.constant.CommonConstants.EMPTY_STRING;
 import static accelerate.commons.constant.CommonConstants.PERIOD;
 
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -289,6 +298,353 @@ public final class NIOUtils {
 		return fileMap;
 	}
 
+	/**
+	 * Parallel version of
+	 * {@link #walkFileTree(Path, Function, BiFunction, BiFunction, Function, Function, BiFunction)},
+	 * using one worker per core
+	 * 
+	 * @param aRootPath
+	 * @param aDirectoryFilter
+	 * @param aPreVisitDirectory
+	 * @param aPostVisitDirectory
+	 * @param aFileFilter
+	 * @param aVisitFile
+	 * @param aSelector
+	 * @param aOrdered            true, to return a {@link TreeMap} sorted like
+	 *                            {@link #walkFileTree(Path, Function, BiFunction, BiFunction, Function, Function, BiFunction)},
+	 *                            false to return the concurrent map filled by the
+	 *                            workers
+	 * @return {@link Map} containing files picked up by given Selector
+	 * @throws ApplicationException wrapping {@link IOException} thrown while
+	 *                              reading the tree, or exceptions thrown by the
+	 *                              callbacks
+	 * @see #walkFileTreeParallel(Path, Function, BiFunction, BiFunction, Function,
+	 *      Function, BiFunction, boolean, int)
+	 */
+	public static Map<String, Path> walkFileTreeParallel(Path aRootPath, final Function<Path, Boolean> aDirectoryFilter,
+			final BiFunction<Path, BasicFileAttributes, FileVisitResult> aPreVisitDirectory,
+			final BiFunction<Path, IOException, FileVisitResult> aPostVisitDirectory,
+			final Function<Path, Boolean> aFileFilter, final Function<Path, FileVisitResult> aVisitFile,
+			final BiFunction<Path, FileVisitResult, Boolean> aSelector, boolean aOrdered)
+			throws ApplicationException {
+		return walkFileTreeParallel(aRootPath, aDirectoryFilter, aPreVisitDirectory, aPostVisitDirectory, aFileFilter,
+				aVisitFile, aSelector, aOrdered, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Parallel version of
+	 * {@link #walkFileTree(Path, Function, BiFunction, BiFunction, Function, Function, BiFunction)}.
+	 * Each directory is listed by a {@link ForkJoinPool} task, and its
+	 * subdirectories are forked as new tasks, so idle workers steal whole
+	 * subtrees. Callbacks are invoked concurrently and must be thread-safe.
+	 * <p>
+	 * The callbacks keep their meaning: {@link FileVisitResult#SKIP_SUBTREE}
+	 * skips a directory, {@link FileVisitResult#SKIP_SIBLINGS} skips the entries
+	 * of the parent directory not listed yet, and
+	 * {@link FileVisitResult#TERMINATE} stops all workers. Directories are
+	 * visited in no particular order, and
+	 * {@link #walkFileTree(Path, Function, BiFunction, BiFunction, Function, Function, BiFunction)}
+	 * should be used when callbacks depend on the visit order.
+	 * 
+	 * @param aRootPath
+	 * @param aDirectoryFilter
+	 * @param aPreVisitDirectory
+	 * @param aPostVisitDirectory
+	 * @param aFileFilter
+	 * @param aVisitFile
+	 * @param aSelector
+	 * @param aOrdered            true, to return a {@link TreeMap} sorted like
+	 *                            {@link #walkFileTree(Path, Function, BiFunction, BiFunction, Function, Function, BiFunction)},
+	 *                            false to return the concurrent map filled by the
+	 *                            workers
+	 * @param aParallelism        number of worker threads
+	 * @return {@link Map} containing files picked up by given Selector
+	 * @throws ApplicationException wrapping {@link IOException} thrown while
+	 *                              reading the tree, or exceptions thrown by the
+	 *                              callbacks
+	 */
+	public static Map<String, Path> walkFileTreeParallel(Path aRootPath, final Function<Path, Boolean> aDirectoryFilter,
+			final BiFunction<Path, BasicFileAttributes, FileVisitResult> aPreVisitDirectory,
+			final BiFunction<Path, IOException, FileVisitResult> aPostVisitDirectory,
+			final Function<Path, Boolean> aFileFilter, final Function<Path, FileVisitResult> aVisitFile,
+			final BiFunction<Path, FileVisitResult, Boolean> aSelector, boolean aOrdered, int aParallelism)
+			throws ApplicationException {
+		if ((aRootPath == null) || (aParallelism < 1)) {
+			throw new ApplicationException("Invalid arguments root: {}, parallelism: {}", aRootPath, aParallelism);
+		}
+
+		ParallelWalk walk = new ParallelWalk(aRootPath, aDirectoryFilter, aPreVisitDirectory, aPostVisitDirectory,
+				aFileFilter, aVisitFile, aSelector);
+		ForkJoinPool pool = new ForkJoinPool(aParallelism);
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(aRootPath, BasicFileAttributes.class);
+			if (attributes.isDirectory()) {
+				if ((aDirectoryFilter == null) || aDirectoryFilter.apply(aRootPath)) {
+					pool.invoke(new WalkTask(walk, aRootPath));
+				}
+			} else {
+				walk.visitFile(aRootPath);
+			}
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		} finally {
+			pool.shutdown();
+		}
+
+		if (walk.error.get() != null) {
+			throw (walk.error.get() instanceof ApplicationException) ? (ApplicationException) walk.error.get()
+					: new ApplicationException(walk.error.get());
+		}
+
+		LOGGER.trace("walkFileTreeParallel: root=[{}], selectCount=[{}]", aRootPath, walk.fileMap.size());
+		return aOrdered ? new TreeMap<>(walk.fileMap) : walk.fileMap;
+	}
+
+	/**
+	 * Shared state of a walk started by
+	 * {@link NIOUtils#walkFileTreeParallel(Path, Function, BiFunction, BiFunction, Function, Function, BiFunction, boolean, int)}
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class ParallelWalk {
+		/**
+		 * root of the walk
+		 */
+		final Path rootPath;
+
+		/**
+		 * callbacks, as passed to walkFileTreeParallel
+		 */
+		final Function<Path, Boolean> directoryFilter;
+
+		/**
+		 * @see #directoryFilter
+		 */
+		final BiFunction<Path, BasicFileAttributes, FileVisitResult> preVisitDirectory;
+
+		/**
+		 * @see #directoryFilter
+		 */
+		final BiFunction<Path, IOException, FileVisitResult> postVisitDirectory;
+
+		/**
+		 * @see #directoryFilter
+		 */
+		final Function<Path, Boolean> fileFilter;
+
+		/**
+		 * @see #directoryFilter
+		 */
+		final Function<Path, FileVisitResult> visitFile;
+
+		/**
+		 * @see #directoryFilter
+		 */
+		final BiFunction<Path, FileVisitResult, Boolean> selector;
+
+		/**
+		 * selected paths, by relative path
+		 */
+		final Map<String, Path> fileMap = new ConcurrentHashMap<>();
+
+		/**
+		 * flag set when a callback returns {@link FileVisitResult#TERMINATE} or an
+		 * error occurs
+		 */
+		volatile boolean terminated = false;
+
+		/**
+		 * first error thrown by the walk
+		 */
+		final AtomicReference<RuntimeException> error = new AtomicReference<>();
+
+		/**
+		 * default constructor
+		 * 
+		 * @param aRootPath
+		 * @param aDirectoryFilter
+		 * @param aPreVisitDirectory
+		 * @param aPostVisitDirectory
+		 * @param aFileFilter
+		 * @param aVisitFile
+		 * @param aSelector
+		 */
+		ParallelWalk(Path aRootPath, Function<Path, Boolean> aDirectoryFilter,
+				BiFunction<Path, BasicFileAttributes, FileVisitResult> aPreVisitDirectory,
+				BiFunction<Path, IOException, FileVisitResult> aPostVisitDirectory, Function<Path, Boolean> aFileFilter,
+				Function<Path, FileVisitResult> aVisitFile, BiFunction<Path, FileVisitResult, Boolean> aSelector) {
+			this.rootPath = aRootPath;
+			this.directoryFilter = aDirectoryFilter;
+			this.preVisitDirectory = aPreVisitDirectory;
+			this.postVisitDirectory = aPostVisitDirectory;
+			this.fileFilter = aFileFilter;
+			this.visitFile = aVisitFile;
+			this.selector = aSelector;
+		}
+
+		/**
+		 * @param aPath
+		 * @param aAttributes
+		 * @return result of the pre visit callback, or
+		 *         {@link FileVisitResult#SKIP_SUBTREE} if the directory is filtered
+		 */
+		FileVisitResult preVisitDirectory(Path aPath, BasicFileAttributes aAttributes) {
+			if ((this.directoryFilter != null) && !this.directoryFilter.apply(aPath)) {
+				return FileVisitResult.SKIP_SUBTREE;
+			}
+
+			FileVisitResult visitResult = FileVisitResult.CONTINUE;
+			if (this.preVisitDirectory != null) {
+				visitResult = this.preVisitDirectory.apply(aPath, aAttributes);
+			}
+
+			select(aPath, visitResult);
+			return visitResult;
+		}
+
+		/**
+		 * @param aPath
+		 * @return result of the visit callback
+		 */
+		FileVisitResult visitFile(Path aPath) {
+			if ((this.fileFilter != null) && !this.fileFilter.apply(aPath)) {
+				return FileVisitResult.CONTINUE;
+			}
+
+			FileVisitResult visitResult = FileVisitResult.CONTINUE;
+			if (this.visitFile != null) {
+				visitResult = this.visitFile.apply(aPath);
+			}
+
+			select(aPath, visitResult);
+			return visitResult;
+		}
+
+		/**
+		 * @param aPath
+		 * @param aVisitResult
+		 */
+		private void select(Path aPath, FileVisitResult aVisitResult) {
+			if ((this.selector != null) && this.selector.apply(aPath, aVisitResult)) {
+				this.fileMap.put(getRelativePath(this.rootPath, aPath), aPath);
+			}
+
+			if (aVisitResult == FileVisitResult.TERMINATE) {
+				this.terminated = true;
+			}
+		}
+
+		/**
+		 * This method records the first error and stops the walk
+		 * 
+		 * @param aError
+		 */
+		void fail(RuntimeException aError) {
+			this.error.compareAndSet(null, aError);
+			this.terminated = true;
+		}
+	}
+
+	/**
+	 * {@link RecursiveAction} visiting the entries of one directory, and forking a
+	 * task for each subdirectory
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class WalkTask extends RecursiveAction {
+		/**
+		 * serialVersionUID
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * shared state of the walk
+		 */
+		private final transient ParallelWalk walk;
+
+		/**
+		 * directory to visit
+		 */
+		private final transient Path directory;
+
+		/**
+		 * default constructor
+		 * 
+		 * @param aWalk
+		 * @param aDirectory
+		 */
+		WalkTask(ParallelWalk aWalk, Path aDirectory) {
+			this.walk = aWalk;
+			this.directory = aDirectory;
+		}
+
+		@Override
+		protected void compute() {
+			DirectoryStream<Path> entries;
+			try {
+				entries = Files.newDirectoryStream(this.directory);
+			} catch (IOException error) {
+				this.walk.fail(new ApplicationException(error));
+				return;
+			}
+
+			List<WalkTask> subtasks = new ArrayList<>();
+			IOException iterationError = null;
+			try (entries) {
+				for (Path entry : entries) {
+					if (this.walk.terminated) {
+						break;
+					}
+
+					FileVisitResult visitResult;
+					BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class,
+							LinkOption.NOFOLLOW_LINKS);
+					if (attributes.isDirectory()) {
+						visitResult = this.walk.preVisitDirectory(entry, attributes);
+						if (visitResult == FileVisitResult.CONTINUE) {
+							WalkTask subtask = new WalkTask(this.walk, entry);
+							subtask.fork();
+							subtasks.add(subtask);
+						}
+					} else {
+						visitResult = this.walk.visitFile(entry);
+					}
+
+					if (visitResult == FileVisitResult.SKIP_SIBLINGS) {
+						break;
+					}
+				}
+			} catch (DirectoryIteratorException error) {
+				// reported to postVisitDirectory, as by Files.walkFileTree
+				iterationError = error.getCause();
+			} catch (IOException error) {
+				this.walk.fail(new ApplicationException(error));
+			} catch (RuntimeException error) {
+				this.walk.fail(error);
+			}
+
+			for (WalkTask subtask : subtasks) {
+				subtask.join();
+			}
+
+			if (this.walk.terminated || (this.walk.postVisitDirectory == null)) {
+				return;
+			}
+
+			try {
+				if (this.walk.postVisitDirectory.apply(this.directory, iterationError) == FileVisitResult.TERMINATE) {
+					this.walk.terminated = true;
+				}
+			} catch (RuntimeException error) {
+				this.walk.fail(error);
+			}
+		}
+	}
+
 	/**
 	 * {@link Logger} instance
 	 */
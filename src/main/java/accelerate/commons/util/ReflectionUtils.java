@@ -1,11 +1,56 @@
 package accelerate.commons.util;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import accelerate.commons.data.DataBean;
+import accelerate.commons.data.DataMap;
 import accelerate.commons.exception.ApplicationException;
 
 /**
@@ -16,6 +61,62 @@ import accelerate.commons.exception.ApplicationException;
  * @since January 14, 2015
  */
 public final class ReflectionUtils {
+	/**
+	 * Numeric primitive types in widening order
+	 */
+	private static final List<Class<?>> WIDENING_ORDER = List.of(byte.class, short.class, int.class, long.class,
+			float.class, double.class);
+
+	/**
+	 * Empty {@link Method} array
+	 */
+	private static final Method[] NO_METHODS = new Method[0];
+
+	/**
+	 * Immutable types shared by copies made with {@link #deepClone(Object)}
+	 */
+	private static final Set<Class<?>> LEAF_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class,
+			Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class,
+			UUID.class, URI.class, URL.class, Locale.class, Currency.class, Pattern.class, Class.class, Object.class,
+			Optional.class, OptionalInt.class, OptionalLong.class, OptionalDouble.class);
+
+	/**
+	 * Placeholder registered by {@link #deepClone(Object)} for a record whose
+	 * components are being copied, as the record itself can only be created
+	 * afterwards
+	 */
+	private static final Object RECORD_IN_PROGRESS = new Object();
+
+	/**
+	 * {@link MemberIndex} of each class, built on first lookup
+	 */
+	private static final ClassValue<MemberIndex> MEMBER_INDEX = new ClassValue<>() {
+		@Override
+		protected MemberIndex computeValue(Class<?> aClass) {
+			return new MemberIndex(aClass);
+		}
+	};
+
+	/**
+	 * {@link ObjectLayout} of each class, built on first use
+	 */
+	private static final ClassValue<ObjectLayout> OBJECT_LAYOUTS = new ClassValue<>() {
+		@Override
+		protected ObjectLayout computeValue(Class<?> aClass) {
+			return new ObjectLayout(aClass);
+		}
+	};
+
+	/**
+	 * {@link Instantiator} of each class, built on first use
+	 */
+	private static final ClassValue<Instantiator<?>> INSTANTIATORS = new ClassValue<>() {
+		@Override
+		protected Instantiator<?> computeValue(Class<?> aClass) {
+			return new Instantiator<>(aClass);
+		}
+	};
+
 	/**
 	 * @param aTargetInstance
 	 * @param aFieldName
@@ -56,16 +157,7 @@ public final class ReflectionUtils {
 	 *                              operations
 	 */
 	private static Object getFieldValue(Object aTargetInstance, Field aTargetField) throws ApplicationException {
-		try {
-			boolean accessible = aTargetField.canAccess(aTargetInstance);
-			aTargetField.setAccessible(true);
-			Object value = aTargetField.get(aTargetInstance);
-			aTargetField.setAccessible(accessible);
-
-			return value;
-		} catch (IllegalArgumentException | IllegalAccessException | SecurityException error) {
-			throw new ApplicationException(error);
-		}
+		return getFieldAccessor(aTargetField).get(aTargetInstance);
 	}
 
 	/**
@@ -92,20 +184,12 @@ public final class ReflectionUtils {
 	 *                              operations
 	 */
 	public static Field getField(Class<?> aTargetClass, String aFieldName) throws ApplicationException {
-		try {
-			Class<?> searchType = aTargetClass;
-			while (Object.class != searchType && searchType != null) {
-				Optional<Field> field = Arrays.stream(searchType.getDeclaredFields())
-						.filter(aField -> CommonUtils.compare(aFieldName, aField.getName())).findFirst();
-				if (field.isPresent()) {
-					return field.get();
-				}
-
-				searchType = searchType.getSuperclass();
-			}
-
+		if ((aTargetClass == null) || (aFieldName == null)) {
 			return null;
+		}
 
+		try {
+			return MEMBER_INDEX.get(aTargetClass).fields.get(aFieldName);
 		} catch (IllegalArgumentException | SecurityException error) {
 			throw new ApplicationException(error);
 		}
@@ -154,14 +238,37 @@ public final class ReflectionUtils {
 	 */
 	private static void setFieldValue(Object aTargetInstance, Field aTargetField, Object aFieldValue)
 			throws ApplicationException {
-		try {
-			boolean accessible = aTargetField.canAccess(aTargetInstance);
-			aTargetField.setAccessible(true);
-			aTargetField.set(aTargetInstance, aFieldValue);
-			aTargetField.setAccessible(accessible);
-		} catch (IllegalArgumentException | IllegalAccessException | SecurityException error) {
-			throw new ApplicationException(error);
-		}
+		getFieldAccessor(aTargetField).set(aTargetInstance, aFieldValue);
+	}
+
+	/**
+	 * This method returns the cached {@link FieldAccessor} for the given field of
+	 * the given Class or its superclasses
+	 * 
+	 * @param aTargetClass
+	 * @param aFieldName
+	 * @return accessor, or null if the field is not found
+	 * @throws ApplicationException Wrapping exceptions thrown by reflection
+	 *                              operations
+	 */
+	public static FieldAccessor getFieldAccessor(Class<?> aTargetClass, String aFieldName)
+			throws ApplicationException {
+		Field field = getField(aTargetClass, aFieldName);
+		return (field == null) ? null : getFieldAccessor(field);
+	}
+
+	/**
+	 * This method returns the cached {@link FieldAccessor} for the given field,
+	 * building it on the first call
+	 * 
+	 * @param aField
+	 * @return
+	 * @throws ApplicationException Wrapping exceptions thrown by reflection
+	 *                              operations
+	 */
+	public static FieldAccessor getFieldAccessor(Field aField) throws ApplicationException {
+		return MEMBER_INDEX.get(aField.getDeclaringClass()).fieldAccessors.computeIfAbsent(aField,
+				FieldAccessor::new);
 	}
 
 	/**
@@ -169,11 +276,22 @@ public final class ReflectionUtils {
 	 * @param aTargetField
 	 * @return String
 	 * @throws ApplicationException Wrapping exceptions thrown by reflection
-	 *                              operations
+	 *                              operations or by the getter. Errors are
+	 *                              rethrown as they are.
 	 */
 	public static Object invokeGetter(Object aTargetInstance, String aTargetField) throws ApplicationException {
-		return invokeMethod(aTargetInstance, "get" + StringUtils.capitalize(aTargetField), new Class<?>[] {},
-				(Object[]) null);
+		Function<Object, Object> getter = resolvePropertyGetter(aTargetInstance.getClass(), aTargetField);
+		if (getter == null) {
+			throw new ApplicationException("Method '{}' not found", "get" + StringUtils.capitalize(aTargetField));
+		}
+
+		try {
+			return getter.apply(aTargetInstance);
+		} catch (Error error) {
+			throw error;
+		} catch (Throwable error) {
+			throw new ApplicationException(error);
+		}
 	}
 
 	/**
@@ -181,14 +299,160 @@ public final class ReflectionUtils {
 	 * @param aTargetField
 	 * @param aFieldValue
 	 * @throws ApplicationException Wrapping exceptions thrown by reflection
-	 *                              operations
+	 *                              operations or by the setter. Errors are
+	 *                              rethrown as they are.
 	 */
 	public static void invokeSetter(Object aTargetInstance, String aTargetField, Object aFieldValue)
 			throws ApplicationException {
+		PropertySetter setter = resolvePropertySetter(aTargetInstance.getClass(), aTargetField);
+		if ((setter != null) && setter.type.isInstance(aFieldValue)) {
+			try {
+				setter.consumer.accept(aTargetInstance, aFieldValue);
+			} catch (Error error) {
+				throw error;
+			} catch (Throwable error) {
+				throw new ApplicationException(error);
+			}
+			return;
+		}
+
 		invokeMethod(aTargetInstance, "set" + StringUtils.capitalize(aTargetField),
 				new Class<?>[] { aFieldValue.getClass() }, new Object[] { aFieldValue });
 	}
 
+	/**
+	 * This method returns a {@link Function} calling the no-arg getter of the given
+	 * property. The function is generated with {@link LambdaMetafactory} and cached
+	 * per class and property.
+	 * <p>
+	 * Exceptions thrown by the getter, including checked ones, propagate
+	 * unwrapped; {@link #invokeGetter(Object, String)} wraps them.
+	 * 
+	 * @param <T>
+	 * @param aTargetClass
+	 * @param aPropertyName
+	 * @return getter function, or null if there is no getter
+	 * @throws ApplicationException Wrapping exceptions thrown by reflection
+	 *                              operations
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Function<T, Object> getPropertyGetter(Class<T> aTargetClass, String aPropertyName)
+			throws ApplicationException {
+		Function<?, Object> getter = resolvePropertyGetter(aTargetClass, aPropertyName);
+		return (Function<T, Object>) getter;
+	}
+
+	/**
+	 * This method returns a {@link BiConsumer} calling the one-arg setter of the
+	 * given property. The consumer is generated with {@link LambdaMetafactory} and
+	 * cached per class and property. If the setter is overloaded, the one taking
+	 * the return type of the getter is used, else the first one found.
+	 * <p>
+	 * Exceptions thrown by the setter, including checked ones, propagate
+	 * unwrapped; {@link #invokeSetter(Object, String, Object)} wraps them.
+	 * 
+	 * @param <T>
+	 * @param aTargetClass
+	 * @param aPropertyName
+	 * @return setter consumer, or null if there is no setter
+	 * @throws ApplicationException Wrapping exceptions thrown by reflection
+	 *                              operations
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> BiConsumer<T, Object> getPropertySetter(Class<T> aTargetClass, String aPropertyName)
+			throws ApplicationException {
+		PropertySetter setter = resolvePropertySetter(aTargetClass, aPropertyName);
+		return (setter == null) ? null : (BiConsumer<T, Object>) setter.consumer;
+	}
+
+	/**
+	 * @param aTargetClass
+	 * @param aPropertyName
+	 * @return
+	 * @throws ApplicationException
+	 */
+	private static Function<Object, Object> resolvePropertyGetter(Class<?> aTargetClass, String aPropertyName)
+			throws ApplicationException {
+		return MEMBER_INDEX.get(aTargetClass).getters.computeIfAbsent(aPropertyName, aKey -> {
+			Method method = findMethod(aTargetClass, "get" + StringUtils.capitalize(aKey), new Class<?>[] {});
+			return Optional.ofNullable((method == null) ? null : buildGetter(method));
+		}).orElse(null);
+	}
+
+	/**
+	 * @param aTargetClass
+	 * @param aPropertyName
+	 * @return
+	 * @throws ApplicationException
+	 */
+	private static PropertySetter resolvePropertySetter(Class<?> aTargetClass, String aPropertyName)
+			throws ApplicationException {
+		return MEMBER_INDEX.get(aTargetClass).setters.computeIfAbsent(aPropertyName, aKey -> {
+			Method[] methods = MEMBER_INDEX.get(aTargetClass).methods.getOrDefault("set" + StringUtils.capitalize(aKey),
+					NO_METHODS);
+			Method getter = findMethod(aTargetClass, "get" + StringUtils.capitalize(aKey), new Class<?>[] {});
+			Method setter = null;
+			for (Method method : methods) {
+				if (method.getParameterCount() != 1) {
+					continue;
+				}
+
+				if ((getter != null) && (method.getParameterTypes()[0] == getter.getReturnType())) {
+					setter = method;
+					break;
+				}
+
+				if (setter == null) {
+					setter = method;
+				}
+			}
+
+			return Optional.ofNullable((setter == null) ? null : buildSetter(setter));
+		}).orElse(null);
+	}
+
+	/**
+	 * @param aMethod no-arg instance method
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> buildGetter(Method aMethod) {
+		try {
+			Lookup lookup = lookup(aMethod.getDeclaringClass());
+			MethodHandle handle = lookup.unreflect(aMethod);
+			return (Function<Object, Object>) LambdaMetafactory.metafactory(lookup, "apply",
+					MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class), handle,
+					handle.type().wrap()).getTarget().invokeExact();
+		} catch (Throwable error) {
+			LOGGER.trace("Using MethodInvoker for {}: {}", aMethod, error.getMessage());
+			MethodInvoker invoker = getMethodInvoker(aMethod);
+			return aTarget -> invoker.invoke(aTarget);
+		}
+	}
+
+	/**
+	 * @param aMethod one-arg instance method
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	private static PropertySetter buildSetter(Method aMethod) {
+		Class<?> type = MethodType.methodType(aMethod.getParameterTypes()[0]).wrap().returnType();
+		try {
+			Lookup lookup = lookup(aMethod.getDeclaringClass());
+			MethodHandle handle = lookup.unreflect(aMethod);
+			return new PropertySetter(type,
+					(BiConsumer<Object, Object>) LambdaMetafactory
+							.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+									MethodType.methodType(void.class, Object.class, Object.class), handle,
+									handle.type().wrap().changeReturnType(void.class))
+							.getTarget().invokeExact());
+		} catch (Throwable error) {
+			LOGGER.trace("Using MethodInvoker for {}: {}", aMethod, error.getMessage());
+			MethodInvoker invoker = getMethodInvoker(aMethod);
+			return new PropertySetter(type, (aTarget, aValue) -> invoker.invoke(aTarget, aValue));
+		}
+	}
+
 	/**
 	 * @param aTargetInstance
 	 * @param aMethodName
@@ -240,15 +504,89 @@ public final class ReflectionUtils {
 	 */
 	private static Object invokeMethod(Object aTargetInstance, Method aTargetMethod, Object[] aMethodArgs)
 			throws ApplicationException {
-		try {
-			boolean accessible = aTargetMethod.canAccess(aTargetInstance);
-			aTargetMethod.setAccessible(true);
-			Object value = aTargetMethod.invoke(aTargetInstance, aMethodArgs);
-			aTargetMethod.setAccessible(accessible);
+		return getMethodInvoker(aTargetMethod).invoke(aTargetInstance, aMethodArgs);
+	}
 
-			return value;
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException error) {
-			throw new ApplicationException(error);
+	/**
+	 * This method returns the cached {@link MethodInvoker} for the given method of
+	 * the given Class or its superclasses
+	 * 
+	 * @param aTargetClass
+	 * @param aMethodName
+	 * @param aMethodArgTypes
+	 * @return invoker, or null if the method is not found
+	 * @throws ApplicationException Wrapping exceptions thrown by reflection
+	 *                              operations
+	 */
+	public static MethodInvoker getMethodInvoker(Class<?> aTargetClass, String aMethodName,
+			Class<?>[] aMethodArgTypes) throws ApplicationException {
+		Method method = findMethod(aTargetClass, aMethodName, aMethodArgTypes);
+		return (method == null) ? null : getMethodInvoker(method);
+	}
+
+	/**
+	 * This method returns the cached {@link MethodInvoker} for the given method,
+	 * building it on the first call
+	 * 
+	 * @param aMethod
+	 * @return
+	 * @throws ApplicationException Wrapping exceptions thrown by reflection
+	 *                              operations
+	 */
+	public static MethodInvoker getMethodInvoker(Method aMethod) throws ApplicationException {
+		return MEMBER_INDEX.get(aMethod.getDeclaringClass()).methodInvokers.computeIfAbsent(aMethod,
+				MethodInvoker::new);
+	}
+
+	/**
+	 * This method returns the cached {@link Instantiator} for the given record, or
+	 * class with a constructor annotated with
+	 * {@link com.fasterxml.jackson.annotation.JsonCreator}, building it on the
+	 * first call
+	 * 
+	 * @param <T>
+	 * @param aTargetClass
+	 * @return
+	 * @throws ApplicationException if no suitable constructor is found, or it
+	 *                              cannot be accessed
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Instantiator<T> getInstantiator(Class<T> aTargetClass) throws ApplicationException {
+		return (Instantiator<T>) INSTANTIATORS.get(aTargetClass);
+	}
+
+	/**
+	 * This method creates a new instance of the given record, or class with a
+	 * constructor annotated with
+	 * {@link com.fasterxml.jackson.annotation.JsonCreator}, passing the values of
+	 * the given map as constructor arguments by name
+	 * 
+	 * @param <T>
+	 * @param aTargetClass
+	 * @param aValues
+	 * @return
+	 * @throws ApplicationException if no suitable constructor is found, or
+	 *                              wrapping checked exceptions thrown by the
+	 *                              constructor
+	 * @see Instantiator#newInstance(Map)
+	 */
+	public static <T> T newInstance(Class<T> aTargetClass, Map<String, ?> aValues) throws ApplicationException {
+		return getInstantiator(aTargetClass).newInstance(aValues);
+	}
+
+	/**
+	 * This method returns a {@link Lookup} with private access to the given class
+	 * where the module system allows it, and public access otherwise
+	 * 
+	 * @param aTargetClass
+	 * @return
+	 */
+	public static Lookup lookup(Class<?> aTargetClass) {
+		try {
+			return MethodHandles.privateLookupIn(aTargetClass, MethodHandles.lookup());
+		} catch (IllegalAccessException error) {
+			LOGGER.trace("Private access to {} not allowed: {}", aTargetClass, error.getMessage());
+			return MethodHandles.publicLookup();
 		}
 	}
 
@@ -267,6 +605,13 @@ public final class ReflectionUtils {
 	}
 
 	/**
+	 * This method searches the given Class and all its superclasses to find the
+	 * method. A method with exactly the given parameter types is preferred.
+	 * Otherwise the most specific method whose parameters accept the given types,
+	 * allowing boxing, unboxing and widening, is returned. A null entry in
+	 * aMethodArgTypes matches any reference parameter. The result is cached per
+	 * class, name and argument types.
+	 * 
 	 * @param aTargetClass
 	 * @param aMethodName
 	 * @param aMethodArgTypes
@@ -278,26 +623,1067 @@ public final class ReflectionUtils {
 	public static Method findMethod(Class<?> aTargetClass, String aMethodName, Class<?>[] aMethodArgTypes)
 			throws ApplicationException {
 
+		if ((aTargetClass == null) || (aMethodName == null) || (aMethodArgTypes == null)) {
+			return null;
+		}
+
 		try {
-			Class<?> searchType = aTargetClass;
-			while (Object.class != searchType && searchType != null) {
-				Optional<Method> method = Arrays.stream(searchType.getDeclaredMethods())
-						.filter(aMethod -> CommonUtils.compare(aMethodName, aMethod.getName())
-								&& Arrays.equals(aMethodArgTypes, aMethod.getParameterTypes()))
-						.findFirst();
-				if (method.isPresent()) {
-					return method.get();
-				}
+			MemberIndex index = MEMBER_INDEX.get(aTargetClass);
+			Method[] candidates = index.methods.get(aMethodName);
+			if (candidates == null) {
+				return null;
+			}
 
-				searchType = searchType.getSuperclass();
+			MethodSignature signature = new MethodSignature(aMethodName, aMethodArgTypes);
+			Optional<Method> method = index.resolvedMethods.get(signature);
+			if (method == null) {
+				method = Optional.ofNullable(resolveMethod(candidates, aMethodArgTypes));
+				index.resolvedMethods.putIfAbsent(signature.copy(), method);
 			}
 
-			return null;
+			return method.orElse(null);
 		} catch (IllegalArgumentException | SecurityException error) {
 			throw new ApplicationException(error);
 		}
 	}
 
+	/**
+	 * @param aCandidates     methods with the requested name, subclass methods
+	 *                        first
+	 * @param aMethodArgTypes
+	 * @return exact match, else the most specific applicable method, else null
+	 */
+	private static Method resolveMethod(Method[] aCandidates, Class<?>[] aMethodArgTypes) {
+		for (Method method : aCandidates) {
+			if ((method.getParameterCount() == aMethodArgTypes.length)
+					&& Arrays.equals(aMethodArgTypes, method.getParameterTypes())) {
+				return method;
+			}
+		}
+
+		// like javac, try without boxing first
+		Method selected = selectMethod(aCandidates, aMethodArgTypes, false);
+		return (selected == null) ? selectMethod(aCandidates, aMethodArgTypes, true) : selected;
+	}
+
+	/**
+	 * @param aCandidates
+	 * @param aMethodArgTypes
+	 * @param aBoxing         flag to allow boxing and unboxing
+	 * @return the most specific applicable method, or null
+	 */
+	private static Method selectMethod(Method[] aCandidates, Class<?>[] aMethodArgTypes, boolean aBoxing) {
+		Method selected = null;
+		Class<?>[] selectedTypes = null;
+		for (Method method : aCandidates) {
+			if (method.getParameterCount() != aMethodArgTypes.length) {
+				continue;
+			}
+
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			if (isApplicable(parameterTypes, aMethodArgTypes, aBoxing)
+					&& ((selected == null) || (isApplicable(selectedTypes, parameterTypes, false)
+							&& !isApplicable(parameterTypes, selectedTypes, false)))) {
+				selected = method;
+				selectedTypes = parameterTypes;
+			}
+		}
+
+		return selected;
+	}
+
+	/**
+	 * @param aParameterTypes
+	 * @param aArgTypes
+	 * @param aBoxing         flag to allow boxing and unboxing
+	 * @return true, if each argument type can be passed to the matching parameter
+	 */
+	private static boolean isApplicable(Class<?>[] aParameterTypes, Class<?>[] aArgTypes, boolean aBoxing) {
+		for (int idx = 0; idx < aParameterTypes.length; idx++) {
+			if (!isAssignable(aParameterTypes[idx], aArgTypes[idx], aBoxing)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @param aParameterType
+	 * @param aArgType       argument type, or null for a null argument
+	 * @param aBoxing        flag to allow boxing and unboxing
+	 * @return true, if a value of aArgType can be passed for aParameterType
+	 */
+	private static boolean isAssignable(Class<?> aParameterType, Class<?> aArgType, boolean aBoxing) {
+		if (aArgType == null) {
+			return !aParameterType.isPrimitive();
+		}
+
+		if (aParameterType.isAssignableFrom(aArgType)) {
+			return true;
+		}
+
+		if (!aBoxing) {
+			return aParameterType.isPrimitive() && aArgType.isPrimitive() && isWidening(aArgType, aParameterType);
+		}
+
+		if (aParameterType.isPrimitive()) {
+			Class<?> argType = MethodType.methodType(aArgType).unwrap().returnType();
+			return argType.isPrimitive() && isWidening(argType, aParameterType);
+		}
+
+		return aArgType.isPrimitive()
+				&& aParameterType.isAssignableFrom(MethodType.methodType(aArgType).wrap().returnType());
+	}
+
+	/**
+	 * @param aFrom primitive type
+	 * @param aTo   primitive type
+	 * @return true, if aFrom is the same as or widens to aTo
+	 */
+	private static boolean isWidening(Class<?> aFrom, Class<?> aTo) {
+		if (aFrom == aTo) {
+			return true;
+		}
+
+		if ((aFrom == boolean.class) || (aTo == boolean.class) || (aTo == char.class) || (aTo == byte.class)
+				|| (aFrom == void.class)) {
+			return false;
+		}
+
+		if (aFrom == char.class) {
+			return (aTo != short.class);
+		}
+
+		if (aTo == short.class) {
+			return (aFrom == byte.class);
+		}
+
+		return WIDENING_ORDER.indexOf(aFrom) < WIDENING_ORDER.indexOf(aTo);
+	}
+
+	/**
+	 * This method returns a deep copy of the given object. The copy is driven by
+	 * the cached {@link FieldAccessor} instances of each class instead of a
+	 * serialization round trip. Shared references and cycles are preserved.
+	 * Immutable values (String, boxed primitives, enums, java.time types and
+	 * similar) are shared, static and transient fields are skipped, and
+	 * {@link DataMap} and {@link DataBean} instances copy their entries and
+	 * dynamic values directly.
+	 * <p>
+	 * NOTE: Maps and collections without a public no-arg constructor, such as
+	 * immutable ones, are copied into a {@link LinkedHashMap},
+	 * {@link LinkedHashSet} or {@link ArrayList}. {@link DataMap} subclasses are
+	 * copied into a plain {@link DataMap}. Instances of classes that are not open
+	 * to reflection, such as JDK internals, are copied with their public clone
+	 * method if they are {@link Cloneable}, and shared otherwise. Cycles through a
+	 * record are not supported, as a record can only be created after its
+	 * components.
+	 * 
+	 * @param <T>
+	 * @param aSource
+	 * @return
+	 * @throws ApplicationException if an object has no usable constructor, on a
+	 *                              cycle through a record, or wrapping exceptions
+	 *                              thrown by accessors
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T deepClone(T aSource) throws ApplicationException {
+		if ((aSource == null) || (OBJECT_LAYOUTS.get(aSource.getClass()).kind == LayoutKind.LEAF)) {
+			return aSource;
+		}
+
+		return (T) cloneValue(aSource, new IdentityHashMap<>());
+	}
+
+	/**
+	 * This method compares the given objects field by field, following nested
+	 * objects, arrays, collections and maps. Objects must be of the same class,
+	 * while maps and collections follow the contracts of {@link Map#equals(Object)},
+	 * {@link List#equals(Object)} and {@link Set#equals(Object)}. Immutable values
+	 * and classes whose fields are not accessible are compared with
+	 * {@link Object#equals(Object)}. Cycles are supported.
+	 * 
+	 * @param aLeft
+	 * @param aRight
+	 * @return
+	 * @throws ApplicationException Wrapping exceptions thrown by accessors
+	 */
+	public static boolean deepEquals(Object aLeft, Object aRight) throws ApplicationException {
+		return equalValues(aLeft, aRight, new HashSet<>());
+	}
+
+	/**
+	 * This method returns a hash code consistent with
+	 * {@link #deepEquals(Object, Object)}
+	 * 
+	 * @param aSource
+	 * @return
+	 * @throws ApplicationException Wrapping exceptions thrown by accessors
+	 */
+	public static int deepHashCode(Object aSource) throws ApplicationException {
+		return hashValue(aSource, new IdentityHashMap<>());
+	}
+
+	/**
+	 * @param aSource
+	 * @param aCopies {@link Map} of objects already copied to their copies
+	 * @return
+	 */
+	private static Object cloneValue(Object aSource, Map<Object, Object> aCopies) {
+		if (aSource == null) {
+			return null;
+		}
+
+		ObjectLayout layout = OBJECT_LAYOUTS.get(aSource.getClass());
+		if (layout.kind == LayoutKind.LEAF) {
+			return aSource;
+		}
+
+		Object copy = aCopies.get(aSource);
+		if (copy == RECORD_IN_PROGRESS) {
+			throw new ApplicationException("Cannot deep clone cycle through record '{}'", aSource.getClass().getName());
+		}
+
+		return (copy == null) ? layout.copy(aSource, aCopies) : copy;
+	}
+
+	/**
+	 * @param aLeft
+	 * @param aRight
+	 * @param aVisited pairs compared already or being compared
+	 * @return
+	 */
+	private static boolean equalValues(Object aLeft, Object aRight, Set<IdentityPair> aVisited) {
+		if (aLeft == aRight) {
+			return true;
+		}
+
+		if ((aLeft == null) || (aRight == null)) {
+			return false;
+		}
+
+		ObjectLayout layout = OBJECT_LAYOUTS.get(aLeft.getClass());
+		if ((layout.kind == LayoutKind.LEAF) || (layout.kind == LayoutKind.OPAQUE)) {
+			return aLeft.equals(aRight);
+		}
+
+		// pairs being compared are assumed equal, which ends cycles
+		return !aVisited.add(new IdentityPair(aLeft, aRight)) || layout.equals(aLeft, aRight, aVisited);
+	}
+
+	/**
+	 * @param aSource
+	 * @param aActive objects whose hash is being computed
+	 * @return
+	 */
+	private static int hashValue(Object aSource, Map<Object, Boolean> aActive) {
+		if (aSource == null) {
+			return 0;
+		}
+
+		ObjectLayout layout = OBJECT_LAYOUTS.get(aSource.getClass());
+		if ((layout.kind == LayoutKind.LEAF) || (layout.kind == LayoutKind.OPAQUE)) {
+			return aSource.hashCode();
+		}
+
+		// cycles contribute nothing, shared references are hashed each time
+		if (aActive.put(aSource, Boolean.TRUE) != null) {
+			return 0;
+		}
+
+		int hash = layout.hash(aSource, aActive);
+		aActive.remove(aSource);
+		return hash;
+	}
+
+	/**
+	 * @param aClass
+	 * @return true, if instances of the class are immutable and can be shared by
+	 *         copies
+	 */
+	private static boolean isLeafType(Class<?> aClass) {
+		return aClass.isPrimitive() || LEAF_TYPES.contains(aClass) || Enum.class.isAssignableFrom(aClass)
+				|| aClass.getPackageName().startsWith("java.time") || Path.class.isAssignableFrom(aClass)
+				|| Charset.class.isAssignableFrom(aClass) || aClass.isHidden();
+	}
+
+	/**
+	 * Index of the fields and methods declared by a class and its superclasses,
+	 * excluding {@link Object}. Members of a subclass hide those of its
+	 * superclasses with the same name.
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class MemberIndex {
+		/**
+		 * {@link Map} of field name to field
+		 */
+		final Map<String, Field> fields;
+
+		/**
+		 * {@link Map} of method name to methods with that name, subclass methods
+		 * first
+		 */
+		final Map<String, Method[]> methods;
+
+		/**
+		 * cache of {@link #findMethod(Class, String, Class[])} results, including
+		 * misses
+		 */
+		final Map<MethodSignature, Optional<Method>> resolvedMethods = new ConcurrentHashMap<>();
+
+		/**
+		 * cache of generated property getters, by property name
+		 */
+		final Map<String, Optional<Function<Object, Object>>> getters = new ConcurrentHashMap<>();
+
+		/**
+		 * cache of generated property setters, by property name
+		 */
+		final Map<String, Optional<PropertySetter>> setters = new ConcurrentHashMap<>();
+
+		/**
+		 * {@link FieldAccessor} cache for fields declared by the class
+		 */
+		final Map<Field, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
+
+		/**
+		 * {@link MethodInvoker} cache for methods declared by the class
+		 */
+		final Map<Method, MethodInvoker> methodInvokers = new ConcurrentHashMap<>();
+
+		/**
+		 * default constructor
+		 * 
+		 * @param aClass
+		 */
+		MemberIndex(Class<?> aClass) {
+			Class<?> superClass = aClass.getSuperclass();
+			if (aClass == Object.class) {
+				this.fields = Collections.emptyMap();
+				this.methods = Collections.emptyMap();
+				return;
+			}
+
+			MemberIndex superIndex = (superClass == null) ? null : MEMBER_INDEX.get(superClass);
+			Map<String, Field> fieldMap = (superIndex == null) ? new HashMap<>() : new HashMap<>(superIndex.fields);
+			for (Field field : aClass.getDeclaredFields()) {
+				fieldMap.put(field.getName(), field);
+			}
+
+			Map<String, Method[]> methodMap = new HashMap<>();
+			for (Method method : aClass.getDeclaredMethods()) {
+				Method[] current = methodMap.getOrDefault(method.getName(), NO_METHODS);
+				Method[] updated = Arrays.copyOf(current, current.length + 1);
+				updated[current.length] = method;
+				methodMap.put(method.getName(), updated);
+			}
+
+			if (superIndex != null) {
+				superIndex.methods.forEach((aName, aMethods) -> methodMap.merge(aName, aMethods, (aOwn, aInherited) -> {
+					Method[] merged = Arrays.copyOf(aOwn, aOwn.length + aInherited.length);
+					System.arraycopy(aInherited, 0, merged, aOwn.length, aInherited.length);
+					return merged;
+				}));
+			}
+
+			this.fields = Collections.unmodifiableMap(fieldMap);
+			this.methods = Collections.unmodifiableMap(methodMap);
+		}
+	}
+
+	/**
+	 * Cache key of a method name and argument types
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class MethodSignature {
+		/**
+		 * method name
+		 */
+		private final String name;
+
+		/**
+		 * argument types
+		 */
+		private final Class<?>[] argTypes;
+
+		/**
+		 * precomputed hash
+		 */
+		private final int hash;
+
+		/**
+		 * default constructor
+		 * 
+		 * @param aName
+		 * @param aArgTypes
+		 */
+		MethodSignature(String aName, Class<?>[] aArgTypes) {
+			this.name = aName;
+			this.argTypes = aArgTypes;
+			this.hash = (31 * aName.hashCode()) + Arrays.hashCode(aArgTypes);
+		}
+
+		/**
+		 * @return copy safe to keep as a cache key
+		 */
+		MethodSignature copy() {
+			return new MethodSignature(this.name, this.argTypes.clone());
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object aObject) {
+			if (!(aObject instanceof MethodSignature)) {
+				return false;
+			}
+
+			MethodSignature other = (MethodSignature) aObject;
+			return (this.hash == other.hash) && this.name.equals(other.name)
+					&& Arrays.equals(this.argTypes, other.argTypes);
+		}
+	}
+
+	/**
+	 * Generated property setter with its boxed parameter type
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class PropertySetter {
+		/**
+		 * boxed parameter type
+		 */
+		final Class<?> type;
+
+		/**
+		 * generated setter
+		 */
+		final BiConsumer<Object, Object> consumer;
+
+		/**
+		 * default constructor
+		 * 
+		 * @param aType
+		 * @param aConsumer
+		 */
+		PropertySetter(Class<?> aType, BiConsumer<Object, Object> aConsumer) {
+			this.type = aType;
+			this.consumer = aConsumer;
+		}
+	}
+
+	/**
+	 * Kinds of {@link ObjectLayout}
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private enum LayoutKind {
+		/** immutable value, shared by copies */
+		LEAF,
+		/** array */
+		ARRAY,
+		/** {@link DataMap} or subclass */
+		DATA_MAP,
+		/** other {@link Map} */
+		MAP,
+		/** {@link Collection} */
+		COLLECTION,
+		/** record, built through its canonical constructor */
+		RECORD,
+		/** class with accessible fields */
+		BEAN,
+		/**
+		 * class with inaccessible fields, compared with equals, and cloned if
+		 * {@link Cloneable} or shared otherwise
+		 */
+		OPAQUE
+	}
+
+	/**
+	 * Compiled plan to copy, compare and hash instances of a class, used by
+	 * {@link ReflectionUtils#deepClone(Object)},
+	 * {@link ReflectionUtils#deepEquals(Object, Object)} and
+	 * {@link ReflectionUtils#deepHashCode(Object)}
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class ObjectLayout {
+		/**
+		 * kind of the class
+		 */
+		final LayoutKind kind;
+
+		/**
+		 * target class
+		 */
+		private final Class<?> type;
+
+		/**
+		 * accessors of the copied fields of a {@link LayoutKind#BEAN}, including
+		 * inherited ones
+		 */
+		private final FieldAccessor[] accessors;
+
+		/**
+		 * flags for fields that are copied by reference
+		 */
+		private final boolean[] sharedFields;
+
+		/**
+		 * component accessors of type (Object)Object of a {@link LayoutKind#RECORD}
+		 */
+		private final MethodHandle[] components;
+
+		/**
+		 * constructor of type ()Object, (Comparator)Object for sorted collections,
+		 * (Object[])Object for records, or the public clone method of type
+		 * (Object)Object for a {@link LayoutKind#OPAQUE}. Null if none is usable.
+		 */
+		private final MethodHandle constructor;
+
+		/**
+		 * flag to indicate a sorted map or set, created with its comparator
+		 */
+		private final boolean sorted;
+
+		/**
+		 * default constructor
+		 * 
+		 * @param aClass
+		 */
+		ObjectLayout(Class<?> aClass) {
+			this.type = aClass;
+			this.kind = kindOf(aClass);
+			this.sorted = (SortedMap.class.isAssignableFrom(aClass) || SortedSet.class.isAssignableFrom(aClass));
+
+			List<FieldAccessor> fieldList = new ArrayList<>();
+			List<Boolean> sharedList = new ArrayList<>();
+			MethodHandle[] componentHandles = null;
+			MethodHandle handle = null;
+			try {
+				Lookup lookup = ((this.kind == LayoutKind.LEAF) || (this.kind == LayoutKind.ARRAY)) ? null
+						: lookup(aClass);
+				switch (this.kind) {
+				case MAP:
+				case COLLECTION:
+					handle = this.sorted
+							? lookup.findConstructor(aClass, MethodType.methodType(void.class, Comparator.class))
+									.asType(MethodType.methodType(Object.class, Comparator.class))
+							: lookup.findConstructor(aClass, MethodType.methodType(void.class))
+									.asType(MethodType.methodType(Object.class));
+					break;
+				case RECORD:
+					RecordComponent[] recordComponents = aClass.getRecordComponents();
+					componentHandles = new MethodHandle[recordComponents.length];
+					Class<?>[] componentTypes = new Class<?>[recordComponents.length];
+					for (int idx = 0; idx < recordComponents.length; idx++) {
+						componentHandles[idx] = lookup.unreflect(recordComponents[idx].getAccessor())
+								.asType(MethodType.methodType(Object.class, Object.class));
+						componentTypes[idx] = recordComponents[idx].getType();
+					}
+					handle = lookup.findConstructor(aClass, MethodType.methodType(void.class, componentTypes))
+							.asSpreader(Object[].class, componentTypes.length)
+							.asType(MethodType.methodType(Object.class, Object[].class));
+					break;
+				case BEAN:
+					for (Class<?> searchType = aClass; (searchType != null)
+							&& (searchType != Object.class); searchType = searchType.getSuperclass()) {
+						if (!isAccessible(searchType)) {
+							continue;
+						}
+
+						for (Field field : searchType.getDeclaredFields()) {
+							int modifiers = field.getModifiers();
+							if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+								Class<?> fieldType = field.getType();
+								fieldList.add(getFieldAccessor(field));
+								sharedList.add(field.isSynthetic() || fieldType.isPrimitive()
+										|| Enum.class.isAssignableFrom(fieldType)
+										|| (Modifier.isFinal(fieldType.getModifiers()) && isLeafType(fieldType)));
+							}
+						}
+					}
+					handle = lookup.findConstructor(aClass, MethodType.methodType(void.class))
+							.asType(MethodType.methodType(Object.class));
+					break;
+				case OPAQUE:
+					if (Cloneable.class.isAssignableFrom(aClass)) {
+						handle = lookup.findVirtual(aClass, "clone", MethodType.methodType(Object.class))
+								.asType(MethodType.methodType(Object.class, Object.class));
+					}
+					break;
+				default:
+					break;
+				}
+			} catch (NoSuchMethodException | IllegalAccessException error) {
+				LOGGER.trace("No usable constructor for {}: {}", aClass, error.getMessage());
+				handle = null;
+			}
+
+			this.accessors = fieldList.toArray(new FieldAccessor[fieldList.size()]);
+			this.sharedFields = new boolean[sharedList.size()];
+			for (int idx = 0; idx < this.sharedFields.length; idx++) {
+				this.sharedFields[idx] = sharedList.get(idx);
+			}
+			this.components = componentHandles;
+			this.constructor = handle;
+		}
+
+		/**
+		 * @param aClass
+		 * @return
+		 */
+		private static LayoutKind kindOf(Class<?> aClass) {
+			if (isLeafType(aClass)) {
+				return LayoutKind.LEAF;
+			} else if (aClass.isArray()) {
+				return LayoutKind.ARRAY;
+			} else if (DataMap.class.isAssignableFrom(aClass)) {
+				return LayoutKind.DATA_MAP;
+			} else if (Map.class.isAssignableFrom(aClass)) {
+				return LayoutKind.MAP;
+			} else if (Collection.class.isAssignableFrom(aClass)) {
+				return LayoutKind.COLLECTION;
+			} else if (!isAccessible(aClass)) {
+				return LayoutKind.OPAQUE;
+			}
+
+			return aClass.isRecord() ? LayoutKind.RECORD : LayoutKind.BEAN;
+		}
+
+		/**
+		 * @param aClass
+		 * @return true, if the package of the class is open to this class
+		 */
+		private static boolean isAccessible(Class<?> aClass) {
+			return aClass.getModule().isOpen(aClass.getPackageName(), ReflectionUtils.class.getModule());
+		}
+
+		/**
+		 * @param aSource instance of {@link #type}
+		 * @param aCopies
+		 * @return
+		 */
+		@SuppressWarnings("unchecked")
+		Object copy(Object aSource, Map<Object, Object> aCopies) {
+			switch (this.kind) {
+			case ARRAY:
+				int length = Array.getLength(aSource);
+				Object array = Array.newInstance(this.type.getComponentType(), length);
+				aCopies.put(aSource, array);
+				if (this.type.getComponentType().isPrimitive()) {
+					System.arraycopy(aSource, 0, array, 0, length);
+				} else {
+					Object[] sourceArray = (Object[]) aSource;
+					Object[] targetArray = (Object[]) array;
+					for (int idx = 0; idx < length; idx++) {
+						targetArray[idx] = cloneValue(sourceArray[idx], aCopies);
+					}
+				}
+				return array;
+			case DATA_MAP:
+				DataMap dataMap = new DataMap();
+				aCopies.put(aSource, dataMap);
+				((DataMap) aSource).forEach((aKey, aValue) -> dataMap.put(aKey, cloneValue(aValue, aCopies)));
+				return dataMap;
+			case MAP:
+				Map<Object, Object> map = (Map<Object, Object>) newContainer(aSource);
+				aCopies.put(aSource, map);
+				((Map<?, ?>) aSource).forEach(
+						(aKey, aValue) -> map.put(cloneValue(aKey, aCopies), cloneValue(aValue, aCopies)));
+				return map;
+			case COLLECTION:
+				Collection<Object> collection = (Collection<Object>) newContainer(aSource);
+				aCopies.put(aSource, collection);
+				for (Object element : (Collection<?>) aSource) {
+					collection.add(cloneValue(element, aCopies));
+				}
+				return collection;
+			case RECORD:
+				aCopies.put(aSource, RECORD_IN_PROGRESS);
+				Object[] values = new Object[this.components.length];
+				for (int idx = 0; idx < values.length; idx++) {
+					values[idx] = cloneValue(invoke(this.components[idx], aSource), aCopies);
+				}
+				Object record = construct(values);
+				aCopies.put(aSource, record);
+				return record;
+			case BEAN:
+				Object bean = construct(null);
+				aCopies.put(aSource, bean);
+				for (int idx = 0; idx < this.accessors.length; idx++) {
+					Object value = this.accessors[idx].get(aSource);
+					this.accessors[idx].set(bean, this.sharedFields[idx] ? value : cloneValue(value, aCopies));
+				}
+				if (aSource instanceof DataBean) {
+					copyDynamicValues((DataBean) aSource, (DataBean) bean, aCopies);
+				}
+				return bean;
+			case OPAQUE:
+				// state that cannot be read cannot be copied, so it is shared like a leaf
+				if (this.constructor == null) {
+					return aSource;
+				}
+				Object clone = invoke(this.constructor, aSource);
+				aCopies.put(aSource, clone);
+				return clone;
+			default:
+				return aSource;
+			}
+		}
+
+		/**
+		 * @param aLeft    instance of {@link #type}
+		 * @param aRight
+		 * @param aVisited
+		 * @return
+		 */
+		boolean equals(Object aLeft, Object aRight, Set<IdentityPair> aVisited) {
+			switch (this.kind) {
+			case ARRAY:
+				if (aLeft.getClass() != aRight.getClass()) {
+					return false;
+				} else if (this.type.getComponentType().isPrimitive()) {
+					return Objects.deepEquals(aLeft, aRight);
+				}
+				Object[] leftArray = (Object[]) aLeft;
+				Object[] rightArray = (Object[]) aRight;
+				if (leftArray.length != rightArray.length) {
+					return false;
+				}
+				for (int idx = 0; idx < leftArray.length; idx++) {
+					if (!equalValues(leftArray[idx], rightArray[idx], aVisited)) {
+						return false;
+					}
+				}
+				return true;
+			case DATA_MAP:
+			case MAP:
+				return (aRight instanceof Map) && equalMaps((Map<?, ?>) aLeft, (Map<?, ?>) aRight, aVisited);
+			case COLLECTION:
+				if (aLeft instanceof Set) {
+					return (aRight instanceof Set) && equalSets((Set<?>) aLeft, (Set<?>) aRight, aVisited);
+				} else if ((aLeft instanceof List) != (aRight instanceof List) || !(aRight instanceof Collection)
+						|| (((Collection<?>) aLeft).size() != ((Collection<?>) aRight).size())) {
+					return false;
+				}
+				Iterator<?> rightIterator = ((Collection<?>) aRight).iterator();
+				for (Object element : (Collection<?>) aLeft) {
+					if (!rightIterator.hasNext() || !equalValues(element, rightIterator.next(), aVisited)) {
+						return false;
+					}
+				}
+				return true;
+			case RECORD:
+				if (aLeft.getClass() != aRight.getClass()) {
+					return false;
+				}
+				for (MethodHandle component : this.components) {
+					if (!equalValues(invoke(component, aLeft), invoke(component, aRight), aVisited)) {
+						return false;
+					}
+				}
+				return true;
+			case BEAN:
+				if (aLeft.getClass() != aRight.getClass()) {
+					return false;
+				}
+				for (int idx = 0; idx < this.accessors.length; idx++) {
+					Object leftValue = this.accessors[idx].get(aLeft);
+					Object rightValue = this.accessors[idx].get(aRight);
+					if (this.sharedFields[idx] ? !Objects.equals(leftValue, rightValue)
+							: !equalValues(leftValue, rightValue, aVisited)) {
+						return false;
+					}
+				}
+				return !(aLeft instanceof DataBean) || equalMaps(((DataBean) aLeft).getDynamicValues(),
+						((DataBean) aRight).getDynamicValues(), aVisited);
+			default:
+				return aLeft.equals(aRight);
+			}
+		}
+
+		/**
+		 * @param aSource instance of {@link #type}
+		 * @param aActive
+		 * @return
+		 */
+		int hash(Object aSource, Map<Object, Boolean> aActive) {
+			int hash = 1;
+			switch (this.kind) {
+			case ARRAY:
+				if (this.type.getComponentType().isPrimitive()) {
+					return primitiveArrayHash(aSource);
+				}
+				for (Object element : (Object[]) aSource) {
+					hash = (31 * hash) + hashValue(element, aActive);
+				}
+				return hash;
+			case DATA_MAP:
+			case MAP:
+				return hashMap((Map<?, ?>) aSource, aActive);
+			case COLLECTION:
+				if (aSource instanceof Set) {
+					hash = 0;
+					for (Object element : (Set<?>) aSource) {
+						hash += hashValue(element, aActive);
+					}
+					return hash;
+				}
+				for (Object element : (Collection<?>) aSource) {
+					hash = (31 * hash) + hashValue(element, aActive);
+				}
+				return hash;
+			case RECORD:
+				for (MethodHandle component : this.components) {
+					hash = (31 * hash) + hashValue(invoke(component, aSource), aActive);
+				}
+				return hash;
+			case BEAN:
+				for (int idx = 0; idx < this.accessors.length; idx++) {
+					Object value = this.accessors[idx].get(aSource);
+					hash = (31 * hash) + (this.sharedFields[idx] ? Objects.hashCode(value) : hashValue(value, aActive));
+				}
+				if (aSource instanceof DataBean) {
+					hash = (31 * hash) + hashMap(((DataBean) aSource).getDynamicValues(), aActive);
+				}
+				return hash;
+			default:
+				return aSource.hashCode();
+			}
+		}
+
+		/**
+		 * @param aSource map or collection
+		 * @return new empty instance of the same class, or of a general purpose one if
+		 *         the class has no usable constructor
+		 */
+		private Object newContainer(Object aSource) {
+			if (this.constructor != null) {
+				try {
+					if (!this.sorted) {
+						return this.constructor.invokeExact();
+					}
+
+					Comparator<?> comparator = (aSource instanceof SortedMap) ? ((SortedMap<?, ?>) aSource).comparator()
+							: ((SortedSet<?>) aSource).comparator();
+					return this.constructor.invokeExact(comparator);
+				} catch (RuntimeException | Error error) {
+					throw error;
+				} catch (Throwable error) {
+					throw new ApplicationException(error);
+				}
+			}
+
+			if (aSource instanceof Map) {
+				return new LinkedHashMap<>();
+			}
+
+			return (aSource instanceof Set) ? new LinkedHashSet<>() : new ArrayList<>();
+		}
+
+		/**
+		 * @param aArgs record components, or null for the no-arg constructor
+		 * @return
+		 */
+		private Object construct(Object[] aArgs) {
+			if (this.constructor == null) {
+				throw new ApplicationException("No default constructor found for '{}'", this.type.getName());
+			}
+
+			try {
+				return (aArgs == null) ? this.constructor.invokeExact() : this.constructor.invokeExact(aArgs);
+			} catch (RuntimeException | Error error) {
+				throw error;
+			} catch (Throwable error) {
+				throw new ApplicationException(error);
+			}
+		}
+
+		/**
+		 * @param aHandle handle of type (Object)Object
+		 * @param aTarget
+		 * @return
+		 */
+		private static Object invoke(MethodHandle aHandle, Object aTarget) {
+			try {
+				return aHandle.invokeExact(aTarget);
+			} catch (RuntimeException | Error error) {
+				throw error;
+			} catch (Throwable error) {
+				throw new ApplicationException(error);
+			}
+		}
+
+		/**
+		 * @param aSource
+		 * @param aTarget
+		 * @param aCopies
+		 */
+		private static void copyDynamicValues(DataBean aSource, DataBean aTarget, Map<Object, Object> aCopies) {
+			aSource.getDynamicValues().forEach((aKey, aValue) -> aTarget.add(aKey, cloneValue(aValue, aCopies)));
+
+			Set<String> ignoredFields = aSource.getIgnoredFields();
+			if (!ignoredFields.equals(aTarget.getIgnoredFields())) {
+				aTarget.clearIgnoredFields();
+				aTarget.addIgnoredFields(ignoredFields.toArray(new String[ignoredFields.size()]));
+			}
+		}
+
+		/**
+		 * @param aLeft
+		 * @param aRight
+		 * @param aVisited
+		 * @return
+		 */
+		private static boolean equalMaps(Map<?, ?> aLeft, Map<?, ?> aRight, Set<IdentityPair> aVisited) {
+			if (aLeft.size() != aRight.size()) {
+				return false;
+			}
+
+			for (Entry<?, ?> entry : aLeft.entrySet()) {
+				Object rightValue = aRight.get(entry.getKey());
+				if (((rightValue == null) && !aRight.containsKey(entry.getKey()))
+						|| !equalValues(entry.getValue(), rightValue, aVisited)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * @param aLeft
+		 * @param aRight
+		 * @param aVisited
+		 * @return
+		 */
+		private static boolean equalSets(Set<?> aLeft, Set<?> aRight, Set<IdentityPair> aVisited) {
+			if (aLeft.size() != aRight.size()) {
+				return false;
+			}
+
+			for (Object element : aLeft) {
+				if (aRight.contains(element)) {
+					continue;
+				}
+
+				// failed attempts must not leave pairs marked as equal
+				boolean matched = false;
+				for (Iterator<?> iterator = aRight.iterator(); !matched && iterator.hasNext();) {
+					matched = equalValues(element, iterator.next(), new HashSet<>(aVisited));
+				}
+
+				if (!matched) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		/**
+		 * @param aSource
+		 * @param aActive
+		 * @return
+		 */
+		private static int hashMap(Map<?, ?> aSource, Map<Object, Boolean> aActive) {
+			int hash = 0;
+			for (Entry<?, ?> entry : aSource.entrySet()) {
+				hash += Objects.hashCode(entry.getKey()) ^ hashValue(entry.getValue(), aActive);
+			}
+
+			return hash;
+		}
+
+		/**
+		 * @param aArray primitive array
+		 * @return
+		 */
+		private static int primitiveArrayHash(Object aArray) {
+			if (aArray instanceof int[]) {
+				return Arrays.hashCode((int[]) aArray);
+			} else if (aArray instanceof long[]) {
+				return Arrays.hashCode((long[]) aArray);
+			} else if (aArray instanceof byte[]) {
+				return Arrays.hashCode((byte[]) aArray);
+			} else if (aArray instanceof double[]) {
+				return Arrays.hashCode((double[]) aArray);
+			} else if (aArray instanceof char[]) {
+				return Arrays.hashCode((char[]) aArray);
+			} else if (aArray instanceof boolean[]) {
+				return Arrays.hashCode((boolean[]) aArray);
+			} else if (aArray instanceof float[]) {
+				return Arrays.hashCode((float[]) aArray);
+			}
+
+			return Arrays.hashCode((short[]) aArray);
+		}
+	}
+
+	/**
+	 * Pair of objects compared by identity, to detect cycles in
+	 * {@link ReflectionUtils#deepEquals(Object, Object)}
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class IdentityPair {
+		/**
+		 * left object
+		 */
+		private final Object left;
+
+		/**
+		 * right object
+		 */
+		private final Object right;
+
+		/**
+		 * default constructor
+		 * 
+		 * @param aLeft
+		 * @param aRight
+		 */
+		IdentityPair(Object aLeft, Object aRight) {
+			this.left = aLeft;
+			this.right = aRight;
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * System.identityHashCode(this.left)) + System.identityHashCode(this.right);
+		}
+
+		@Override
+		public boolean equals(Object aObject) {
+			return (aObject instanceof IdentityPair) && (((IdentityPair) aObject).left == this.left)
+					&& (((IdentityPair) aObject).right == this.right);
+		}
+	}
+
+	/**
+	 * {@link Logger} instance
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReflectionUtils.class);
+
 	/**
 	 * hidden constructor
 	 */
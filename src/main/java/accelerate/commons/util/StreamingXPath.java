@@ -0,0 +1,922 @@
+package accelerate.commons.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * Compiled XPath expression evaluated in a single pass over StAX events, so
+ * large documents can be searched without building a DOM. Matches are returned
+ * incrementally, in document order, either as detached DOM nodes or as strings,
+ * and memory use is bounded by the size of the matched fragments.
+ * <p>
+ * The supported subset is:
+ * <ul>
+ * <li>absolute paths of element steps, separated by <code>/</code> (child) or
+ * <code>//</code> (descendant), like <code>/catalog//book</code></li>
+ * <li>element names or <code>*</code>, matched by local name, or by
+ * <code>prefix:name</code> if a prefix is given</li>
+ * <li>position predicates, like <code>book[2]</code>, which must come before
+ * any other predicate of the step</li>
+ * <li>attribute predicates, like <code>book[@id]</code> or
+ * <code>book[@id='b1']</code></li>
+ * <li>an optional final <code>/@name</code> or <code>/text()</code> step</li>
+ * </ul>
+ * Instances are immutable and thread-safe.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class StreamingXPath {
+	/**
+	 * Maximum number of expressions held in {@link #EXPRESSION_CACHE}
+	 */
+	private static final int EXPRESSION_CACHE_LIMIT = 1024;
+
+	/**
+	 * Cache of compiled expressions
+	 */
+	private static final LRUCache<String, StreamingXPath> EXPRESSION_CACHE = new LRUCache<>(
+			EXPRESSION_CACHE_LIMIT);
+
+	/**
+	 * Maximum number of element steps, limited by the bit mask of active states
+	 */
+	private static final int MAX_STEPS = Long.SIZE - 1;
+
+	/**
+	 * source expression
+	 */
+	private final String expression;
+
+	/**
+	 * element steps
+	 */
+	final Step[] steps;
+
+	/**
+	 * name of the attribute selected by the final step, or null
+	 */
+	final String attributeName;
+
+	/**
+	 * flag to indicate the final step selects the text of the element
+	 */
+	final boolean textValue;
+
+	/**
+	 * flag to indicate a step uses a position predicate
+	 */
+	final boolean positional;
+
+	/**
+	 * default constructor
+	 *
+	 * @param aExpression
+	 * @throws ApplicationException if the expression is outside the supported
+	 *                              subset
+	 */
+	private StreamingXPath(String aExpression) throws ApplicationException {
+		this.expression = aExpression;
+
+		List<Step> stepList = new ArrayList<>();
+		String attribute = null;
+		boolean text = false;
+		int index = 0;
+		int length = aExpression.length();
+		if ((length == 0) || (aExpression.charAt(0) != '/')) {
+			throw invalid(aExpression, "only absolute paths are supported");
+		}
+
+		while (index < length) {
+			boolean descendant = aExpression.startsWith("//", index);
+			index += descendant ? 2 : 1;
+			int end = stepEnd(aExpression, index);
+			String step = aExpression.substring(index, end);
+			index = end;
+
+			if (step.equals("text()") || step.startsWith("@")) {
+				if (descendant || (index < length) || stepList.isEmpty()) {
+					throw invalid(aExpression, "@name and text() must be the final child step");
+				}
+
+				attribute = step.startsWith("@") ? step.substring(1) : null;
+				text = (attribute == null);
+			} else {
+				stepList.add(Step.parse(aExpression, step, descendant));
+			}
+		}
+
+		if (stepList.size() > MAX_STEPS) {
+			throw invalid(aExpression, "more than " + MAX_STEPS + " steps");
+		}
+
+		this.steps = stepList.toArray(new Step[stepList.size()]);
+		this.attributeName = attribute;
+		this.textValue = text;
+		this.positional = stepList.stream().anyMatch(aStep -> aStep.position > 0);
+	}
+
+	/**
+	 * This method returns the compiled form of the given expression, from the
+	 * cache if it has been compiled before
+	 *
+	 * @param aExpression
+	 * @return
+	 * @throws ApplicationException if the expression is outside the supported
+	 *                              subset
+	 */
+	public static StreamingXPath compile(String aExpression) throws ApplicationException {
+		if (StringUtils.isEmpty(aExpression)) {
+			throw new ApplicationException("Parameter aExpression is required");
+		}
+
+		return EXPRESSION_CACHE.computeIfAbsent(aExpression, StreamingXPath::new);
+	}
+
+	/**
+	 * Getter method for "expression" property
+	 *
+	 * @return expression
+	 */
+	public String getExpression() {
+		return this.expression;
+	}
+
+	/**
+	 * This method streams the matches in the given source as detached nodes:
+	 * {@link Element} instances, each owned by a new {@link Document}, for element
+	 * paths, and {@link org.w3c.dom.Attr} or {@link org.w3c.dom.Text} instances
+	 * for <code>@name</code> and <code>text()</code> paths. The source is read as
+	 * the stream is consumed, and is not closed.
+	 *
+	 * @param aInputStream
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public Stream<Node> nodes(InputStream aInputStream) throws ApplicationException {
+		return stream(XMLUtils.createStreamReader(aInputStream), true, null).map(Node.class::cast);
+	}
+
+	/**
+	 * This method streams the matches in the given file as detached nodes. The
+	 * file is closed when the stream is closed.
+	 *
+	 * @param aPath
+	 * @return
+	 * @throws ApplicationException
+	 * @see #nodes(InputStream)
+	 */
+	public Stream<Node> nodes(Path aPath) throws ApplicationException {
+		InputStream inputStream = open(aPath);
+		return stream(XMLUtils.createStreamReader(inputStream), true, inputStream).map(Node.class::cast);
+	}
+
+	/**
+	 * This method streams the string values of the matches in the given source:
+	 * the text of all descendants for element paths, the attribute value for
+	 * <code>@name</code> paths and the direct text for <code>text()</code> paths.
+	 * The source is read as the stream is consumed, and is not closed.
+	 *
+	 * @param aInputStream
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public Stream<String> values(InputStream aInputStream) throws ApplicationException {
+		return stream(XMLUtils.createStreamReader(aInputStream), false, null).map(String.class::cast);
+	}
+
+	/**
+	 * This method streams the string values of the matches in the given file. The
+	 * file is closed when the stream is closed.
+	 *
+	 * @param aPath
+	 * @return
+	 * @throws ApplicationException
+	 * @see #values(InputStream)
+	 */
+	public Stream<String> values(Path aPath) throws ApplicationException {
+		InputStream inputStream = open(aPath);
+		return stream(XMLUtils.createStreamReader(inputStream), false, inputStream).map(String.class::cast);
+	}
+
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+	/**
+	 * @param aReader
+	 * @param aNodes
+	 * @param aSource stream to close with the returned stream, or null
+	 * @return
+	 */
+	private Stream<Object> stream(XMLStreamReader aReader, boolean aNodes, InputStream aSource) {
+		Evaluator evaluator = new Evaluator(aReader, new StreamingXPath[] { this }, aNodes);
+		return StreamSupport.stream(new Spliterators.AbstractSpliterator<Object>(Long.MAX_VALUE,
+				Spliterator.ORDERED | Spliterator.NONNULL) {
+			@Override
+			public boolean tryAdvance(Consumer<? super Object> aAction) {
+				Match match = evaluator.next();
+				if (match == null) {
+					return false;
+				}
+
+				aAction.accept(match.value);
+				return true;
+			}
+		}, false).onClose(() -> {
+			evaluator.close();
+			if (aSource != null) {
+				try {
+					aSource.close();
+				} catch (IOException error) {
+					throw new UncheckedIOException(error);
+				}
+			}
+		});
+	}
+
+	/**
+	 * @param aPath
+	 * @return
+	 * @throws ApplicationException
+	 */
+	private static InputStream open(Path aPath) throws ApplicationException {
+		try {
+			return Files.newInputStream(aPath);
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * @param aExpression
+	 * @param aIndex      start of the step
+	 * @return end of the step, skipping separators inside predicates
+	 */
+	private static int stepEnd(String aExpression, int aIndex) {
+		int index = aIndex;
+		char quote = 0;
+		int brackets = 0;
+		for (; index < aExpression.length(); index++) {
+			char current = aExpression.charAt(index);
+			if (quote != 0) {
+				quote = (current == quote) ? 0 : quote;
+			} else if ((current == '\'') || (current == '"')) {
+				quote = current;
+			} else if (current == '[') {
+				brackets++;
+			} else if (current == ']') {
+				brackets--;
+			} else if ((current == '/') && (brackets == 0)) {
+				break;
+			}
+		}
+
+		return index;
+	}
+
+	/**
+	 * @param aExpression
+	 * @param aReason
+	 * @return
+	 */
+	static ApplicationException invalid(String aExpression, String aReason) {
+		return new ApplicationException("Unsupported streaming XPath expression '{}': {}", aExpression, aReason);
+	}
+
+	/**
+	 * Element step of a path
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	static final class Step {
+		/**
+		 * flag to indicate the descendant axis
+		 */
+		final boolean descendant;
+
+		/**
+		 * element name, or null for any element
+		 */
+		final String name;
+
+		/**
+		 * flag to indicate {@link #name} has a prefix
+		 */
+		final boolean prefixed;
+
+		/**
+		 * required position among the siblings with a matching name, or 0
+		 */
+		final int position;
+
+		/**
+		 * names of the required attributes
+		 */
+		final String[] attributeNames;
+
+		/**
+		 * required attribute values, null entries only require the attribute
+		 */
+		final String[] attributeValues;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aDescendant
+		 * @param aName
+		 * @param aPosition
+		 * @param aAttributeNames
+		 * @param aAttributeValues
+		 */
+		private Step(boolean aDescendant, String aName, int aPosition, String[] aAttributeNames,
+				String[] aAttributeValues) {
+			this.descendant = aDescendant;
+			this.name = aName.equals("*") ? null : aName;
+			this.prefixed = aName.indexOf(':') > 0;
+			this.position = aPosition;
+			this.attributeNames = aAttributeNames;
+			this.attributeValues = aAttributeValues;
+		}
+
+		/**
+		 * @param aExpression full expression, for error messages
+		 * @param aStep       step text
+		 * @param aDescendant
+		 * @return
+		 * @throws ApplicationException if the step is outside the supported subset
+		 */
+		static Step parse(String aExpression, String aStep, boolean aDescendant) throws ApplicationException {
+			int bracket = aStep.indexOf('[');
+			String name = (bracket < 0) ? aStep : aStep.substring(0, bracket);
+			if (name.isEmpty() || !(name.equals("*") || name.chars().allMatch(
+					aChar -> Character.isLetterOrDigit(aChar) || (aChar == '_') || (aChar == '-') || (aChar == '.')
+							|| (aChar == ':')))) {
+				throw invalid(aExpression, "invalid step '" + aStep + "'");
+			}
+
+			int position = 0;
+			List<String> names = new ArrayList<>();
+			List<String> values = new ArrayList<>();
+			int index = bracket;
+			while ((index >= 0) && (index < aStep.length())) {
+				int close = stepPredicateEnd(aStep, index);
+				if ((aStep.charAt(index) != '[') || (close < 0)) {
+					throw invalid(aExpression, "invalid predicate in '" + aStep + "'");
+				}
+
+				String predicate = aStep.substring(index + 1, close).trim();
+				if (!predicate.isEmpty() && predicate.chars().allMatch(Character::isDigit)) {
+					if ((position > 0) || !names.isEmpty()) {
+						throw invalid(aExpression, "position must be the first predicate of '" + aStep + "'");
+					}
+					position = Integer.parseInt(predicate);
+				} else if (predicate.startsWith("@")) {
+					int equals = predicate.indexOf('=');
+					names.add(((equals < 0) ? predicate.substring(1) : predicate.substring(1, equals)).trim());
+					values.add((equals < 0) ? null : literal(aExpression, predicate.substring(equals + 1).trim()));
+				} else {
+					throw invalid(aExpression, "unsupported predicate '" + predicate + "'");
+				}
+
+				index = close + 1;
+			}
+
+			return new Step(aDescendant, name, position, names.toArray(new String[names.size()]),
+					values.toArray(new String[values.size()]));
+		}
+
+		/**
+		 * @param aStep
+		 * @param aStart index of '['
+		 * @return index of the matching ']', or -1
+		 */
+		private static int stepPredicateEnd(String aStep, int aStart) {
+			char quote = 0;
+			for (int index = aStart + 1; index < aStep.length(); index++) {
+				char current = aStep.charAt(index);
+				if (quote != 0) {
+					quote = (current == quote) ? 0 : quote;
+				} else if ((current == '\'') || (current == '"')) {
+					quote = current;
+				} else if (current == ']') {
+					return index;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * @param aExpression
+		 * @param aLiteral    quoted literal
+		 * @return
+		 */
+		private static String literal(String aExpression, String aLiteral) {
+			if ((aLiteral.length() < 2) || ((aLiteral.charAt(0) != '\'') && (aLiteral.charAt(0) != '"'))
+					|| (aLiteral.charAt(aLiteral.length() - 1) != aLiteral.charAt(0))) {
+				throw invalid(aExpression, "invalid literal " + aLiteral);
+			}
+
+			return aLiteral.substring(1, aLiteral.length() - 1);
+		}
+
+		/**
+		 * @param aReader  reader positioned at a start element
+		 * @param aCounts  number of siblings seen so far by name, including the
+		 *                 current element
+		 * @param aSiblings number of siblings seen so far, including the current
+		 *                 element
+		 * @return true, if the current element matches this step
+		 */
+		boolean matches(XMLStreamReader aReader, Map<String, Integer> aCounts, int aSiblings) {
+			if ((this.name != null) && !this.name.equals(this.prefixed ? qualifiedName(aReader)
+					: aReader.getLocalName())) {
+				return false;
+			}
+
+			if ((this.position > 0) && (this.position != ((this.name == null) ? aSiblings
+					: aCounts.get(this.name)))) {
+				return false;
+			}
+
+			for (int idx = 0; idx < this.attributeNames.length; idx++) {
+				String value = aReader.getAttributeValue(null, this.attributeNames[idx]);
+				if ((value == null) || ((this.attributeValues[idx] != null)
+						&& !this.attributeValues[idx].equals(value))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * @param aReader reader positioned at a start element
+	 * @return
+	 */
+	static String qualifiedName(XMLStreamReader aReader) {
+		String prefix = aReader.getPrefix();
+		return StringUtils.isEmpty(prefix) ? aReader.getLocalName() : prefix + ":" + aReader.getLocalName();
+	}
+
+	/**
+	 * Match of a path, completed once its value is available
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	static final class Match {
+		/**
+		 * index of the matched path
+		 */
+		final int path;
+
+		/**
+		 * matched node or string, set on completion
+		 */
+		Object value = null;
+
+		/**
+		 * flag to indicate the value is complete
+		 */
+		boolean done = false;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aPath
+		 */
+		Match(int aPath) {
+			this.path = aPath;
+		}
+	}
+
+	/**
+	 * Capture of the content of a matched element
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class Capture {
+		/**
+		 * match to complete
+		 */
+		final Match match;
+
+		/**
+		 * flag to capture only the direct text of the element
+		 */
+		final boolean directText;
+
+		/**
+		 * collected text, or null for node captures
+		 */
+		final StringBuilder text;
+
+		/**
+		 * current node of node captures, or null
+		 */
+		Node current;
+
+		/**
+		 * depth below the matched element
+		 */
+		int depth = 0;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aMatch
+		 * @param aDirectText
+		 * @param aElement    root element of node captures, or null
+		 */
+		Capture(Match aMatch, boolean aDirectText, Element aElement) {
+			this.match = aMatch;
+			this.directText = aDirectText;
+			this.current = aElement;
+			this.text = (aElement == null) ? new StringBuilder() : null;
+		}
+	}
+
+	/**
+	 * Evaluation state of one element on the stack
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class Frame {
+		/**
+		 * bit mask of the steps each path can match next among the children
+		 */
+		long[] states;
+
+		/**
+		 * number of children seen so far by qualified and local name, or null
+		 */
+		Map<String, Integer> childCounts = null;
+
+		/**
+		 * number of children seen so far
+		 */
+		int childCount = 0;
+	}
+
+	/**
+	 * Single pass evaluator of one or more paths over a {@link XMLStreamReader}.
+	 * It is not thread-safe.
+	 *
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	static final class Evaluator {
+		/**
+		 * source reader
+		 */
+		private final XMLStreamReader reader;
+
+		/**
+		 * evaluated paths
+		 */
+		private final StreamingXPath[] paths;
+
+		/**
+		 * flag to return nodes instead of strings
+		 */
+		private final boolean nodes;
+
+		/**
+		 * flag to indicate a path uses position predicates
+		 */
+		private final boolean positional;
+
+		/**
+		 * element stack, reused across elements
+		 */
+		private final List<Frame> frames = new ArrayList<>();
+
+		/**
+		 * current depth, 0 for the document
+		 */
+		private int depth = 0;
+
+		/**
+		 * captures in progress
+		 */
+		private final List<Capture> captures = new ArrayList<>();
+
+		/**
+		 * matches in document order, not returned yet
+		 */
+		private final Deque<Match> pending = new ArrayDeque<>();
+
+		/**
+		 * default constructor
+		 *
+		 * @param aReader
+		 * @param aPaths
+		 * @param aNodes
+		 */
+		Evaluator(XMLStreamReader aReader, StreamingXPath[] aPaths, boolean aNodes) {
+			this.reader = aReader;
+			this.paths = aPaths;
+			this.nodes = aNodes;
+
+			boolean anyPositional = false;
+			Frame root = new Frame();
+			root.states = new long[aPaths.length];
+			for (int idx = 0; idx < aPaths.length; idx++) {
+				root.states[idx] = 1L;
+				anyPositional |= aPaths[idx].positional;
+			}
+			this.positional = anyPositional;
+			this.frames.add(root);
+		}
+
+		/**
+		 * This method reads events until the next match in document order is
+		 * complete
+		 *
+		 * @return next match, or null at the end of the document
+		 * @throws ApplicationException on parsing errors
+		 */
+		Match next() throws ApplicationException {
+			try {
+				while (this.pending.isEmpty() || !this.pending.peekFirst().done) {
+					if (!this.reader.hasNext()) {
+						return null;
+					}
+
+					switch (this.reader.next()) {
+					case XMLStreamConstants.START_ELEMENT:
+						startElement();
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						endElement();
+						break;
+					case XMLStreamConstants.CHARACTERS:
+					case XMLStreamConstants.CDATA:
+					case XMLStreamConstants.SPACE:
+						characters();
+						break;
+					case XMLStreamConstants.COMMENT:
+						comment();
+						break;
+					default:
+						break;
+					}
+				}
+			} catch (XMLStreamException error) {
+				throw new ApplicationException(error);
+			}
+
+			return this.pending.pollFirst();
+		}
+
+		/**
+		 * This method closes the reader, but not its source
+		 */
+		void close() {
+			try {
+				this.reader.close();
+			} catch (XMLStreamException error) {
+				throw new ApplicationException(error);
+			}
+		}
+
+		/**
+		 * This method evaluates the paths for a new element and opens the captures
+		 * of its matches
+		 */
+		private void startElement() {
+			for (Capture capture : this.captures) {
+				capture.depth++;
+				if (capture.current != null) {
+					Element element = newElement(capture.current.getOwnerDocument());
+					capture.current.appendChild(element);
+					capture.current = element;
+				}
+			}
+
+			Frame parent = this.frames.get(this.depth);
+			parent.childCount++;
+			if (this.positional) {
+				if (parent.childCounts == null) {
+					parent.childCounts = new HashMap<>();
+				}
+				parent.childCounts.merge(this.reader.getLocalName(), 1, Integer::sum);
+				if (!StringUtils.isEmpty(this.reader.getPrefix())) {
+					parent.childCounts.merge(qualifiedName(this.reader), 1, Integer::sum);
+				}
+			}
+
+			this.depth++;
+			if (this.frames.size() == this.depth) {
+				Frame frame = new Frame();
+				frame.states = new long[this.paths.length];
+				this.frames.add(frame);
+			}
+
+			Frame frame = this.frames.get(this.depth);
+			frame.childCount = 0;
+			if (frame.childCounts != null) {
+				frame.childCounts.clear();
+			}
+
+			for (int path = 0; path < this.paths.length; path++) {
+				frame.states[path] = nextStates(path, parent.states[path], parent);
+			}
+		}
+
+		/**
+		 * @param aPath
+		 * @param aStates states of the parent
+		 * @param aParent
+		 * @return states of the current element, after opening any matches
+		 */
+		private long nextStates(int aPath, long aStates, Frame aParent) {
+			StreamingXPath xPath = this.paths[aPath];
+			long states = 0L;
+			for (long remaining = aStates; remaining != 0; remaining &= (remaining - 1)) {
+				int step = Long.numberOfTrailingZeros(remaining);
+				Step current = xPath.steps[step];
+				if (current.descendant) {
+					states |= (1L << step);
+				}
+
+				if (current.matches(this.reader, aParent.childCounts, aParent.childCount)) {
+					if ((step + 1) == xPath.steps.length) {
+						open(aPath, xPath);
+					} else {
+						states |= (1L << (step + 1));
+					}
+				}
+			}
+
+			return states;
+		}
+
+		/**
+		 * This method registers a match of the given path on the current element
+		 *
+		 * @param aPath
+		 * @param aXPath
+		 */
+		private void open(int aPath, StreamingXPath aXPath) {
+			Match match = new Match(aPath);
+			this.pending.addLast(match);
+
+			if (aXPath.attributeName != null) {
+				String value = this.reader.getAttributeValue(null, aXPath.attributeName);
+				if (value == null) {
+					this.pending.removeLast();
+					return;
+				}
+
+				if (this.nodes) {
+					Attr attribute = XMLUtils.newDocument().createAttribute(aXPath.attributeName);
+					attribute.setValue(value);
+					match.value = attribute;
+				} else {
+					match.value = value;
+				}
+				match.done = true;
+			} else if (this.nodes && !aXPath.textValue) {
+				Document document = XMLUtils.newDocument();
+				Element element = newElement(document);
+				document.appendChild(element);
+				this.captures.add(new Capture(match, false, element));
+			} else {
+				this.captures.add(new Capture(match, aXPath.textValue, null));
+			}
+		}
+
+		/**
+		 * This method closes the current element and completes its captures
+		 */
+		private void endElement() {
+			for (int idx = this.captures.size() - 1; idx >= 0; idx--) {
+				Capture capture = this.captures.get(idx);
+				if (capture.depth > 0) {
+					capture.depth--;
+					if (capture.current != null) {
+						capture.current = capture.current.getParentNode();
+					}
+					continue;
+				}
+
+				Match match = capture.match;
+				if (capture.current != null) {
+					match.value = capture.current;
+				} else if (this.nodes) {
+					match.value = XMLUtils.newDocument().createTextNode(capture.text.toString());
+				} else {
+					match.value = capture.text.toString();
+				}
+				match.done = true;
+				this.captures.remove(idx);
+			}
+
+			this.depth--;
+		}
+
+		/**
+		 * This method adds text to the open captures
+		 */
+		private void characters() {
+			if (this.captures.isEmpty()) {
+				return;
+			}
+
+			String text = null;
+			for (Capture capture : this.captures) {
+				if (capture.directText && (capture.depth > 0)) {
+					continue;
+				}
+
+				if (text == null) {
+					text = this.reader.getText();
+				}
+
+				if (capture.current != null) {
+					capture.current.appendChild(capture.current.getOwnerDocument().createTextNode(text));
+				} else {
+					capture.text.append(text);
+				}
+			}
+		}
+
+		/**
+		 * This method adds a comment to the open node captures
+		 */
+		private void comment() {
+			for (Capture capture : this.captures) {
+				if (capture.current != null) {
+					capture.current.appendChild(
+							capture.current.getOwnerDocument().createComment(this.reader.getText()));
+				}
+			}
+		}
+
+		/**
+		 * @param aDocument
+		 * @return copy of the current element, with its attributes and namespace
+		 *         declarations
+		 */
+		private Element newElement(Document aDocument) {
+			Element element = aDocument.createElementNS(this.reader.getNamespaceURI(), qualifiedName(this.reader));
+			for (int idx = 0; idx < this.reader.getNamespaceCount(); idx++) {
+				String prefix = this.reader.getNamespacePrefix(idx);
+				element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI,
+						StringUtils.isEmpty(prefix) ? XMLConstants.XMLNS_ATTRIBUTE
+								: XMLConstants.XMLNS_ATTRIBUTE + ":" + prefix,
+						this.reader.getNamespaceURI(idx));
+			}
+
+			for (int idx = 0; idx < this.reader.getAttributeCount(); idx++) {
+				String prefix = this.reader.getAttributePrefix(idx);
+				String name = this.reader.getAttributeLocalName(idx);
+				String namespace = this.reader.getAttributeNamespace(idx);
+				element.setAttributeNS(StringUtils.isEmpty(namespace) ? null : namespace,
+						StringUtils.isEmpty(prefix) ? name : prefix + ":" + name, this.reader.getAttributeValue(idx));
+			}
+
+			return element;
+		}
+	}
+}
@@ -0,0 +1,294 @@
+package accelerate.commons.util;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * Class providing methods to parse and process all XML files in a directory
+ * tree in parallel.
+ * <p>
+ * The tree is walked on the calling thread, which hands each file to a
+ * fixed pool of workers through a bounded queue. When the queue is full the
+ * calling thread parses the file itself, so the walk never gets far ahead of
+ * the workers and only a few documents are in memory at a time. Workers parse
+ * with the {@link javax.xml.parsers.DocumentBuilder} cached by
+ * {@link XMLUtils} for each thread, and each document is dropped once the
+ * processor has returned.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class XMLBatchProcessor {
+	/**
+	 * Number of queued files per worker
+	 */
+	private static final int QUEUE_FACTOR = 2;
+
+	/**
+	 * This method processes all files with the given extension under the given
+	 * root, using one worker per core
+	 *
+	 * @param <R>
+	 * @param aRootPath   path to the file or folder of files
+	 * @param aSearchExtn extension of the files, like "xml"
+	 * @param aProcessor  function applied to each parsed {@link Document}
+	 * @return {@link Map} of {@link FileResult} by relative path
+	 * @throws ApplicationException if the root cannot be read
+	 */
+	public static <R> Map<String, FileResult<R>> process(Path aRootPath, String aSearchExtn,
+			Function<Document, R> aProcessor) throws ApplicationException {
+		return process(aRootPath, aSearchExtn, aProcessor, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * This method processes all files with the given extension under the given
+	 * root. Parse errors and anything thrown by the processor, including a
+	 * {@link StackOverflowError}, are recorded in the {@link FileResult} of the
+	 * file, and do not stop the batch. Files and directories below the root that
+	 * cannot be read are recorded the same way, with the {@link IOException} as
+	 * the error. Any other {@link VirtualMachineError}, like an
+	 * {@link OutOfMemoryError}, stops the walk and is rethrown once the workers
+	 * have finished.
+	 *
+	 * @param <R>
+	 * @param aRootPath    path to the file or folder of files
+	 * @param aSearchExtn  extension of the files, like "xml"
+	 * @param aProcessor   function applied to each parsed {@link Document}
+	 * @param aParallelism number of worker threads
+	 * @return {@link Map} of {@link FileResult} by relative path
+	 * @throws ApplicationException if the root cannot be read
+	 * @throws VirtualMachineError  thrown while processing a file, other than
+	 *                              {@link StackOverflowError}
+	 */
+	public static <R> Map<String, FileResult<R>> process(Path aRootPath, String aSearchExtn,
+			Function<Document, R> aProcessor, int aParallelism) throws ApplicationException {
+		if ((aRootPath == null) || (aProcessor == null) || (aParallelism < 1)) {
+			throw new ApplicationException("Invalid arguments root: {}, processor: {}, parallelism: {}", aRootPath,
+					aProcessor, aParallelism);
+		}
+
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(aParallelism, aParallelism, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(aParallelism * QUEUE_FACTOR), aRunnable -> {
+					Thread thread = new Thread(aRunnable, "XMLBatchProcessor-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+		Map<String, FileResult<R>> resultMap = new ConcurrentHashMap<>();
+		AtomicReference<VirtualMachineError> fatalError = new AtomicReference<>();
+		long start = System.nanoTime();
+		try {
+			Files.walkFileTree(aRootPath, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path aPath, BasicFileAttributes aAttrs) {
+					if (fatalError.get() != null) {
+						return FileVisitResult.TERMINATE;
+					}
+
+					if (Files.isRegularFile(aPath) && ((aSearchExtn == null)
+							|| CommonUtils.compare(NIOUtils.getFileExtn(aPath), aSearchExtn))) {
+						String key = NIOUtils.getRelativePath(aRootPath, aPath);
+						executor.execute(() -> {
+							try {
+								resultMap.put(key, processFile(aPath, aProcessor));
+							} catch (VirtualMachineError error) {
+								fatalError.compareAndSet(null, error);
+								throw error;
+							}
+						});
+					}
+
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path aPath, IOException aError) throws IOException {
+					return recordFailure(aPath, aError);
+				}
+
+				@Override
+				public FileVisitResult postVisitDirectory(Path aPath, IOException aError) throws IOException {
+					return (aError == null) ? FileVisitResult.CONTINUE : recordFailure(aPath, aError);
+				}
+
+				/**
+				 * @param aPath
+				 * @param aError
+				 * @return
+				 * @throws IOException if the root cannot be read
+				 */
+				private FileVisitResult recordFailure(Path aPath, IOException aError) throws IOException {
+					if (aPath.equals(aRootPath)) {
+						throw aError;
+					}
+
+					LOGGER.debug("Error reading [{}]", aPath, aError);
+					resultMap.put(NIOUtils.getRelativePath(aRootPath, aPath), new FileResult<>(aPath, null, aError));
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		} finally {
+			awaitTermination(executor);
+		}
+
+		if (fatalError.get() != null) {
+			throw fatalError.get();
+		}
+
+		LOGGER.debug("process: root=[{}], files=[{}], threads=[{}], time=[{}ms]", aRootPath, resultMap.size(),
+				aParallelism, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return new TreeMap<>(resultMap);
+	}
+
+	/**
+	 * @param <R>
+	 * @param aPath
+	 * @param aProcessor
+	 * @return
+	 * @throws VirtualMachineError other than {@link StackOverflowError}, which
+	 *                             leaves the JVM unfit to continue the batch
+	 */
+	private static <R> FileResult<R> processFile(Path aPath, Function<Document, R> aProcessor) {
+		try {
+			return new FileResult<>(aPath, aProcessor.apply(XMLUtils.loadXMLFile(aPath)), null);
+		} catch (Throwable error) {
+			if ((error instanceof VirtualMachineError) && !(error instanceof StackOverflowError)) {
+				throw (VirtualMachineError) error;
+			}
+
+			LOGGER.debug("Error processing [{}]", aPath, error);
+			return new FileResult<>(aPath, null, error);
+		}
+	}
+
+	/**
+	 * This method waits for the queued files to be processed, and stops the
+	 * workers
+	 *
+	 * @param aExecutor
+	 * @throws ApplicationException if interrupted
+	 */
+	private static void awaitTermination(ThreadPoolExecutor aExecutor) throws ApplicationException {
+		aExecutor.shutdown();
+		try {
+			while (!aExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+				LOGGER.debug("awaitTermination: {} files pending", aExecutor.getQueue().size());
+			}
+		} catch (InterruptedException error) {
+			aExecutor.shutdownNow();
+			Thread.currentThread().interrupt();
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * Outcome of processing a single file
+	 *
+	 * @param <R> type of the processor result
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	public static final class FileResult<R> {
+		/**
+		 * processed file
+		 */
+		private final Path path;
+
+		/**
+		 * value returned by the processor, or null
+		 */
+		private final R value;
+
+		/**
+		 * error thrown while reading, parsing or processing, or null
+		 */
+		private final Throwable error;
+
+		/**
+		 * default constructor
+		 *
+		 * @param aPath
+		 * @param aValue
+		 * @param aError
+		 */
+		FileResult(Path aPath, R aValue, Throwable aError) {
+			this.path = aPath;
+			this.value = aValue;
+			this.error = aError;
+		}
+
+		/**
+		 * @return true, if the file was parsed and processed without errors
+		 */
+		public boolean isSuccess() {
+			return this.error == null;
+		}
+
+		/**
+		 * Getter method for "path" property
+		 *
+		 * @return path
+		 */
+		public Path getPath() {
+			return this.path;
+		}
+
+		/**
+		 * Getter method for "value" property
+		 *
+		 * @return value
+		 */
+		public R getValue() {
+			return this.value;
+		}
+
+		/**
+		 * Getter method for "error" property
+		 *
+		 * @return error
+		 */
+		public Throwable getError() {
+			return this.error;
+		}
+
+		@Override
+		public String toString() {
+			return (this.error == null) ? this.path + " => " + this.value : this.path + " !! " + this.error;
+		}
+	}
+
+	/**
+	 * {@link Logger} instance
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(XMLBatchProcessor.class);
+
+	/**
+	 * hidden constructor
+	 */
+	private XMLBatchProcessor() {
+	}
+}
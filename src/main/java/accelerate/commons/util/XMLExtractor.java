@@ -0,0 +1,187 @@
+package accelerate.commons.util;
+
+import java.io.InputStream;
+import java.util.Map;
+
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import accelerate.commons.data.DataMap;
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * Extractor of a fixed set of XPath expressions into a {@link DataMap}, created
+ * once with {@link XMLUtils#compileExtractor(Map)} and reused across documents.
+ * <p>
+ * Each key is set to the trimmed value of the first match of its expression:
+ * the direct text of an element, or the value of an attribute. An expression
+ * ending in {@code text()} selects all direct text of the element, joined, as
+ * the streaming mode reads it. Keys without a match are left out. Against a {@link Document} any XPath
+ * expression can be used, while an {@link InputStream} is read in a single
+ * pass that evaluates all expressions together, which requires expressions in
+ * the subset supported by {@link StreamingXPath}.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public final class XMLExtractor {
+	/**
+	 * keys, in the iteration order of the source map
+	 */
+	private final String[] keys;
+
+	/**
+	 * expression of each key
+	 */
+	private final String[] expressions;
+
+	/**
+	 * flag for each expression ending in a text() step, whose text nodes are
+	 * joined with their siblings
+	 */
+	private final boolean[] textSteps;
+
+	/**
+	 * streaming form of each expression, compiled on the first stream extraction
+	 */
+	private volatile StreamingXPath[] streamingPaths = null;
+
+	/**
+	 * default constructor
+	 *
+	 * @param aKeyToXPath
+	 * @throws ApplicationException if a key or expression is empty
+	 */
+	XMLExtractor(Map<String, String> aKeyToXPath) throws ApplicationException {
+		if (aKeyToXPath == null) {
+			throw new ApplicationException("Parameter aKeyToXPath is required");
+		}
+
+		this.keys = new String[aKeyToXPath.size()];
+		this.expressions = new String[aKeyToXPath.size()];
+		this.textSteps = new boolean[aKeyToXPath.size()];
+		int index = 0;
+		for (Map.Entry<String, String> entry : aKeyToXPath.entrySet()) {
+			if (StringUtils.isEmpty(entry.getKey()) || StringUtils.isEmpty(entry.getValue())) {
+				throw new ApplicationException("Empty key or expression in '{}'", entry);
+			}
+
+			this.keys[index] = entry.getKey();
+			this.textSteps[index] = entry.getValue().endsWith("/text()");
+			this.expressions[index++] = entry.getValue();
+		}
+	}
+
+	/**
+	 * This method evaluates the expressions against the given document
+	 *
+	 * @param aContext {@link Document} or any other context {@link Node}
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public DataMap extract(Node aContext) throws ApplicationException {
+		if (aContext == null) {
+			throw new ApplicationException("Parameter aContext is required");
+		}
+
+		DataMap dataMap = new DataMap();
+		try {
+			for (int idx = 0; idx < this.keys.length; idx++) {
+				Node node = (Node) XMLUtils.compileXPath(this.expressions[idx]).evaluate(aContext,
+						XPathConstants.NODE);
+				if ((node != null) && this.textSteps[idx] && !(node instanceof Element)) {
+					node = node.getParentNode();
+				}
+
+				if (node != null) {
+					dataMap.put(this.keys[idx], StringUtils.trim(nodeValue(node)));
+				}
+			}
+		} catch (XPathExpressionException error) {
+			throw new ApplicationException(error);
+		}
+
+		return dataMap;
+	}
+
+	/**
+	 * This method evaluates all expressions in a single pass over the given
+	 * source, and stops reading once each expression has matched. The source is
+	 * not closed.
+	 *
+	 * @param aInputStream
+	 * @return
+	 * @throws ApplicationException if an expression is outside the subset
+	 *                              supported by {@link StreamingXPath}, or on
+	 *                              parsing errors
+	 */
+	public DataMap extract(InputStream aInputStream) throws ApplicationException {
+		StreamingXPath.Evaluator evaluator = new StreamingXPath.Evaluator(XMLUtils.createStreamReader(aInputStream),
+				streamingPaths(), false);
+
+		DataMap dataMap = new DataMap();
+		try {
+			int remaining = this.keys.length;
+			while (remaining > 0) {
+				StreamingXPath.Match match = evaluator.next();
+				if (match == null) {
+					break;
+				}
+
+				if (dataMap.putIfAbsent(this.keys[match.path], StringUtils.trim((String) match.value)) == null) {
+					remaining--;
+				}
+			}
+		} finally {
+			evaluator.close();
+		}
+
+		return dataMap;
+	}
+
+	/**
+	 * @return streaming form of the expressions, with element paths selecting
+	 *         their direct text
+	 * @throws ApplicationException
+	 */
+	private StreamingXPath[] streamingPaths() throws ApplicationException {
+		StreamingXPath[] paths = this.streamingPaths;
+		if (paths == null) {
+			paths = new StreamingXPath[this.expressions.length];
+			for (int idx = 0; idx < paths.length; idx++) {
+				StreamingXPath path = StreamingXPath.compile(this.expressions[idx]);
+				paths[idx] = ((path.attributeName != null) || path.textValue) ? path
+						: StreamingXPath.compile(this.expressions[idx] + "/text()");
+			}
+			this.streamingPaths = paths;
+		}
+
+		return paths;
+	}
+
+	/**
+	 * @param aNode
+	 * @return direct text of elements, or the node value
+	 */
+	private static String nodeValue(Node aNode) {
+		if (!(aNode instanceof Element)) {
+			return aNode.getNodeValue();
+		}
+
+		StringBuilder text = new StringBuilder();
+		for (Node child = aNode.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if ((child.getNodeType() == Node.TEXT_NODE) || (child.getNodeType() == Node.CDATA_SECTION_NODE)) {
+				text.append(child.getNodeValue());
+			}
+		}
+
+		return text.toString();
+	}
+}
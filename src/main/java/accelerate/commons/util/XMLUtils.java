@@ -1,11 +1,32 @@
 package accelerate.commons.util;
 
+import static accelerate.commons.constant.CommonConstants.EMPTY_STRING;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -14,6 +35,7 @@ import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
@@ -25,6 +47,7 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
+import accelerate.commons.data.DataMap;
 import accelerate.commons.exception.ApplicationException;
 
 /**
@@ -50,6 +73,53 @@ public final class XMLUtils {
 	 */
 	private static TransformerFactory transformerFactory = null;
 
+	/**
+	 * {@link XMLInputFactory} singleton instance
+	 */
+	private static XMLInputFactory inputFactory = null;
+
+	/**
+	 * Maximum number of compiled expressions cached per thread
+	 */
+	private static final int XPATH_CACHE_LIMIT = 512;
+
+	/**
+	 * Maximum number of extractors held in {@link #EXTRACTOR_CACHE}
+	 */
+	private static final int EXTRACTOR_CACHE_LIMIT = 256;
+
+	/**
+	 * Cache of {@link XMLExtractor} instances keyed by their expression map
+	 */
+	private static final LRUCache<Map<String, String>, XMLExtractor> EXTRACTOR_CACHE = new LRUCache<>(
+			EXTRACTOR_CACHE_LIMIT);
+
+	/**
+	 * {@link XPathCache} of each thread
+	 */
+	private static final ThreadLocal<XPathCache> XPATH_CACHE = ThreadLocal.withInitial(XPathCache::new);
+
+	/**
+	 * {@link DocumentBuilder} of each thread, as builders are not thread-safe and
+	 * costly to create
+	 */
+	private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(() -> {
+		// factories are not guaranteed to be thread-safe
+		synchronized (builderFactory) {
+			try {
+				return builderFactory.newDocumentBuilder();
+			} catch (ParserConfigurationException error) {
+				throw new ApplicationException(error);
+			}
+		}
+	});
+
+	/**
+	 * Identity {@link Transformer} instances of each thread, for compact and
+	 * indented output, created on first use
+	 */
+	private static final ThreadLocal<Transformer[]> TRANSFORMERS = ThreadLocal.withInitial(() -> new Transformer[2]);
+
 	/**
 	 * static block
 	 */
@@ -58,6 +128,10 @@ public final class XMLUtils {
 			builderFactory = DocumentBuilderFactory.newInstance();
 			xPathFactory = XPathFactory.newInstance();
 			transformerFactory = TransformerFactory.newInstance();
+			inputFactory = XMLInputFactory.newInstance();
+			inputFactory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+			inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+			inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
 		} catch (Exception error) {
 			throw new ApplicationException(error);
 		}
@@ -73,29 +147,204 @@ public final class XMLUtils {
 			throw new ApplicationException("Parameter XMLPath is required");
 		}
 
-		return StreamUtils.loadInputStream(aXMLPath, aInputStream -> {
+		return StreamUtils.loadInputStream(aXMLPath, aInputStream -> parse(new InputSource(aInputStream)));
+	}
+
+	/**
+	 * This method parses the given file with the {@link DocumentBuilder} of the
+	 * current thread
+	 * 
+	 * @param aXMLPath
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static Document loadXMLFile(Path aXMLPath) throws ApplicationException {
+		if (aXMLPath == null) {
+			throw new ApplicationException("Parameter XMLPath is required");
+		}
+
+		try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(aXMLPath))) {
+			InputSource source = new InputSource(inputStream);
+			source.setSystemId(aXMLPath.toUri().toString());
+			return parse(source);
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * @param aXMLString
+	 * @return
+	 */
+	public static Document stringToXML(String aXMLString) {
+		if (StringUtils.isEmpty(aXMLString)) {
+			throw new ApplicationException("Parameter aXMLString is required");
+		}
+
+		return parse(new InputSource(new StringReader(aXMLString)));
+	}
+
+	/**
+	 * This method parses the given source with the {@link DocumentBuilder} of the
+	 * current thread, and resets the builder afterwards
+	 * 
+	 * @param aSource
+	 * @return
+	 * @throws ApplicationException
+	 */
+	private static Document parse(InputSource aSource) throws ApplicationException {
+		DocumentBuilder builder = DOCUMENT_BUILDER.get();
+		try {
+			return builder.parse(aSource);
+		} catch (IOException | SAXException error) {
+			throw new ApplicationException(error);
+		} finally {
+			builder.reset();
+		}
+	}
+
+	/**
+	 * This method returns a new empty {@link Document}, created with the
+	 * {@link DocumentBuilder} of the current thread
+	 * 
+	 * @return
+	 */
+	static Document newDocument() {
+		return DOCUMENT_BUILDER.get().newDocument();
+	}
+
+	/**
+	 * This method returns a {@link XMLStreamReader} for the given source, with
+	 * adjacent text coalesced and DTDs disabled
+	 * 
+	 * @param aInputStream
+	 * @return
+	 * @throws ApplicationException
+	 */
+	static XMLStreamReader createStreamReader(InputStream aInputStream) throws ApplicationException {
+		if (aInputStream == null) {
+			throw new ApplicationException("Parameter aInputStream is required");
+		}
+
+		// factories are not guaranteed to be thread-safe
+		synchronized (inputFactory) {
+			try {
+				return inputFactory.createXMLStreamReader(aInputStream);
+			} catch (XMLStreamException error) {
+				throw new ApplicationException(error);
+			}
+		}
+	}
+
+	/**
+	 * This method returns a {@link XMLStreamReader} for the given source
+	 * 
+	 * @param aReader
+	 * @return
+	 * @throws ApplicationException
+	 * @see #createStreamReader(InputStream)
+	 */
+	static XMLStreamReader createStreamReader(Reader aReader) throws ApplicationException {
+		if (aReader == null) {
+			throw new ApplicationException("Parameter aReader is required");
+		}
+
+		// factories are not guaranteed to be thread-safe
+		synchronized (inputFactory) {
 			try {
-				return builderFactory.newDocumentBuilder().parse(aInputStream);
-			} catch (IOException | SAXException | ParserConfigurationException error) {
+				return inputFactory.createXMLStreamReader(aReader);
+			} catch (XMLStreamException error) {
 				throw new ApplicationException(error);
 			}
-		});
+		}
 	}
 
 	/**
+	 * This method converts the given XML string to a {@link DataMap}
+	 * 
 	 * @param aXMLString
 	 * @return
+	 * @throws ApplicationException
+	 * @see #toDataMap(InputStream)
 	 */
-	public static Document stringToXML(String aXMLString) {
+	public static DataMap toDataMap(String aXMLString) throws ApplicationException {
 		if (StringUtils.isEmpty(aXMLString)) {
 			throw new ApplicationException("Parameter aXMLString is required");
 		}
 
+		return toDataMap(createStreamReader(new StringReader(aXMLString)));
+	}
+
+	/**
+	 * This method converts the given XML source to a {@link DataMap} in a single
+	 * pass, without building a {@link Document}. The layout matches
+	 * {@link JacksonUtils#fromXML(String, Class)}:
+	 * <ul>
+	 * <li>the returned map holds the content of the root element</li>
+	 * <li>attributes and child elements are keyed by local name</li>
+	 * <li>elements with only text become strings, and empty ones empty
+	 * strings</li>
+	 * <li>text of elements with attributes or children is kept under the empty
+	 * key, unless it is blank</li>
+	 * <li>repeated elements are collected in a {@link List}</li>
+	 * </ul>
+	 * The source is not closed.
+	 * 
+	 * @param aInputStream
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static DataMap toDataMap(InputStream aInputStream) throws ApplicationException {
+		return toDataMap(createStreamReader(aInputStream));
+	}
+
+	/**
+	 * @param aReader
+	 * @return
+	 * @throws ApplicationException
+	 */
+	private static DataMap toDataMap(XMLStreamReader aReader) throws ApplicationException {
+		Deque<ElementValue> stack = new ArrayDeque<>();
 		try {
-			return builderFactory.newDocumentBuilder().parse(new InputSource(new StringReader(aXMLString)));
-		} catch (IOException | SAXException | ParserConfigurationException error) {
+			while (aReader.hasNext()) {
+				switch (aReader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					ElementValue element = new ElementValue(aReader.getLocalName());
+					for (int idx = 0; idx < aReader.getAttributeCount(); idx++) {
+						element.add(aReader.getAttributeLocalName(idx), aReader.getAttributeValue(idx));
+					}
+					stack.push(element);
+					break;
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					// whitespace between child elements is dropped anyway
+					if (!stack.isEmpty() && ((stack.peek().children == null) || !aReader.isWhiteSpace())) {
+						stack.peek().addText(aReader.getText());
+					}
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					ElementValue closed = stack.pop();
+					if (stack.isEmpty()) {
+						return closed.toDataMap();
+					}
+					stack.peek().add(closed.name, closed.value());
+					break;
+				default:
+					break;
+				}
+			}
+		} catch (XMLStreamException error) {
 			throw new ApplicationException(error);
+		} finally {
+			try {
+				aReader.close();
+			} catch (XMLStreamException error) {
+				LOGGER.debug("Error closing reader", error);
+			}
 		}
+
+		throw new ApplicationException("No root element found");
 	}
 
 	/**
@@ -104,18 +353,98 @@ public final class XMLUtils {
 	 * @throws ApplicationException
 	 */
 	public static String serialzeXML(Document aDocument) throws ApplicationException {
+		return serialzeXML(aDocument, true);
+	}
+
+	/**
+	 * @param aNode
+	 * @param aIndent flag to indent the output
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static String serialzeXML(Node aNode, boolean aIndent) throws ApplicationException {
+		StringWriter writer = new StringWriter();
+		serialzeXML(aNode, writer, aIndent);
+
+		return writer.toString();
+	}
+
+	/**
+	 * This method writes the given node to the writer, without building the output
+	 * in memory
+	 * 
+	 * @param aNode
+	 * @param aWriter
+	 * @param aIndent flag to indent the output
+	 * @throws ApplicationException
+	 */
+	public static void serialzeXML(Node aNode, Writer aWriter, boolean aIndent) throws ApplicationException {
+		transform(aNode, new StreamResult(aWriter), aIndent);
+	}
+
+	/**
+	 * This method writes the given node to the stream in UTF-8, without building
+	 * the output in memory
+	 * 
+	 * @param aNode
+	 * @param aOutputStream
+	 * @param aIndent       flag to indent the output
+	 * @throws ApplicationException
+	 */
+	public static void serialzeXML(Node aNode, OutputStream aOutputStream, boolean aIndent)
+			throws ApplicationException {
+		transform(aNode, new StreamResult(aOutputStream), aIndent);
+	}
+
+	/**
+	 * This method writes the given node to the file in UTF-8, replacing any
+	 * existing content
+	 * 
+	 * @param aNode
+	 * @param aPath
+	 * @param aIndent flag to indent the output
+	 * @throws ApplicationException
+	 */
+	public static void serialzeXML(Node aNode, Path aPath, boolean aIndent) throws ApplicationException {
+		try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(aPath))) {
+			serialzeXML(aNode, outputStream, aIndent);
+		} catch (IOException error) {
+			throw new ApplicationException(error);
+		}
+	}
+
+	/**
+	 * This method writes the given node with the identity {@link Transformer} of
+	 * the current thread for the requested output configuration
+	 * 
+	 * @param aNode
+	 * @param aResult
+	 * @param aIndent
+	 * @throws ApplicationException
+	 */
+	private static void transform(Node aNode, StreamResult aResult, boolean aIndent) throws ApplicationException {
+		Transformer[] transformers = TRANSFORMERS.get();
+		int index = aIndent ? 1 : 0;
 		try {
-			StreamResult result = new StreamResult(new StringWriter());
-			DOMSource source = new DOMSource(aDocument);
+			if (transformers[index] == null) {
+				Transformer transformer;
+				synchronized (transformerFactory) {
+					transformer = transformerFactory.newTransformer();
+				}
 
-			Transformer transformer = transformerFactory.newTransformer();
-			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-			transformer.setOutputProperty(OutputKeys.STANDALONE, "yes");
-			transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-			transformer.transform(source, result);
+				transformer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+				transformer.setOutputProperty(OutputKeys.INDENT, aIndent ? "yes" : "no");
+				transformer.setOutputProperty(OutputKeys.STANDALONE, "yes");
+				if (aIndent) {
+					transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
+				}
+				transformers[index] = transformer;
+			}
 
-			return result.getWriter().toString();
+			transformers[index].transform(new DOMSource(aNode), aResult);
 		} catch (TransformerException error) {
+			// the state of a failed transformer is undefined, so it is not reused
+			transformers[index] = null;
 			throw new ApplicationException(error);
 		}
 	}
@@ -129,9 +458,8 @@ public final class XMLUtils {
 	public static NodeList xPathNodeList(String aExpression, Node aContext) throws ApplicationException {
 		LOGGER.trace("xPath Expression: {}", aExpression);
 
-		XPath xPath = xPathFactory.newXPath();
 		try {
-			return (NodeList) xPath.evaluate(aExpression, aContext, XPathConstants.NODESET);
+			return (NodeList) compileXPath(aExpression).evaluate(aContext, XPathConstants.NODESET);
 		} catch (XPathExpressionException error) {
 			throw new ApplicationException(error);
 		}
@@ -146,9 +474,8 @@ public final class XMLUtils {
 	public static Node xPathNode(String aExpression, Node aContext) throws ApplicationException {
 		LOGGER.trace("xPath Expression: {}", aExpression);
 
-		XPath xPath = xPathFactory.newXPath();
 		try {
-			return (Node) xPath.evaluate(aExpression, aContext, XPathConstants.NODE);
+			return (Node) compileXPath(aExpression).evaluate(aContext, XPathConstants.NODE);
 		} catch (XPathExpressionException error) {
 			throw new ApplicationException(error);
 		}
@@ -163,10 +490,9 @@ public final class XMLUtils {
 	public static String xPathNodeValue(String aExpression, Node aContext) throws ApplicationException {
 		LOGGER.trace("xPath Expression: {}", aExpression);
 
-		XPath xPath = xPathFactory.newXPath();
 		try {
 			String value = StringUtils
-					.trim((String) xPath.evaluate(aExpression + "/text()", aContext, XPathConstants.STRING));
+					.trim((String) compileXPath(aExpression + "/text()").evaluate(aContext, XPathConstants.STRING));
 			LOGGER.trace("xPath Value: {}", value);
 
 			return value;
@@ -186,10 +512,9 @@ public final class XMLUtils {
 			throws ApplicationException {
 		LOGGER.trace("xPath Expression: {}, attribute: {}", aExpression, aAttributeName);
 
-		XPath xPath = xPathFactory.newXPath();
 		try {
-			String attribute = StringUtils.trim(
-					(String) xPath.evaluate(aExpression + "/@" + aAttributeName, aContext, XPathConstants.STRING));
+			String attribute = StringUtils.trim((String) compileXPath(aExpression + "/@" + aAttributeName)
+					.evaluate(aContext, XPathConstants.STRING));
 			LOGGER.trace("xPath Value: {}", attribute);
 
 			return attribute;
@@ -198,6 +523,211 @@ public final class XMLUtils {
 		}
 	}
 
+	/**
+	 * This method returns an {@link XMLExtractor} for the given map of keys to
+	 * XPath expressions, from the cache if the same map has been compiled before
+	 * 
+	 * @param aKeyToXPath
+	 * @return
+	 * @throws ApplicationException
+	 */
+	public static XMLExtractor compileExtractor(Map<String, String> aKeyToXPath) throws ApplicationException {
+		if (aKeyToXPath == null) {
+			throw new ApplicationException("Parameter aKeyToXPath is required");
+		}
+
+		XMLExtractor extractor = EXTRACTOR_CACHE.get(aKeyToXPath);
+		if (extractor != null) {
+			return extractor;
+		}
+
+		return EXTRACTOR_CACHE.putIfAbsent(Map.copyOf(aKeyToXPath), new XMLExtractor(aKeyToXPath));
+	}
+
+	/**
+	 * This method returns a {@link DataMap} with the value of each expression in
+	 * the given document
+	 * 
+	 * @param aDocument
+	 * @param aKeyToXPath
+	 * @return
+	 * @throws ApplicationException
+	 * @see XMLExtractor#extract(Node)
+	 */
+	public static DataMap extract(Document aDocument, Map<String, String> aKeyToXPath) throws ApplicationException {
+		return compileExtractor(aKeyToXPath).extract(aDocument);
+	}
+
+	/**
+	 * This method returns a {@link DataMap} with the value of each expression in
+	 * the given source, evaluating all expressions in a single pass
+	 * 
+	 * @param aInputStream
+	 * @param aKeyToXPath
+	 * @return
+	 * @throws ApplicationException
+	 * @see XMLExtractor#extract(InputStream)
+	 */
+	public static DataMap extract(InputStream aInputStream, Map<String, String> aKeyToXPath)
+			throws ApplicationException {
+		return compileExtractor(aKeyToXPath).extract(aInputStream);
+	}
+
+	/**
+	 * This method returns the compiled form of the given expression from the cache
+	 * of the current thread, compiling it on the first call
+	 * 
+	 * @param aExpression
+	 * @return
+	 * @throws XPathExpressionException if the expression is invalid
+	 */
+	static XPathExpression compileXPath(String aExpression) throws XPathExpressionException {
+		XPathCache cache = XPATH_CACHE.get();
+		XPathExpression expression = cache.expressions.get(aExpression);
+		if (expression == null) {
+			expression = cache.expressions.putIfAbsent(aExpression, cache.xPath.compile(aExpression));
+		}
+
+		return expression;
+	}
+
+	/**
+	 * {@link XPath} instance of a thread with its compiled
+	 * {@link XPathExpression} instances. It is confined to one thread, as neither
+	 * {@link XPath} nor {@link XPathExpression} is thread-safe.
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class XPathCache {
+		/**
+		 * {@link XPath} instance of the thread
+		 */
+		final XPath xPath;
+
+		/**
+		 * compiled expressions, evicting the least recently used one when full
+		 */
+		final LRUCache<String, XPathExpression> expressions = new LRUCache<>(XPATH_CACHE_LIMIT);
+
+		/**
+		 * default constructor
+		 */
+		XPathCache() {
+			synchronized (xPathFactory) {
+				this.xPath = xPathFactory.newXPath();
+			}
+		}
+	}
+
+	/**
+	 * Content of an element being converted by {@link #toDataMap(InputStream)}
+	 * 
+	 * @version 1.0 Initial Version
+	 * @author Rohit Narayanan
+	 * @since October 19, 2026
+	 */
+	private static final class ElementValue {
+		/**
+		 * local name of the element
+		 */
+		final String name;
+
+		/**
+		 * attributes and child elements, created on first use
+		 */
+		DataMap children = null;
+
+		/**
+		 * text content, or null
+		 */
+		private String text = null;
+
+		/**
+		 * text content split across several events, or null
+		 */
+		private StringBuilder textBuilder = null;
+
+		/**
+		 * default constructor
+		 * 
+		 * @param aName
+		 */
+		ElementValue(String aName) {
+			this.name = aName;
+		}
+
+		/**
+		 * This method adds a child value, collecting repeated keys in a {@link List}
+		 * 
+		 * @param aKey
+		 * @param aValue
+		 */
+		@SuppressWarnings("unchecked")
+		void add(String aKey, Object aValue) {
+			if (this.children == null) {
+				this.children = new DataMap();
+			}
+
+			Object existing = this.children.putIfAbsent(aKey, aValue);
+			if (existing instanceof List) {
+				((List<Object>) existing).add(aValue);
+			} else if (existing != null) {
+				List<Object> values = new ArrayList<>();
+				values.add(existing);
+				values.add(aValue);
+				this.children.put(aKey, values);
+			}
+		}
+
+		/**
+		 * @param aText
+		 */
+		void addText(String aText) {
+			if (this.text == null) {
+				this.text = aText;
+			} else {
+				if (this.textBuilder == null) {
+					this.textBuilder = new StringBuilder(this.text);
+				}
+				this.textBuilder.append(aText);
+			}
+		}
+
+		/**
+		 * @return text content, or null
+		 */
+		private String text() {
+			return (this.textBuilder == null) ? this.text : this.textBuilder.toString();
+		}
+
+		/**
+		 * @return text for text-only elements, else a {@link DataMap}
+		 */
+		Object value() {
+			if (this.children == null) {
+				return (this.text == null) ? EMPTY_STRING : text();
+			}
+
+			return toDataMap();
+		}
+
+		/**
+		 * @return content as a {@link DataMap}, with any non-blank text under the
+		 *         empty key
+		 */
+		DataMap toDataMap() {
+			DataMap dataMap = (this.children == null) ? new DataMap() : this.children;
+			String content = text();
+			if ((content != null) && !content.isBlank()) {
+				dataMap.put(EMPTY_STRING, content);
+			}
+
+			return dataMap;
+		}
+	}
+
 	/**
 	 * {@link Logger} instance
 	 */
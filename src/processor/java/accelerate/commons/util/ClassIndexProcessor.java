@@ -0,0 +1,144 @@
+package accelerate.commons.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing the index read by {@link ClassIndex}. For every
+ * class annotated with {@link Indexed}, or with an annotation that is itself
+ * annotated with {@link Indexed}, the class name is added to the index file of
+ * that annotation under {@link ClassIndex#INDEX_PATH}.
+ * <p>
+ * The processor is shipped in the separate "processor" artifact, to be added
+ * to the annotation processor path of the projects that declare indexed
+ * classes. It only refers to the annotation by name, so it does not need the
+ * main library on that path.
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+public class ClassIndexProcessor extends AbstractProcessor {
+	/**
+	 * Name of the {@link Indexed} annotation
+	 */
+	private static final String INDEXED_NAME = "accelerate.commons.util.Indexed";
+
+	/**
+	 * {@link Map} of annotation name to names of annotated classes, collected
+	 * across rounds
+	 */
+	private final Map<String, Set<String>> index = new HashMap<>();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Set.of("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> aAnnotations, RoundEnvironment aRoundEnv) {
+		if (aRoundEnv.processingOver()) {
+			this.index.forEach(this::writeIndex);
+			return false;
+		}
+
+		for (TypeElement annotation : aAnnotations) {
+			String annotationName = annotation.getQualifiedName().toString();
+			if (!annotationName.equals(INDEXED_NAME) && !isAnnotated(annotation, INDEXED_NAME)) {
+				continue;
+			}
+
+			Set<String> classNames = this.index.computeIfAbsent(annotationName, aKey -> new TreeSet<>());
+			for (Element element : aRoundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind().isClass() || element.getKind().isInterface()) {
+					classNames.add(this.processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * This method writes the index file of the given annotation. Entries from
+	 * earlier incremental builds are kept only while the class still exists and
+	 * still carries the annotation.
+	 *
+	 * @param aAnnotationName
+	 * @param aClassNames
+	 */
+	private void writeIndex(String aAnnotationName, Set<String> aClassNames) {
+		String path = ClassIndex.INDEX_PATH + aAnnotationName;
+		Set<String> classNames = new TreeSet<>(aClassNames);
+		try {
+			FileObject existing = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+			try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+				reader.lines().map(String::trim).filter(aLine -> !aLine.isEmpty() && !classNames.contains(aLine))
+						.filter(aLine -> isIndexed(aLine, aAnnotationName)).forEach(classNames::add);
+			}
+		} catch (IOException | IllegalArgumentException error) {
+			// no earlier index
+		}
+
+		try {
+			FileObject resource = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					path);
+			try (Writer writer = resource.openWriter()) {
+				for (String className : classNames) {
+					writer.write(className);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException error) {
+			this.processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Unable to write class index " + path + ": " + error.getMessage());
+		}
+	}
+
+	/**
+	 * @param aClassName      binary name of a class from an earlier index
+	 * @param aAnnotationName
+	 * @return true, if the class can still be found and is annotated
+	 */
+	private boolean isIndexed(String aClassName, String aAnnotationName) {
+		TypeElement element = this.processingEnv.getElementUtils().getTypeElement(aClassName.replace('$', '.'));
+		return (element != null) && isAnnotated(element, aAnnotationName);
+	}
+
+	/**
+	 * @param aElement
+	 * @param aAnnotationName
+	 * @return true, if the element is directly annotated with the given
+	 *         annotation
+	 */
+	private static boolean isAnnotated(Element aElement, String aAnnotationName) {
+		for (AnnotationMirror mirror : aElement.getAnnotationMirrors()) {
+			if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+					.contentEquals(aAnnotationName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,106 @@
+package accelerate.commons.data;
+
+import static accelerate.commons.constant.CommonTestConstants.BEAN_ID_FIELD;
+import static accelerate.commons.constant.CommonTestConstants.BEAN_ID_VALUE;
+import static accelerate.commons.constant.CommonTestConstants.BEAN_NAME_FIELD;
+import static accelerate.commons.constant.CommonTestConstants.BEAN_NAME_VALUE;
+import static accelerate.commons.constant.CommonTestConstants.KEY;
+import static accelerate.commons.constant.CommonTestConstants.VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * {@link Test} class for {@link BeanMapper}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class BeanMapperTest {
+	/**
+	 * Test method for {@link BeanMapper#toDataMap(Object)}.
+	 */
+	@Test
+	void testToDataMap() {
+		DataMap dataMap = BeanMapper.toDataMap(new TestDataBean().add(KEY, VALUE));
+		assertEquals(DataMap.newMap(BEAN_ID_FIELD, BEAN_ID_VALUE, BEAN_NAME_FIELD, BEAN_NAME_VALUE, KEY, VALUE),
+				dataMap);
+		assertEquals(0, BeanMapper.toDataMap(null).size());
+	}
+
+	/**
+	 * Test method for {@link BeanMapper#fromDataMap(java.util.Map, Class)}.
+	 */
+	@Test
+	void testFromDataMap() {
+		TestDataBean bean = BeanMapper.fromDataMap(DataMap.newMap(BEAN_NAME_FIELD, "A", KEY, VALUE),
+				TestDataBean.class);
+		assertEquals(BEAN_ID_VALUE, bean.getBeanId());
+		assertEquals("A", bean.getBeanName());
+		assertEquals(VALUE, bean.get(KEY));
+
+		TestPojo pojo = BeanMapper.fromDataMap(DataMap.newMap("count", 5L, "name", null, KEY, VALUE),
+				TestPojo.class);
+		assertEquals(5, pojo.count);
+		assertNull(pojo.name);
+
+		assertThrows(ApplicationException.class,
+				() -> BeanMapper.fromDataMap(DataMap.newMap("count", "5"), TestPojo.class));
+		assertEquals(3, BeanMapper.fromDataMap(DataMap.newMap("count", 3.0), TestPojo.class).count);
+		assertThrows(ApplicationException.class,
+				() -> BeanMapper.fromDataMap(DataMap.newMap("count", 3.5), TestPojo.class));
+		assertThrows(ApplicationException.class,
+				() -> BeanMapper.fromDataMap(DataMap.newMap("count", 3_000_000_000L), TestPojo.class));
+
+		TestRecord record = BeanMapper.fromDataMap(DataMap.newMap("count", 5L, "name", VALUE), TestRecord.class);
+		assertEquals(new TestRecord(5, VALUE), record);
+	}
+
+	/**
+	 * Test method for {@link BeanMapper#copy(Object, Object)}.
+	 */
+	@Test
+	void testCopy() {
+		TestDataBean target = BeanMapper.copy(new TestDataBean("ID", "NAME").add(KEY, VALUE), new TestDataBean());
+		assertEquals("ID", target.getBeanId());
+		assertEquals("NAME", target.getBeanName());
+		assertEquals(VALUE, target.get(KEY));
+
+		TestPojo pojo = new TestPojo();
+		pojo.name = "A";
+		pojo.count = 2;
+		TestPojo pojoCopy = BeanMapper.copy(pojo, new TestPojo());
+		assertEquals("A", pojoCopy.name);
+		assertEquals(2, pojoCopy.count);
+	}
+
+	/**
+	 * Record for tests
+	 *
+	 * @param count
+	 * @param name
+	 */
+	record TestRecord(int count, String name) {
+	}
+
+	/**
+	 * Plain class for tests
+	 */
+	static class TestPojo {
+		/**
+		 * Field 1
+		 */
+		String name = "default";
+
+		/**
+		 * Field 2
+		 */
+		int count;
+	}
+}
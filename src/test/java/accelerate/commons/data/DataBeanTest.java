@@ -8,6 +8,7 @@ import static accelerate.commons.constant.CommonTestConstants.KEY;
 import static accelerate.commons.constant.CommonTestConstants.VALUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -17,9 +18,13 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
+import accelerate.commons.exception.ApplicationException;
+import accelerate.commons.util.JacksonUtils;
+import accelerate.commons.util.ReflectionUtils;
 import accelerate.commons.util.XMLUtils;
 
 /**
@@ -66,6 +71,7 @@ class DataBeanTest {
 
 		localTestDataBean.addIgnoredFields((String[]) null);
 		localTestDataBean.addIgnoredFields(BEAN_ID_FIELD, BEAN_NAME_FIELD);
+		assertEquals(localTestDataBean.getIgnoredFields(), localTestDataBean.ignoredFields());
 		assertThrows(PathNotFoundException.class,
 				() -> JsonPath.parse(localTestDataBean.toJSON()).read("$." + BEAN_NAME_FIELD));
 
@@ -77,6 +83,52 @@ class DataBeanTest {
 		assertEquals(BEAN_ID_VALUE, JsonPath.parse(localTestDataBean.toJSON()).read("$." + BEAN_ID_FIELD));
 	}
 
+	/**
+	 * Test method for {@link DataBean.SerializationPlan}.
+	 */
+	@Test
+	void testSerializationPlan() {
+		TestDataBean firstBean = new TestDataBean();
+		TestDataBean secondBean = new TestDataBean();
+		firstBean.addIgnoredFields(BEAN_NAME_FIELD);
+		secondBean.addIgnoredFields(BEAN_NAME_FIELD);
+
+		assertEquals(firstBean.toJSON(), secondBean.toJSON());
+		assertTrue(ReflectionUtils.getFieldValue(firstBean, "serializationPlan") == ReflectionUtils
+				.getFieldValue(secondBean, "serializationPlan"));
+
+		assertTrue(firstBean.getIgnoredFields() == secondBean.getIgnoredFields());
+
+		firstBean.addIgnoredFields(BEAN_ID_FIELD);
+		assertThrows(PathNotFoundException.class, () -> JsonPath.parse(firstBean.toJSON()).read("$." + BEAN_ID_FIELD));
+		assertEquals(BEAN_ID_VALUE, JsonPath.parse(secondBean.toJSON()).read("$." + BEAN_ID_FIELD));
+	}
+
+	/**
+	 * Test method for {@link DataBean#setDefaultIgnoredFields(Class, String[])}.
+	 */
+	@Test
+	void testSetDefaultIgnoredFields() {
+		try {
+			DataBean.setDefaultIgnoredFields(TestDataBean.class, BEAN_NAME_FIELD);
+			TestDataBean firstBean = new TestDataBean();
+			TestDataBean secondBean = new TestDataBean();
+
+			assertTrue(firstBean.getIgnoredFields() == secondBean.getIgnoredFields());
+			assertThrows(PathNotFoundException.class,
+					() -> JsonPath.parse(firstBean.toJSON()).read("$." + BEAN_NAME_FIELD));
+			assertThrows(UnsupportedOperationException.class, () -> firstBean.getIgnoredFields().clear());
+
+			firstBean.clearIgnoredFields();
+			assertEquals(BEAN_NAME_VALUE, JsonPath.parse(firstBean.toJSON()).read("$." + BEAN_NAME_FIELD));
+			assertEquals(1, secondBean.getIgnoredFields().size());
+		} finally {
+			DataBean.setDefaultIgnoredFields(TestDataBean.class);
+		}
+
+		assertTrue(new TestDataBean().getIgnoredFields().isEmpty());
+	}
+
 	/**
 	 * Test method for {@link DataBean#addIgnoredFields(String[])}.
 	 */
@@ -209,4 +261,107 @@ class DataBeanTest {
 		assertEquals(VALUE, testBean.remove(KEY));
 		assertEquals(0, testBean.getDataMap().size());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test method for {@link DataBean#toJSONDelta()}.
+	 */
+	@Test
+	void testToJSONDelta() {
+		TestDataBean testBean = new TestDataBean();
+		assertEquals(BEAN_ID_VALUE, JsonPath.parse(testBean.toJSONDelta()).read("$." + BEAN_ID_FIELD));
+
+		testBean.add(KEY, VALUE).checkpoint();
+		assertEquals("{}", testBean.toJSONDelta());
+
+		testBean.setBeanName("NEW_NAME");
+		testBean.remove(KEY);
+		DocumentContext delta = JsonPath.parse(testBean.toJSONDelta());
+		assertEquals("NEW_NAME", delta.read("$." + BEAN_NAME_FIELD));
+		assertNull(delta.read("$." + KEY));
+		assertThrows(PathNotFoundException.class, () -> delta.read("$." + BEAN_ID_FIELD));
+	}
+
+	/**
+	 * Test method for {@link DataBean#applyDelta(String)}.
+	 */
+	@Test
+	void testApplyDelta() {
+		TestDataBean source = new TestDataBean();
+		source.add(KEY, VALUE).add("A", "A").checkpoint();
+		source.setBeanName("NEW_NAME");
+		source.add("A", "A1").remove(KEY);
+
+		TestDataBean target = new TestDataBean();
+		target.add(KEY, VALUE).applyDelta(source.toJSONDelta());
+		assertEquals("NEW_NAME", target.getBeanName());
+		assertEquals(BEAN_ID_VALUE, target.getBeanId());
+		assertEquals(DataMap.newMap("A", "A1"), target.getDataMap());
+	}
+
+	/**
+	 * Test method for {@link DataBeanSchema}.
+	 */
+	@Test
+	void testDataBeanSchema() {
+		SchemaDataBean bean = new SchemaDataBean();
+		bean.add(KEY, VALUE).add("city", "Pune").add("zip", 411001);
+
+		assertEquals("Pune", bean.getCity());
+		assertEquals(Integer.valueOf(411001), bean.getNumber("zip", Integer.class));
+		assertEquals(DataMap.newMap(KEY, VALUE), bean.getDataMap());
+		assertEquals("Pune", JsonPath.parse(bean.toJSON()).read("$.city"));
+
+		// schema keys are held in slots, and not in the embedded map
+		assertFalse(bean.getDataMap().containsKey("city"));
+		assertEquals(DataMap.newMap(KEY, VALUE, "city", "Pune", "zip", 411001),
+				new DataMap().addAll(bean.getDynamicValues()));
+		assertTrue(bean.getDynamicValues().containsKey("zip"));
+		assertEquals(3, bean.getDynamicValues().size());
+		assertThrows(UnsupportedOperationException.class, () -> bean.getDynamicValues().put(KEY, VALUE));
+		assertThrows(UnsupportedOperationException.class,
+				() -> new TestDataBean().add(KEY, VALUE).getDynamicValues().remove(KEY));
+
+		SchemaDataBean copy = JacksonUtils.fromJSON(bean.toJSON(), SchemaDataBean.class);
+		assertEquals("Pune", copy.getCity());
+		assertEquals(VALUE, copy.get(KEY));
+
+		bean.checkpoint();
+		bean.remove("city");
+		assertEquals("", bean.getString("city"));
+		copy.applyDelta(bean.toJSONDelta());
+		assertNull(copy.getCity());
+		assertEquals(Integer.valueOf(411001), copy.getNumber("zip", Integer.class));
+
+		assertEquals(1, DataBean.slotOf(SchemaDataBean.class, "zip"));
+		assertThrows(ApplicationException.class, () -> DataBean.slotOf(SchemaDataBean.class, KEY));
+
+		SchemaDataBean emptyBean = new SchemaDataBean();
+		assertNull(emptyBean.get(KEY));
+		assertEquals(0, emptyBean.getDynamicValues().size());
+		assertEquals(VALUE, emptyBean.getOrDefault(KEY, VALUE));
+		assertEquals("{\"zip\":1}", emptyBean.checkpoint().add("zip", 1).toJSONDelta());
+	}
+
+	/**
+	 * {@link DataBean} extension with declared dynamic keys
+	 */
+	@DataBeanSchema({ "city", "zip" })
+	static class SchemaDataBean extends DataBean {
+		/**
+		 * serialVersionUID
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * slot of "city"
+		 */
+		private static final int CITY = slotOf(SchemaDataBean.class, "city");
+
+		/**
+		 * @return value of "city"
+		 */
+		String getCity() {
+			return getSlot(CITY);
+		}
+	}
+}
@@ -6,17 +6,21 @@ import static accelerate.commons.constant.CommonTestConstants.KEY;
 import static accelerate.commons.constant.CommonTestConstants.VALUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import accelerate.commons.exception.ApplicationException;
 import accelerate.commons.util.CommonUtils;
+import accelerate.commons.util.JacksonUtils;
 
 /**
  * {@link Test} class for {@link DataMap}
@@ -154,4 +158,123 @@ class DataMapTest {
 	void testToYAML() {
 		assertThat(testDataMap.toYAML()).contains("key:");
 	}
+
+	/**
+	 * Test method for
+	 * <ul>
+	 * <li>{@link accelerate.commons.data.DataMap#checkpoint()}</li>
+	 * <li>{@link accelerate.commons.data.DataMap#getChangedKeys()}</li>
+	 * <li>{@link accelerate.commons.data.DataMap#getDelta()}</li>
+	 * </ul>
+	 */
+	@Test
+	void testCheckpoint() {
+		DataMap testMap = DataMap.newMap("A", "A", "B", "B", "C", "C");
+		assertFalse(testMap.isTracking());
+		assertEquals(3, testMap.getChangedKeys().size());
+
+		testMap.checkpoint();
+		assertTrue(testMap.isTracking());
+		assertTrue(testMap.getChangedKeys().isEmpty());
+
+		testMap.add("A", "A1").add(KEY, VALUE).remove("B");
+		assertEquals(Set.of("A", "B", KEY), testMap.getChangedKeys());
+		assertEquals(DataMap.newMap("A", "A1", "B", null, KEY, VALUE), testMap.getDelta());
+
+		testMap.checkpoint();
+		assertTrue(testMap.getChangedKeys().isEmpty());
+
+		// absent keys are not reported as removed
+		testMap.computeIfPresent("B", (aKey, aValue) -> VALUE);
+		testMap.compute("B", (aKey, aValue) -> null);
+		assertTrue(testMap.getChangedKeys().isEmpty());
+
+		// nested changes are reported under the top level key
+		testMap.setPath("N.x", 1).checkpoint();
+		testMap.setPath("N.y", 2);
+		assertEquals(DataMap.newMap("N", DataMap.newMap("x", 1, "y", 2)), testMap.getDelta());
+	}
+
+	/**
+	 * Test method for {@link accelerate.commons.data.DataMap#toJSONDelta()}.
+	 */
+	@Test
+	void testToJSONDelta() {
+		DataMap testMap = DataMap.newMap("A", "A", "B", "B").checkpoint();
+		assertEquals("{}", testMap.toJSONDelta());
+
+		testMap.add("A", "A1").remove("B");
+		assertEquals("{\"A\":\"A1\",\"B\":null}", testMap.toJSONDelta().replaceAll(SPACE, EMPTY_STRING));
+	}
+
+	/**
+	 * Test method for {@link accelerate.commons.data.DataMap#applyDelta(String)}.
+	 */
+	@Test
+	void testApplyDelta() {
+		DataMap source = DataMap.newMap("A", "A", "B", "B", "C", DataMap.newMap("D", "D", "E", "E")).checkpoint();
+		DataMap target = DataMap.newMap().addAll(source);
+		target.put("C", DataMap.newMap().addAll(source.<DataMap>get("C")));
+
+		source.add("A", "A1").remove("B");
+		source.put("C", DataMap.newMap("D", "D1"));
+
+		target.applyDelta(source.toJSONDelta());
+		assertEquals("A1", target.get("A"));
+		assertFalse(target.containsKey("B"));
+		assertEquals(DataMap.newMap("D", "D1"), target.get("C"));
+
+		source.checkpoint();
+		source.put("C", DataMap.newMap("F", DataMap.newMap("G", "G")));
+		source.checkpoint();
+		source.put("C", DataMap.newMap("F", DataMap.newMap("H", "H")));
+		assertEquals(DataMap.newMap("C", DataMap.newMap("F", DataMap.newMap("G", null, "H", "H"))),
+				source.getDelta());
+
+		source.checkpoint();
+		source.computeIfAbsent("A", aKey -> "A2");
+		source.computeIfAbsent("X", aKey -> null);
+		assertTrue(source.getChangedKeys().isEmpty());
+	}
+
+	/**
+	 * Test method for {@link accelerate.commons.data.DataMap#getPath(String)}.
+	 */
+	@Test
+	void testGetPath() {
+		DataMap testMap = JacksonUtils.fromJSON("{\"a\":{\"b\":[1,2,{\"c\":\"C\"}]},\"x.y\":\"XY\"}",
+				DataMap.class);
+
+		assertEquals("C", testMap.getPath("a.b[2].c"));
+		assertEquals((Integer) 2, testMap.getPath("a.b[1]"));
+		assertEquals("XY", testMap.getPath("x.y"));
+		assertNull(testMap.getPath("a.b[5].c"));
+		assertNull(testMap.getPath("a.z.c"));
+		assertNull(testMap.getPath("a[0]"));
+
+		assertThrows(ApplicationException.class, () -> testMap.getPath(null));
+		assertThrows(ApplicationException.class, () -> testMap.getPath("a..b"));
+		assertThrows(ApplicationException.class, () -> testMap.getPath("a.b[x]"));
+		assertThrows(ApplicationException.class, () -> testMap.getPath("a.b[1"));
+	}
+
+	/**
+	 * Test method for
+	 * {@link accelerate.commons.data.DataMap#setPath(String, Object)}.
+	 */
+	@Test
+	void testSetPath() {
+		DataMap testMap = DataMap.newMap().setPath("a.b[2].c", "C").setPath("a.d", "D");
+
+		assertEquals("C", testMap.getPath("a.b[2].c"));
+		assertEquals("D", testMap.getPath("a.d"));
+		assertEquals(3, testMap.<List<?>>getPath("a.b").size());
+		assertNull(testMap.getPath("a.b[0]"));
+
+		testMap.setPath("a.b[2].c", "C1");
+		assertEquals("C1", testMap.getPath("a.b[2].c"));
+
+		assertThrows(ApplicationException.class, () -> testMap.setPath("a.d.e", "E"));
+		assertThrows(ApplicationException.class, () -> testMap.setPath("a[0]", "E"));
+	}
 }
@@ -0,0 +1,232 @@
+package accelerate.commons.data;
+
+import static accelerate.commons.constant.CommonTestConstants.KEY;
+import static accelerate.commons.constant.CommonTestConstants.VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * {@link Test} class for {@link DataTable}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class DataTableTest {
+	/**
+	 * Rows for this test class
+	 */
+	private static final List<DataMap> testRows = Arrays.asList(
+			DataMap.newMap("id", 1, "amount", 10.5D, "name", "A", "count", 5L),
+			DataMap.newMap("id", 2, "amount", 20.0D, "name", "B"),
+			DataMap.newMap("id", 3, "name", "C", "count", 7L, KEY, VALUE));
+
+	/**
+	 * {@link DataTable} for this test class
+	 */
+	private static final DataTable testDataTable = DataTable.fromList(testRows);
+
+	/**
+	 * Test method for {@link DataTable#fromList(List)}.
+	 */
+	@Test
+	void testFromList() {
+		assertEquals(3, testDataTable.size());
+		assertEquals(new HashSet<>(Arrays.asList("id", "amount", "name", "count", KEY)),
+				new HashSet<>(testDataTable.getColumns()));
+		assertEquals(0, DataTable.fromList(null).size());
+	}
+
+	/**
+	 * Test method for {@link DataTable#fromJSON(String)}.
+	 */
+	@Test
+	void testFromJSON() {
+		DataTable table = DataTable.fromJSON(testDataTable.toJSON());
+		assertEquals(3, table.size());
+		assertEquals(testDataTable.toJSON(), table.toJSON());
+		assertEquals(0, DataTable.fromJSON(null).size());
+	}
+
+	/**
+	 * Test method for {@link DataTable#addRow(java.util.Map)}.
+	 */
+	@Test
+	void testAddRow() {
+		DataTable table = new DataTable("id");
+		for (int idx = 0; idx < 100; idx++) {
+			table.addRow("id", idx);
+		}
+
+		table.addRow("id", "mixed", KEY, VALUE);
+		assertEquals(101, table.size());
+		assertEquals((Integer) 99, table.getValue(99, "id"));
+		assertEquals("mixed", table.getValue(100, "id"));
+		assertNull(table.getValue(0, KEY));
+		assertEquals(VALUE, table.getValue(100, KEY));
+	}
+
+	/**
+	 * Test method for {@link DataTable#getRow(int)}.
+	 */
+	@Test
+	void testGetRow() {
+		DataTable.Row row = testDataTable.getRow(1);
+		assertEquals((Integer) 2, row.get("id"));
+		assertEquals((Double) 20.0D, row.getNumber("amount", Double.class));
+		assertEquals("B", row.getString("name"));
+		assertTrue(row.checkValue("name", "B"));
+		assertFalse(row.containsKey("count"));
+		assertEquals(testRows.get(1), row);
+		assertEquals(testRows.get(1), row.toDataMap());
+
+		assertThrows(ApplicationException.class, () -> testDataTable.getRow(3));
+	}
+
+	/**
+	 * Test method for {@link DataTable#setValue(int, String, Object)}.
+	 */
+	@Test
+	void testSetValue() {
+		DataTable table = DataTable.fromList(testRows);
+		table.getRow(0).put("amount", 1.5D);
+		table.setValue(1, "amount", null);
+
+		assertEquals((Double) 1.5D, table.getValue(0, "amount"));
+		assertNull(table.getValue(1, "amount"));
+		assertEquals(1, table.count("amount"));
+	}
+
+	/**
+	 * Test method for {@link DataTable#filterLong(String, java.util.function.LongPredicate)}.
+	 */
+	@Test
+	void testFilterLong() {
+		assertEquals(Arrays.asList(testRows.get(1), testRows.get(2)),
+				testDataTable.filterLong("id", aValue -> aValue > 1).toList());
+		assertEquals(1, testDataTable.filterLong("count", aValue -> aValue == 7).size());
+
+		assertEquals(1, testDataTable.filterLong("amount", aValue -> aValue == 20).size());
+
+		assertThrows(ApplicationException.class, () -> testDataTable.filterLong("name", aValue -> true));
+	}
+
+	/**
+	 * Test method for {@link DataTable#addRow(java.util.Map)} with mixed numeric
+	 * types.
+	 */
+	@Test
+	void testAddRowMixedNumbers() {
+		DataTable table = new DataTable();
+		table.addRow("id", 1).addRow("id", 2L).addRow("id", null).addRow("id", 3);
+		assertEquals((Integer) 1, table.getValue(0, "id"));
+		assertEquals((Long) 2L, table.getValue(1, "id"));
+		assertNull(table.getValue(2, "id"));
+		assertEquals((Integer) 3, table.getValue(3, "id"));
+		assertEquals((Integer) 3, table.getRow(3).getNumber("id", Integer.class));
+		assertEquals(2, table.filterLong("id", aValue -> aValue > 1).size());
+		assertEquals(6D, table.sum("id"));
+
+		table.addRow("id", 4.5D);
+		assertEquals((Integer) 1, table.getValue(0, "id"));
+		assertEquals((Long) 2L, table.getValue(1, "id"));
+		assertEquals((Double) 4.5D, table.getValue(4, "id"));
+		assertEquals(Arrays.asList(3L, 4L), table.filterLong("id", aValue -> aValue > 2).stream()
+				.map(aRow -> aRow.<Number>get("id").longValue()).toList());
+		assertEquals(Arrays.asList(DataMap.newMap("id", 2L), DataMap.newMap("id", 3)),
+				table.filterLong("id", aValue -> (aValue == 2) || (aValue == 3)).toList());
+
+		DataTable precise = new DataTable().addRow("id", 1.5D).addRow("id", Long.MAX_VALUE);
+		assertEquals((Double) 1.5D, precise.getValue(0, "id"));
+		assertEquals((Long) Long.MAX_VALUE, precise.getValue(1, "id"));
+		assertEquals(1, precise.filterLong("id", aValue -> aValue == Long.MAX_VALUE).size());
+
+		table.addRow("id", "x");
+		assertEquals("x", table.getValue(5, "id"));
+		assertThrows(ApplicationException.class, () -> table.filterLong("id", aValue -> true));
+	}
+
+	/**
+	 * Test method for
+	 * {@link DataTable#filterDouble(String, java.util.function.DoublePredicate)}.
+	 */
+	@Test
+	void testFilterDouble() {
+		assertEquals(1, testDataTable.filterDouble("amount", aValue -> aValue > 15).size());
+		assertEquals(2, testDataTable.filterDouble("id", aValue -> aValue < 2.5).size());
+
+		assertThrows(ApplicationException.class, () -> testDataTable.filterDouble("name", aValue -> true));
+	}
+
+	/**
+	 * Test method for
+	 * {@link DataTable#filter(String, java.util.function.Predicate)}.
+	 */
+	@Test
+	void testFilter() {
+		assertEquals("C", testDataTable.filter("name", "C"::equals).getValue(0, "name"));
+		assertEquals(1, testDataTable.filter(aRow -> aRow.checkValue(KEY, VALUE)).size());
+	}
+
+	/**
+	 * Test method for {@link DataTable#project(String...)}.
+	 */
+	@Test
+	void testProject() {
+		DataTable table = testDataTable.project("id", "name");
+		assertEquals(Arrays.asList("id", "name"), table.getColumns());
+		assertEquals(DataMap.newMap("id", 3, "name", "C"), table.getRow(2).toDataMap());
+
+		assertThrows(ApplicationException.class, () -> testDataTable.project("INVALID"));
+	}
+
+	/**
+	 * Test method for
+	 * <ul>
+	 * <li>{@link DataTable#count(String)}</li>
+	 * <li>{@link DataTable#sum(String)}</li>
+	 * <li>{@link DataTable#average(String)}</li>
+	 * <li>{@link DataTable#min(String)}</li>
+	 * <li>{@link DataTable#max(String)}</li>
+	 * </ul>
+	 */
+	@Test
+	void testAggregate() {
+		assertEquals(2, testDataTable.count("amount"));
+		assertEquals(6D, testDataTable.sum("id"));
+		assertEquals(30.5D, testDataTable.sum("amount"));
+		assertEquals(12D, testDataTable.sum("count"));
+		assertEquals(2D, testDataTable.average("id"));
+		assertEquals(10.5D, testDataTable.min("amount"));
+		assertEquals(7D, testDataTable.max("count"));
+		assertTrue(Double.isNaN(new DataTable("id").average("id")));
+
+		assertThrows(ApplicationException.class, () -> testDataTable.sum("name"));
+
+		// long sums stay exact with nulls, and fall back to double on overflow
+		assertEquals(9007199254740994D,
+				new DataTable().addRow("id", (1L << 53) + 1).addRow("id", null).addRow("id", 1L).sum("id"));
+		assertEquals(2D * Long.MAX_VALUE,
+				new DataTable().addRow("id", Long.MAX_VALUE).addRow("id", Long.MAX_VALUE).sum("id"));
+	}
+
+	/**
+	 * Test method for {@link DataTable#toList()}.
+	 */
+	@Test
+	void testToList() {
+		assertEquals(testRows, testDataTable.toList());
+	}
+}
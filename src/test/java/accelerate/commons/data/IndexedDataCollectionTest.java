@@ -0,0 +1,183 @@
+package accelerate.commons.data;
+
+import static accelerate.commons.constant.CommonTestConstants.KEY;
+import static accelerate.commons.constant.CommonTestConstants.VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * {@link Test} class for {@link IndexedDataCollection}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class IndexedDataCollectionTest {
+	/**
+	 * @return new collection with 10 rows, indexed on "id" and "group"
+	 */
+	private static IndexedDataCollection buildCollection() {
+		List<DataMap> rows = IntStream.range(0, 10).mapToObj(aId -> DataMap.newMap("id", aId, "group", aId % 3))
+				.collect(Collectors.toList());
+
+		return new IndexedDataCollection(rows).addSortedIndex("id").addHashIndex("group");
+	}
+
+	/**
+	 * @param aRows
+	 * @return sorted ids of the given rows
+	 */
+	private static List<Integer> ids(List<DataMap> aRows) {
+		return aRows.stream().map(aRow -> aRow.<Integer>get("id")).sorted().collect(Collectors.toList());
+	}
+
+	/**
+	 * Test method for
+	 * <ul>
+	 * <li>{@link IndexedDataCollection#addHashIndex(String)}</li>
+	 * <li>{@link IndexedDataCollection#addSortedIndex(String)}</li>
+	 * <li>{@link IndexedDataCollection#hasIndex(String)}</li>
+	 * </ul>
+	 */
+	@Test
+	void testAddIndex() {
+		IndexedDataCollection collection = buildCollection();
+		assertTrue(collection.hasIndex("id"));
+		assertTrue(collection.hasIndex("group"));
+		assertFalse(collection.hasIndex(KEY));
+
+		assertThrows(ApplicationException.class, () -> collection.add(DataMap.newMap("id", "mixed")));
+		assertEquals(10, collection.size());
+		assertThrows(ApplicationException.class, () -> new IndexedDataCollection(
+				Arrays.asList(DataMap.newMap(KEY, 1), DataMap.newMap(KEY, VALUE))).addSortedIndex(KEY));
+	}
+
+	/**
+	 * Test method for {@link IndexedDataCollection#find(String, Object)}.
+	 */
+	@Test
+	void testFind() {
+		IndexedDataCollection collection = buildCollection();
+		assertEquals(Arrays.asList(0, 3, 6, 9), ids(collection.find("group", 0)));
+		assertEquals(Arrays.asList(4), ids(collection.find("id", 4)));
+		assertTrue(collection.find("group", 5).isEmpty());
+
+		collection.add(DataMap.newMap("id", 10, KEY, VALUE));
+		assertEquals(Arrays.asList(10), ids(collection.find(KEY, VALUE)));
+		assertEquals(Arrays.asList(10), ids(collection.find("group", null)));
+	}
+
+	/**
+	 * Test method for {@link IndexedDataCollection#find(String, Object)} and
+	 * {@link IndexedDataCollection#findRange(String, Object, Object)} with mixed
+	 * numeric types.
+	 */
+	@Test
+	void testFindMixedNumbers() {
+		IndexedDataCollection collection = buildCollection();
+		collection.add(DataMap.newMap("id", 10L, "group", 1L));
+		collection.add(DataMap.newMap("id", 11.5D, "group", 1.0D));
+
+		assertEquals(Arrays.asList(4L), longIds(collection.find("id", 4L)));
+		assertEquals(Arrays.asList(10L), longIds(collection.find("id", 10)));
+		assertEquals(Arrays.asList(9L, 10L, 11L), longIds(collection.findRange("id", 9, 11.5D)));
+		assertEquals(Arrays.asList(2L, 5L, 8L), longIds(collection.findRange("group", 1.5D, null)));
+
+		// results are in the order of addition
+		assertEquals(Arrays.asList(1L, 4L, 7L, 10L, 11L), longIds(collection.find("group", 1)));
+		assertEquals(Arrays.asList(1L, 4L, 7L, 10L, 11L), longIds(collection.find("group", 1L)));
+
+		DataMap row = collection.findFirst("group", 1);
+		row.put("group", 2);
+		collection.reindex(row);
+		row.put("group", 1);
+		collection.reindex(row);
+		assertSame(row, collection.findFirst("group", 1));
+	}
+
+	/**
+	 * @param aRows
+	 * @return ids of the given rows as long values, in the order of the list
+	 */
+	private static List<Long> longIds(List<DataMap> aRows) {
+		return aRows.stream().map(aRow -> aRow.<Number>get("id").longValue()).collect(Collectors.toList());
+	}
+
+	/**
+	 * Test method for {@link IndexedDataCollection#findFirst(String, Object)}.
+	 */
+	@Test
+	void testFindFirst() {
+		IndexedDataCollection collection = buildCollection();
+		assertEquals((Integer) 2, collection.findFirst("id", 2).get("id"));
+		assertNull(collection.findFirst("id", 20));
+	}
+
+	/**
+	 * Test method for
+	 * {@link IndexedDataCollection#findRange(String, Object, boolean, Object, boolean)}.
+	 */
+	@Test
+	void testFindRange() {
+		IndexedDataCollection collection = buildCollection();
+		assertEquals(Arrays.asList(3, 4, 5), ids(collection.findRange("id", 3, 5)));
+		assertEquals(Arrays.asList(4), ids(collection.findRange("id", 3, false, 5, false)));
+		assertEquals(Arrays.asList(8, 9), ids(collection.findRange("id", 8, null)));
+		assertEquals(Arrays.asList(0, 1), ids(collection.findRange("id", null, 1)));
+
+		// unindexed key falls back to a scan
+		assertEquals(Arrays.asList(2, 5, 8), ids(collection.findRange("group", 2, 2)));
+	}
+
+	/**
+	 * Test method for
+	 * <ul>
+	 * <li>{@link IndexedDataCollection#add(DataMap)}</li>
+	 * <li>{@link IndexedDataCollection#remove(Object)}</li>
+	 * <li>{@link IndexedDataCollection#reindex(DataMap)}</li>
+	 * </ul>
+	 */
+	@Test
+	void testAddRemove() {
+		IndexedDataCollection collection = buildCollection();
+		DataMap row = collection.findFirst("id", 4);
+		assertFalse(collection.add(row));
+		assertThrows(ApplicationException.class, () -> collection.add(null));
+
+		row.put("group", 5);
+		assertTrue(collection.reindex(row));
+		assertSame(row, collection.findFirst("group", 5));
+		assertFalse(collection.find("group", 1).contains(row));
+
+		assertTrue(collection.remove(row));
+		assertFalse(collection.remove(row));
+		assertFalse(collection.reindex(row));
+		assertEquals(9, collection.size());
+		assertTrue(collection.find("group", 5).isEmpty());
+		assertTrue(collection.findRange("id", 4, 4).isEmpty());
+
+		Iterator<DataMap> iterator = collection.iterator();
+		iterator.next();
+		iterator.remove();
+		assertEquals(8, collection.size());
+
+		collection.clear();
+		assertTrue(collection.isEmpty());
+		assertTrue(collection.find("group", 0).isEmpty());
+	}
+}
@@ -0,0 +1,179 @@
+package accelerate.commons.data;
+
+import static accelerate.commons.constant.CommonTestConstants.KEY;
+import static accelerate.commons.constant.CommonTestConstants.VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import accelerate.commons.exception.ApplicationException;
+import accelerate.commons.util.JacksonUtils;
+
+/**
+ * {@link Test} class for {@link LazyDataMap}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class LazyDataMapTest {
+	/**
+	 * JSON content for this test class
+	 */
+	private static final String testJSON = "{ \"key\" : \"value\", \"count\": 5, \"nested\": {\"a\": [1, 2, {\"b\": \"\\\"}\"}]},"
+			+ " \"list\": [true, null], \"empty\": null }";
+
+	/**
+	 * JSON content without null object members, that is copied as is
+	 */
+	private static final String rawJSON = "{ \"key\" : \"value\", \"nested\": {\"a\": [1, null, \"n\u00e4\"]} }";
+
+	/**
+	 * Test method for {@link LazyDataMap#get(Object)}.
+	 */
+	@Test
+	void testGet() {
+		LazyDataMap testMap = new LazyDataMap(testJSON);
+		assertEquals(VALUE, testMap.get(KEY));
+		assertEquals((Integer) 5, testMap.getNumber("count", Integer.class));
+		assertEquals("\"}", testMap.getPath("nested.a[2].b"));
+		assertEquals(Arrays.asList(true, null), testMap.get("list"));
+		assertEquals(VALUE, testMap.getString(KEY));
+		assertEquals("DEFAULT", testMap.getOrDefault("INVALID", "DEFAULT"));
+		assertNull(testMap.getOrDefault("empty", "DEFAULT"));
+		assertTrue(testMap.checkValue(KEY, VALUE));
+		assertFalse(testMap.isModified());
+	}
+
+	/**
+	 * Test method for
+	 * <ul>
+	 * <li>{@link LazyDataMap#size()}</li>
+	 * <li>{@link LazyDataMap#containsKey(Object)}</li>
+	 * </ul>
+	 */
+	@Test
+	void testSize() {
+		LazyDataMap testMap = new LazyDataMap(testJSON);
+		assertEquals(5, testMap.size());
+		assertTrue(testMap.containsKey("empty"));
+		testMap.get(KEY);
+		assertEquals(5, testMap.size());
+		assertFalse(testMap.containsKey("INVALID"));
+
+		assertTrue(new LazyDataMap((String) null).isEmpty());
+		assertThrows(ApplicationException.class, () -> new LazyDataMap("[1, 2]").size());
+	}
+
+	/**
+	 * Test method for {@link LazyDataMap#toJSON()}.
+	 */
+	@Test
+	void testToJSON() throws IOException {
+		LazyDataMap rawMap = new LazyDataMap(rawJSON);
+		assertEquals(rawJSON, rawMap.toJSON());
+		rawMap.get("nested");
+		assertEquals(rawJSON, rawMap.toJSON());
+		assertEquals("{\"lazy\":" + rawJSON + "}", JacksonUtils.toJSON(DataMap.newMap("lazy", rawMap)));
+		assertEquals("{\"lazy\":" + rawJSON + "}", new String(
+				JacksonUtils.objectMapper().writeValueAsBytes(DataMap.newMap("lazy", rawMap)), StandardCharsets.UTF_8));
+
+		// null members are left out, as for any other map
+		LazyDataMap testMap = new LazyDataMap(testJSON);
+		assertFalse(JacksonUtils.fromJSON(testMap.toJSON(), Map.class).containsKey("empty"));
+		assertEquals(testMap.toJSON(), JacksonUtils.toJSON(testMap));
+		assertFalse(testMap.isModified());
+
+		testMap.put(KEY, "NEW_VALUE");
+		assertTrue(testMap.isModified());
+		Map<?, ?> reparsed = JacksonUtils.fromJSON(testMap.toJSON(), Map.class);
+		assertEquals("NEW_VALUE", reparsed.get(KEY));
+		assertEquals(4, reparsed.size());
+		assertEquals(reparsed, JacksonUtils.fromJSON(JacksonUtils.toJSON(DataMap.newMap("lazy", testMap)), Map.class)
+				.get("lazy"));
+
+		assertEquals("{}", new LazyDataMap((String) null).toJSON());
+	}
+
+	/**
+	 * Test method for
+	 * <ul>
+	 * <li>{@link LazyDataMap#put(String, Object)}</li>
+	 * <li>{@link LazyDataMap#remove(Object)}</li>
+	 * </ul>
+	 */
+	@Test
+	void testPutRemove() {
+		LazyDataMap testMap = new LazyDataMap(testJSON);
+		assertEquals(VALUE, testMap.put(KEY, "NEW_VALUE"));
+		assertEquals((Integer) 5, testMap.remove("count"));
+		assertEquals(4, testMap.size());
+		assertFalse(testMap.containsKey("count"));
+		assertEquals("NEW_VALUE", testMap.get(KEY));
+	}
+
+	/**
+	 * Test method for
+	 * <ul>
+	 * <li>{@link LazyDataMap#keySet()}</li>
+	 * <li>{@link LazyDataMap#values()}</li>
+	 * <li>{@link LazyDataMap#entrySet()}</li>
+	 * </ul>
+	 */
+	@Test
+	void testViews() {
+		LazyDataMap testMap = new LazyDataMap(rawJSON);
+		assertTrue(testMap.keySet().contains(KEY));
+		assertTrue(testMap.values().contains(VALUE));
+		testMap.entrySet().forEach(aEntry -> assertNotNull(aEntry.getValue()));
+		assertFalse(testMap.isModified());
+		assertEquals(rawJSON, testMap.toJSON());
+
+		testMap.entrySet().iterator().next().setValue("NEW_VALUE");
+		assertTrue(testMap.isModified());
+
+		testMap = new LazyDataMap(rawJSON);
+		testMap.keySet().remove("INVALID");
+		assertFalse(testMap.isModified());
+		testMap.values().remove(VALUE);
+		assertTrue(testMap.isModified());
+		assertFalse(testMap.containsKey(KEY));
+	}
+
+	/**
+	 * Test method for {@link LazyDataMap#equals(Object)}.
+	 */
+	@Test
+	void testEquals() {
+		LazyDataMap testMap = new LazyDataMap(testJSON);
+		DataMap parsedMap = JacksonUtils.fromJSON(testJSON, DataMap.class);
+
+		assertEquals(parsedMap, testMap);
+		assertEquals(testMap, parsedMap);
+		assertEquals(parsedMap.hashCode(), testMap.hashCode());
+		assertFalse(testMap.isModified());
+	}
+
+	/**
+	 * Test method for {@link LazyDataMap#checkpoint()}.
+	 */
+	@Test
+	void testCheckpoint() {
+		LazyDataMap testMap = new LazyDataMap(testJSON);
+		testMap.checkpoint();
+		testMap.put(KEY, "NEW_VALUE");
+
+		assertEquals(DataMap.newMap(KEY, "NEW_VALUE"), testMap.getDelta());
+	}
+}
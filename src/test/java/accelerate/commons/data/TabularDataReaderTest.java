@@ -0,0 +1,94 @@
+package accelerate.commons.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link Test} class for {@link TabularDataReader}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class TabularDataReaderTest {
+	/**
+	 * Test method for {@link TabularDataReader#streamMaps(Reader, char)}.
+	 */
+	@Test
+	void testStreamMaps() {
+		String csv = "id,name,note\n1,A,\"x, \"\"y\"\"\"\n\n2,,\"multi\nline\"\n3,C\n";
+		try (Stream<DataMap> rows = TabularDataReader.streamMaps(new StringReader(csv), TabularDataReader.CSV)) {
+			List<DataMap> list = rows.collect(Collectors.toList());
+			assertEquals(3, list.size());
+			assertEquals(DataMap.newMap("id", "1", "name", "A", "note", "x, \"y\""), list.get(0));
+			assertFalse(list.get(1).containsKey("name"));
+			assertEquals("multi\nline", list.get(1).get("note"));
+			assertNull(list.get(2).get("note"));
+		}
+
+		assertEquals(0, TabularDataReader.streamMaps(new StringReader(""), TabularDataReader.CSV).count());
+	}
+
+	/**
+	 * Test method for
+	 * {@link TabularDataReader#streamBeans(Reader, char, java.util.function.Supplier)}.
+	 */
+	@Test
+	void testStreamBeans() {
+		String tsv = "beanName\tkey\nN1\tV1\nN2\tV2\n";
+		List<TestDataBean> list = TabularDataReader
+				.streamBeans(new StringReader(tsv), TabularDataReader.TSV, TestDataBean::new)
+				.collect(Collectors.toList());
+		assertEquals(2, list.size());
+		assertEquals("V2", list.get(1).get("key"));
+		assertEquals("N1", list.get(0).get("beanName"));
+	}
+
+	/**
+	 * Test method for {@link TabularDataReader#streamMaps(Path, char, boolean)}.
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	void testStreamMapsParallel() throws IOException {
+		Path path = Files.createTempFile("TabularDataReaderTest", ".csv");
+		int count = 200_000;
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+				writer.write("id,value\n");
+				for (int idx = 0; idx < count; idx++) {
+					writer.write(idx + ",value-" + idx + "\n");
+				}
+			}
+
+			try (Stream<DataMap> rows = TabularDataReader.streamMaps(path, TabularDataReader.CSV, true)) {
+				List<DataMap> list = rows.collect(Collectors.toList());
+				assertEquals(count, list.size());
+				for (int idx = 0; idx < count; idx++) {
+					assertEquals(String.valueOf(idx), list.get(idx).get("id"));
+				}
+			}
+
+			try (Stream<DataMap> rows = TabularDataReader.streamMaps(path, TabularDataReader.CSV, false)) {
+				assertEquals("value-7", rows.skip(7).findFirst().get().get("value"));
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package accelerate.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * {@link Test} class for {@link ClassIndex} and {@link ClassIndexProcessor}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class ClassIndexTest {
+	/**
+	 * {@link Path} for temp directory
+	 */
+	private static Path tempPath = null;
+
+	/**
+	 * {@link ClassLoader} of the compiled classes
+	 */
+	private static ClassLoader classLoader;
+
+	/**
+	 * This method compiles the test sources with {@link ClassIndexProcessor}
+	 * 
+	 * @throws IOException
+	 */
+	@BeforeAll
+	static void initialize() throws IOException {
+		tempPath = Files.createTempDirectory("ClassIndexTest");
+		Path sourceDir = Files.createDirectories(tempPath.resolve("src/sample"));
+		Path outputDir = Files.createDirectories(tempPath.resolve("classes"));
+		Files.writeString(sourceDir.resolve("Plugin.java"),
+				"package sample; @accelerate.commons.util.Indexed @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME) public @interface Plugin {}",
+				StandardCharsets.UTF_8);
+		Files.writeString(sourceDir.resolve("FirstPlugin.java"),
+				"package sample; @Plugin public class FirstPlugin implements Runnable { public void run() {} }",
+				StandardCharsets.UTF_8);
+		Files.writeString(sourceDir.resolve("SecondPlugin.java"),
+				"package sample; @Plugin public class SecondPlugin { @Plugin public static class Inner {} }",
+				StandardCharsets.UTF_8);
+		Files.writeString(sourceDir.resolve("Marked.java"),
+				"package sample; @accelerate.commons.util.Indexed public class Marked {}", StandardCharsets.UTF_8);
+
+		compile(sourceDir, outputDir);
+		classLoader = new URLClassLoader(new URL[] { outputDir.toUri().toURL() },
+				ClassIndexTest.class.getClassLoader());
+	}
+
+	/**
+	 * This method compiles the sources in the given folder with
+	 * {@link ClassIndexProcessor}
+	 *
+	 * @param aSourceDir
+	 * @param aOutputDir
+	 * @throws IOException
+	 */
+	private static void compile(Path aSourceDir, Path aOutputDir) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null,
+				StandardCharsets.UTF_8)) {
+			List<File> sources = Files.list(aSourceDir).map(Path::toFile).toList();
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+					List.of("-d", aOutputDir.toString(), "-classpath",
+							System.getProperty("java.class.path") + File.pathSeparator + aOutputDir),
+					null, fileManager.getJavaFileObjectsFromFiles(sources));
+			task.setProcessors(List.of(new ClassIndexProcessor()));
+			assertTrue(task.call());
+		}
+	}
+
+	/**
+	 * @throws IOException
+	 */
+	@AfterAll
+	static void cleanup() throws IOException {
+		FileSystemUtils.deleteRecursively(tempPath);
+	}
+
+	/**
+	 * Test method for {@link ClassIndex#getClassNames(Class, ClassLoader)}.
+	 * 
+	 * @throws ClassNotFoundException
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testGetClassNames() throws ClassNotFoundException {
+		Class<? extends Annotation> plugin = (Class<? extends Annotation>) classLoader
+				.loadClass("sample.Plugin");
+		assertEquals(List.of("sample.FirstPlugin", "sample.SecondPlugin", "sample.SecondPlugin$Inner"),
+				ClassIndex.getClassNames(plugin, classLoader));
+		assertEquals(List.of("sample.Marked", "sample.Plugin"), ClassIndex.getClassNames(Indexed.class, classLoader));
+		assertTrue(ClassIndex.getClassNames(Test.class, classLoader).isEmpty());
+	}
+
+	/**
+	 * Test method for {@link ClassIndex#getClasses(Class, ClassLoader)}.
+	 * 
+	 * @throws ClassNotFoundException
+	 * @throws IOException
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void testGetClasses() throws ClassNotFoundException, IOException {
+		Class<? extends Annotation> plugin = (Class<? extends Annotation>) classLoader
+				.loadClass("sample.Plugin");
+		List<Class<?>> classes = ClassIndex.getClasses(plugin, classLoader);
+		assertEquals(3, classes.size());
+		assertEquals(classLoader.loadClass("sample.FirstPlugin"), classes.get(0));
+		assertTrue(Runnable.class.isAssignableFrom(classes.get(0)));
+
+		// stale entries are skipped at load time
+		Path staleDir = Files.createDirectories(tempPath.resolve("stale").resolve(ClassIndex.INDEX_PATH));
+		Files.writeString(staleDir.resolve("sample.Plugin"), "sample.FirstPlugin\njava.lang.String\n",
+				StandardCharsets.UTF_8);
+		ClassLoader staleLoader = new URLClassLoader(new URL[] { tempPath.resolve("stale").toUri().toURL() },
+				classLoader);
+		assertEquals(List.of("sample.FirstPlugin", "sample.SecondPlugin", "sample.SecondPlugin$Inner",
+				"java.lang.String"), ClassIndex.getClassNames(plugin, staleLoader));
+		assertEquals(3, ClassIndex.getClasses(plugin, staleLoader).size());
+	}
+
+	/**
+	 * Test method for {@link ClassIndexProcessor} on incremental builds.
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	void testIncrementalBuild() throws IOException {
+		Path sourceDir = Files.createDirectories(tempPath.resolve("incremental/src/sample"));
+		Path outputDir = Files.createDirectories(tempPath.resolve("incremental/classes"));
+		Files.writeString(sourceDir.resolve("First.java"),
+				"package sample.incremental; @accelerate.commons.util.Indexed public class First {}",
+				StandardCharsets.UTF_8);
+		Files.writeString(sourceDir.resolve("Second.java"),
+				"package sample.incremental; @accelerate.commons.util.Indexed public class Second {}",
+				StandardCharsets.UTF_8);
+		compile(sourceDir, outputDir);
+
+		// recompile only the class that lost its annotation
+		Files.delete(sourceDir.resolve("First.java"));
+		Files.writeString(sourceDir.resolve("Second.java"), "package sample.incremental; public class Second {}",
+				StandardCharsets.UTF_8);
+		Files.writeString(sourceDir.resolve("Third.java"),
+				"package sample.incremental; @accelerate.commons.util.Indexed public class Third {}",
+				StandardCharsets.UTF_8);
+		compile(sourceDir, outputDir);
+
+		try (URLClassLoader incrementalLoader = new URLClassLoader(new URL[] { outputDir.toUri().toURL() }, null)) {
+			assertEquals(List.of("sample.incremental.First", "sample.incremental.Third"),
+					ClassIndex.getClassNames(Indexed.class, incrementalLoader));
+		}
+	}
+}
@@ -4,8 +4,10 @@ import static accelerate.commons.constant.CommonTestConstants.KEY;
 import static accelerate.commons.constant.CommonTestConstants.VALUE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -131,6 +133,26 @@ class CommonUtilsTests {
 		assertFalse(CommonUtils.compareAny("e", testList));
 	}
 
+	/**
+	 * Test method for {@link CommonUtils#convertNumber(Number, Class)}.
+	 */
+	@Test
+	void testConvertNumber() {
+		assertEquals(Integer.valueOf(5), CommonUtils.convertNumber(5L, Integer.class));
+		assertEquals(Long.valueOf(5), CommonUtils.convertNumber(5.0, Long.class));
+		assertEquals(Double.valueOf(0.5), CommonUtils.convertNumber(new BigDecimal("0.5"), Double.class));
+		assertEquals(Float.valueOf(1.5f), CommonUtils.convertNumber(1.5, Float.class));
+		assertEquals(Byte.valueOf((byte) -128), CommonUtils.convertNumber(-128, Byte.class));
+
+		assertNull(CommonUtils.convertNumber(Integer.MAX_VALUE + 1L, Integer.class));
+		assertNull(CommonUtils.convertNumber(1.9, Integer.class));
+		assertNull(CommonUtils.convertNumber(Long.MAX_VALUE, Double.class));
+		assertNull(CommonUtils.convertNumber(0.1, Float.class));
+		assertNull(CommonUtils.convertNumber(new BigDecimal("0.1"), Double.class));
+		assertNull(CommonUtils.convertNumber(Double.NaN, Long.class));
+		assertNull(CommonUtils.convertNumber(1, BigDecimal.class));
+	}
+
 	/**
 	 * Test method for {@link CommonUtils#getErrorMessage(Throwable)}.
 	 */
@@ -0,0 +1,84 @@
+package accelerate.commons.util;
+
+import static accelerate.commons.constant.CommonTestConstants.BEAN_ID_FIELD;
+import static accelerate.commons.constant.CommonTestConstants.BEAN_ID_VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import accelerate.commons.data.TestDataBean;
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * {@link Test} class for {@link FieldAccessor}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class FieldAccessorTest {
+	/**
+	 * static field for {@link #testStaticField()}
+	 */
+	private static int staticCounter = 0;
+
+	/**
+	 * final field for {@link #testSet()}
+	 */
+	private final String finalValue = "final";
+
+	/**
+	 * primitive field for {@link #testSet()}
+	 */
+	private int count = 0;
+
+	/**
+	 * Test method for {@link FieldAccessor#get(Object)}.
+	 */
+	@Test
+	void testGet() {
+		FieldAccessor accessor = ReflectionUtils.getFieldAccessor(TestDataBean.class, BEAN_ID_FIELD);
+		assertSame(accessor, ReflectionUtils.getFieldAccessor(TestDataBean.class, BEAN_ID_FIELD));
+		assertEquals(BEAN_ID_VALUE, accessor.get(new TestDataBean()));
+		assertThrows(ApplicationException.class, () -> accessor.get("invalid"));
+	}
+
+	/**
+	 * Test method for {@link FieldAccessor#set(Object, Object)}.
+	 */
+	@Test
+	@SuppressWarnings("deprecation")
+	void testSet() {
+		TestDataBean bean = new TestDataBean();
+		FieldAccessor accessor = ReflectionUtils.getFieldAccessor(TestDataBean.class, BEAN_ID_FIELD);
+		accessor.set(bean, "NEW_ID");
+		assertEquals("NEW_ID", bean.getBeanId());
+		assertThrows(ApplicationException.class, () -> accessor.set(bean, Integer.valueOf(1)));
+
+		FieldAccessorTest test = new FieldAccessorTest();
+		ReflectionUtils.getFieldAccessor(FieldAccessorTest.class, "finalValue").set(test, "changed");
+		assertEquals("changed", ReflectionUtils.getFieldValue(test, "finalValue"));
+		assertFalse(ReflectionUtils.getField(FieldAccessorTest.class, "finalValue").isAccessible());
+
+		FieldAccessor primitive = ReflectionUtils.getFieldAccessor(FieldAccessorTest.class, "count");
+		assertThrows(ApplicationException.class, () -> primitive.set(test, null));
+		assertThrows(ApplicationException.class, () -> primitive.set(null, 1));
+	}
+
+	/**
+	 * Test method for static fields.
+	 */
+	@Test
+	void testStaticField() {
+		FieldAccessor accessor = ReflectionUtils.getFieldAccessor(FieldAccessorTest.class, "staticCounter");
+		accessor.set(null, 5);
+		assertEquals(5, staticCounter);
+		assertEquals(Integer.valueOf(5), accessor.get(null));
+		assertThrows(ApplicationException.class, () -> ReflectionUtils
+				.getFieldAccessor(TestDataBean.class, "serialVersionUID").set(null, 2L));
+	}
+}
@@ -0,0 +1,124 @@
+package accelerate.commons.util;
+
+import static accelerate.commons.constant.CommonTestConstants.KEY;
+import static accelerate.commons.constant.CommonTestConstants.VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import accelerate.commons.data.DataMap;
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * {@link Test} class for {@link Instantiator}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class InstantiatorTest {
+	/**
+	 * Test method for {@link Instantiator#newInstance(java.util.Map)}.
+	 */
+	@Test
+	void testNewInstanceMap() {
+		Instantiator<Row> instantiator = ReflectionUtils.getInstantiator(Row.class);
+		assertSame(instantiator, ReflectionUtils.getInstantiator(Row.class));
+		assertEquals(List.of("id", "name", "score"), instantiator.getArgNames());
+
+		assertEquals(new Row(7L, VALUE, 1.5), instantiator.newInstance(DataMap.newMap("id", 7, "name", VALUE,
+				"score", 1.5, KEY, VALUE)));
+		assertEquals(new Row(0L, null, 0.0), instantiator.newInstance(new DataMap()));
+		assertEquals(new Row(1L, VALUE, 0.0), ReflectionUtils.newInstance(Row.class, DataMap.newMap("id", 1L,
+				"name", VALUE)));
+
+		assertThrows(ApplicationException.class, () -> instantiator.newInstance(DataMap.newMap("id", VALUE)));
+		assertThrows(ApplicationException.class, () -> instantiator.newInstance(DataMap.newMap("id", 1.9)));
+		assertEquals(new Row(2L, null, 0.0), instantiator.newInstance(DataMap.newMap("id", 2.0)));
+		assertThrows(ApplicationException.class,
+				() -> ReflectionUtils.newInstance(Point.class, DataMap.newMap("x", 3_000_000_000L)));
+		assertThrows(ApplicationException.class, () -> instantiator.newInstance(DataMap.newMap("id", 1.9)));
+		assertEquals(new Row(2L, null, 0.0), instantiator.newInstance(DataMap.newMap("id", 2.0)));
+		assertThrows(ApplicationException.class,
+				() -> ReflectionUtils.newInstance(Point.class, DataMap.newMap("x", 3_000_000_000L)));
+	}
+
+	/**
+	 * Test method for {@link Instantiator#newInstance(Object[])}.
+	 */
+	@Test
+	void testNewInstanceArgs() {
+		Instantiator<Row> instantiator = ReflectionUtils.getInstantiator(Row.class);
+		assertEquals(new Row(2L, VALUE, 3.0), instantiator.newInstance(2, VALUE, 3));
+		assertThrows(ApplicationException.class, () -> instantiator.newInstance(1L));
+	}
+
+	/**
+	 * Test method for {@link ReflectionUtils#getInstantiator(Class)} with a
+	 * {@link JsonCreator} constructor.
+	 */
+	@Test
+	void testJsonCreator() {
+		Point point = ReflectionUtils.newInstance(Point.class, DataMap.newMap("x", 1, "y", 2));
+		assertEquals(1, point.x);
+		assertEquals(2, point.y);
+		assertNull(point.label);
+		assertThrows(IllegalArgumentException.class,
+				() -> ReflectionUtils.newInstance(Point.class, DataMap.newMap("x", -1, "y", 2)));
+
+		assertThrows(ApplicationException.class, () -> ReflectionUtils.getInstantiator(Object.class));
+	}
+
+	/**
+	 * Record for tests
+	 * 
+	 * @param id
+	 * @param name
+	 * @param score
+	 */
+	record Row(long id, String name, double score) {
+	}
+
+	/**
+	 * Class with a {@link JsonCreator} constructor
+	 */
+	static class Point {
+		/**
+		 * x
+		 */
+		final int x;
+
+		/**
+		 * y
+		 */
+		final int y;
+
+		/**
+		 * label
+		 */
+		String label = null;
+
+		/**
+		 * @param aX
+		 * @param aY
+		 */
+		@JsonCreator
+		Point(@JsonProperty("x") int aX, @JsonProperty("y") int aY) {
+			if (aX < 0) {
+				throw new IllegalArgumentException("x cannot be negative");
+			}
+
+			this.x = aX;
+			this.y = aY;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package accelerate.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link Test} class for {@link LRUCache}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class LRUCacheTest {
+	/**
+	 * Test method for
+	 * <ul>
+	 * <li>{@link LRUCache#get(Object)}</li>
+	 * <li>{@link LRUCache#putIfAbsent(Object, Object)}</li>
+	 * <li>{@link LRUCache#computeIfAbsent(Object, java.util.function.Function)}</li>
+	 * </ul>
+	 */
+	@Test
+	void testEviction() {
+		LRUCache<String, Integer> cache = new LRUCache<>(2);
+		assertEquals(Integer.valueOf(1), cache.computeIfAbsent("a", aKey -> 1));
+		assertEquals(Integer.valueOf(1), cache.computeIfAbsent("a", aKey -> 2));
+		assertEquals(Integer.valueOf(2), cache.putIfAbsent("b", 2));
+		assertEquals(Integer.valueOf(2), cache.putIfAbsent("b", 3));
+
+		// "a" is used more recently than "b", so "b" is evicted
+		assertEquals(Integer.valueOf(1), cache.get("a"));
+		cache.putIfAbsent("c", 3);
+		assertEquals(2, cache.size());
+		assertNull(cache.get("b"));
+		assertEquals(Integer.valueOf(1), cache.get("a"));
+		assertEquals(Integer.valueOf(3), cache.get("c"));
+
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+}
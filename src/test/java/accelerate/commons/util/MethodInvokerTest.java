@@ -0,0 +1,70 @@
+package accelerate.commons.util;
+
+import static accelerate.commons.constant.CommonTestConstants.BEAN_ID_VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import accelerate.commons.data.TestDataBean;
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * {@link Test} class for {@link MethodInvoker}
+ * 
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class MethodInvokerTest {
+	/**
+	 * @param aLeft
+	 * @param aRight
+	 * @return
+	 */
+	private static int add(int aLeft, int aRight) {
+		return aLeft + aRight;
+	}
+
+	/**
+	 * static method throwing an {@link Error} for {@link #testInvokeStatic()}
+	 */
+	private static void fail() {
+		throw new StackOverflowError();
+	}
+
+	/**
+	 * Test method for {@link MethodInvoker#invoke(Object, Object[])}.
+	 */
+	@Test
+	void testInvoke() {
+		TestDataBean bean = new TestDataBean();
+		MethodInvoker getter = ReflectionUtils.getMethodInvoker(TestDataBean.class, "getBeanId", new Class<?>[] {});
+		assertSame(getter, ReflectionUtils.getMethodInvoker(TestDataBean.class, "getBeanId", new Class<?>[] {}));
+		assertEquals(BEAN_ID_VALUE, getter.invoke(bean));
+		assertEquals(BEAN_ID_VALUE, getter.invoke(bean, (Object[]) null));
+
+		MethodInvoker setter = ReflectionUtils.getMethodInvoker(TestDataBean.class, "setBeanId",
+				new Class<?>[] { String.class });
+		assertNull(setter.invoke(bean, "NEW_ID"));
+		assertEquals("NEW_ID", bean.getBeanId());
+		assertThrows(ApplicationException.class, () -> setter.invoke(bean));
+	}
+
+	/**
+	 * Test method for static methods.
+	 */
+	@Test
+	void testInvokeStatic() {
+		MethodInvoker invoker = ReflectionUtils.getMethodInvoker(MethodInvokerTest.class, "add",
+				new Class<?>[] { int.class, int.class });
+		assertEquals(Integer.valueOf(5), invoker.invoke(null, 2, 3));
+		assertEquals(Integer.valueOf(3),
+				ReflectionUtils.invokeMethod("abc", "length", new Class<?>[] {}, (Object[]) null));
+		assertThrows(StackOverflowError.class, () -> ReflectionUtils
+				.getMethodInvoker(MethodInvokerTest.class, "fail", new Class<?>[] {}).invoke(null));
+	}
+}
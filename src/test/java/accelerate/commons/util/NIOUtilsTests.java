@@ -1,6 +1,7 @@
 package accelerate.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -8,7 +9,9 @@ import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -194,6 +197,53 @@ class NIOUtilsTests {
 		assertTrue(fileMap.size() >= 0, "Should pick up any log files present in the temp directory");
 	}
 
+	/**
+	 * Test method for
+	 * {@link NIOUtils#walkFileTreeParallel(Path, Function, BiFunction, BiFunction, Function, Function, BiFunction, boolean, int)}.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	void testWalkFileTreeParallel() throws IOException {
+		// create the test tree
+		Path rootPath = Files.createDirectories(tempPath.resolve("walkFileTreeParallel"));
+		for (int idx = 0; idx < 200; idx++) {
+			Path dir = Files.createDirectories(rootPath.resolve("dir" + (idx % 9)).resolve("sub" + (idx % 4)));
+			Files.createFile(dir.resolve("file" + idx + ((idx % 3) == 0 ? ".log" : ".txt")));
+		}
+		Files.createDirectories(rootPath.resolve("skip")).resolve("x.log").toFile().createNewFile();
+
+		// test the method
+		Function<Path, Boolean> directoryFilter = aDir -> !aDir.getFileName().toString().equals("skip");
+		BiFunction<Path, FileVisitResult, Boolean> selector = (aPath, aResult) -> NIOUtils.getFileExtn(aPath)
+				.equals("log");
+		Map<String, Path> expected = NIOUtils.walkFileTree(rootPath, directoryFilter, null, null, null, null,
+				selector);
+		assertEquals(67, expected.size());
+
+		Map<String, Path> ordered = NIOUtils.walkFileTreeParallel(rootPath, directoryFilter, null, null, null, null,
+				selector, true, 4);
+		assertEquals(List.copyOf(expected.keySet()), List.copyOf(ordered.keySet()));
+		assertEquals(expected, NIOUtils.walkFileTreeParallel(rootPath, directoryFilter, null, null, null, null,
+				selector, false));
+
+		AtomicInteger visits = new AtomicInteger();
+		NIOUtils.walkFileTreeParallel(rootPath, null, null, null, null,
+				aPath -> (visits.incrementAndGet() >= 10) ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE,
+				null, false, 4);
+		assertTrue(visits.get() < 201);
+
+		assertThrows(ApplicationException.class, () -> NIOUtils.walkFileTreeParallel(rootPath, null, null, null,
+				null, aPath -> {
+					throw new IllegalStateException();
+				}, null, false));
+		assertThrows(ApplicationException.class, () -> NIOUtils.walkFileTreeParallel(rootPath.resolve("missing"),
+				null, null, null, null, null, null, true));
+
+		// cleanup
+		FileSystemUtils.deleteRecursively(rootPath);
+	}
+
 	/**
 	 * {@link Logger} instance
 	 */
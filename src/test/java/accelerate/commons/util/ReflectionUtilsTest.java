@@ -5,12 +5,31 @@ import static accelerate.commons.constant.CommonTestConstants.BEAN_ID_VALUE;
 import static accelerate.commons.constant.CommonTestConstants.KEY;
 import static accelerate.commons.constant.CommonTestConstants.VALUE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
 import accelerate.commons.data.DataBean;
 import accelerate.commons.data.DataMap;
 import accelerate.commons.data.TestDataBean;
+import accelerate.commons.exception.ApplicationException;
 
 /**
  * {@link Test} class for {@link ReflectionUtils}
@@ -39,6 +58,30 @@ class ReflectionUtilsTest {
 		return aParam;
 	}
 
+	/**
+	 * @param aParam
+	 * @return
+	 */
+	private static String OVERLOADED_METHOD(Object aParam) {
+		return "Object";
+	}
+
+	/**
+	 * @param aParam
+	 * @return
+	 */
+	private static String OVERLOADED_METHOD(Number aParam) {
+		return "Number";
+	}
+
+	/**
+	 * @param aParam
+	 * @return
+	 */
+	private static String OVERLOADED_METHOD(long aParam) {
+		return "long";
+	}
+
 	/**
 	 * Test method for {@link ReflectionUtils#getFieldValue(Object, String)}.
 	 */
@@ -69,6 +112,10 @@ class ReflectionUtilsTest {
 	@Test
 	void testGetFieldClassOfQString() {
 		assertEquals("ignoredFields", ReflectionUtils.getField(TestDataBean.class, "ignoredFields").getName());
+		assertSame(ReflectionUtils.getField(TestDataBean.class, BEAN_ID_FIELD),
+				ReflectionUtils.getField(TestDataBean.class, BEAN_ID_FIELD));
+		assertNull(ReflectionUtils.getField(TestDataBean.class, "invalid"));
+		assertNull(ReflectionUtils.getField(TestDataBean.class, null));
 	}
 
 	/**
@@ -110,6 +157,70 @@ class ReflectionUtilsTest {
 		assertEquals("NEW_VALUE", testBean.getBeanId());
 	}
 
+	/**
+	 * Test method for {@link ReflectionUtils#invokeGetter(Object, String)} and
+	 * {@link ReflectionUtils#invokeSetter(Object, String, Object)} with accessors
+	 * that throw.
+	 */
+	@Test
+	void testInvokeThrowingAccessors() {
+		ApplicationException error = assertThrows(ApplicationException.class,
+				() -> ReflectionUtils.invokeGetter(new ThrowingBean(), "checked"));
+		assertTrue(error.getCause() instanceof IOException);
+
+		error = assertThrows(ApplicationException.class,
+				() -> ReflectionUtils.invokeGetter(new ThrowingBean(), "unchecked"));
+		assertTrue(error.getCause() instanceof IllegalStateException);
+
+		error = assertThrows(ApplicationException.class,
+				() -> ReflectionUtils.invokeSetter(new ThrowingBean(), "checked", "value"));
+		assertTrue(error.getCause() instanceof IOException);
+
+		error = assertThrows(ApplicationException.class,
+				() -> ReflectionUtils.invokeGetter(new ThrowingBean(), "application"));
+		assertTrue(error.getCause() instanceof ApplicationException);
+
+		error = assertThrows(ApplicationException.class,
+				() -> ReflectionUtils.invokeSetter(new ThrowingBean(), "application", "value"));
+		assertTrue(error.getCause() instanceof ApplicationException);
+	}
+
+	/**
+	 * Test method for {@link ReflectionUtils#getPropertySetter(Class, String)}
+	 * with overloaded setters.
+	 */
+	@Test
+	void testGetPropertySetterOverload() {
+		ThrowingBean bean = new ThrowingBean();
+		ReflectionUtils.getPropertySetter(ThrowingBean.class, "count").accept(bean, 5L);
+		assertEquals(Long.valueOf(5), bean.getCount());
+	}
+
+	/**
+	 * Test method for {@link ReflectionUtils#getPropertyGetter(Class, String)}.
+	 */
+	@Test
+	void testGetPropertyGetter() {
+		Function<TestDataBean, Object> getter = ReflectionUtils.getPropertyGetter(TestDataBean.class, BEAN_ID_FIELD);
+		assertSame(getter, ReflectionUtils.getPropertyGetter(TestDataBean.class, BEAN_ID_FIELD));
+		assertTrue(getter.getClass().getName().startsWith(TestDataBean.class.getName()));
+		assertEquals(BEAN_ID_VALUE, getter.apply(new TestDataBean()));
+		assertNull(ReflectionUtils.getPropertyGetter(TestDataBean.class, "invalid"));
+	}
+
+	/**
+	 * Test method for {@link ReflectionUtils#getPropertySetter(Class, String)}.
+	 */
+	@Test
+	void testGetPropertySetter() {
+		TestDataBean testBean = new TestDataBean();
+		BiConsumer<TestDataBean, Object> setter = ReflectionUtils.getPropertySetter(TestDataBean.class,
+				BEAN_ID_FIELD);
+		setter.accept(testBean, "NEW_VALUE");
+		assertEquals("NEW_VALUE", testBean.getBeanId());
+		assertNull(ReflectionUtils.getPropertySetter(TestDataBean.class, "invalid"));
+	}
+
 	/**
 	 * Test method for
 	 * {@link ReflectionUtils#invokeMethod(Object, String, Class[], Object[])}.
@@ -147,5 +258,252 @@ class ReflectionUtilsTest {
 				ReflectionUtils
 						.findMethod(ReflectionUtilsTest.class, "STATIC_TEST_METHOD", new Class<?>[] { String.class })
 						.getName());
+		assertEquals("toJSON", ReflectionUtils.findMethod(TestDataBean.class, "toJSON", new Class<?>[] {}).getName());
+		assertEquals("run", ReflectionUtils.findMethod(Runnable.class, "run", new Class<?>[] {}).getName());
+		assertNull(ReflectionUtils.findMethod(TestDataBean.class, "toJSON", new Class<?>[] { String.class }));
+		assertNull(ReflectionUtils.findMethod(TestDataBean.class, "hashCode", new Class<?>[] {}));
+	}
+
+	/**
+	 * Test method for {@link ReflectionUtils#findMethod(Class, String, Class[])}
+	 * with boxing and assignable argument types.
+	 */
+	@Test
+	void testFindMethodOverloads() {
+		assertEquals(long.class, ReflectionUtils
+				.findMethod(ReflectionUtilsTest.class, "OVERLOADED_METHOD", new Class<?>[] { int.class })
+				.getParameterTypes()[0]);
+		assertEquals(Number.class, ReflectionUtils
+				.findMethod(ReflectionUtilsTest.class, "OVERLOADED_METHOD", new Class<?>[] { Integer.class })
+				.getParameterTypes()[0]);
+		assertEquals(Object.class, ReflectionUtils
+				.findMethod(ReflectionUtilsTest.class, "OVERLOADED_METHOD", new Class<?>[] { String.class })
+				.getParameterTypes()[0]);
+		assertEquals(Number.class, ReflectionUtils
+				.findMethod(ReflectionUtilsTest.class, "OVERLOADED_METHOD", new Class<?>[] { null })
+				.getParameterTypes()[0]);
+		assertNull(ReflectionUtils.findMethod(ReflectionUtilsTest.class, "OVERLOADED_METHOD",
+				new Class<?>[] { String.class, String.class }));
+		assertEquals("long", ReflectionUtils.invokeStaticMethod(ReflectionUtilsTest.class, "OVERLOADED_METHOD",
+				new Class<?>[] { int.class }, new Object[] { 1 }));
+	}
+
+	/**
+	 * Test method for {@link ReflectionUtils#deepClone(Object)}.
+	 */
+	@Test
+	void testDeepClone() {
+		Node node = Node.cycle();
+		Node copy = ReflectionUtils.deepClone(node);
+		assertNotSame(node, copy);
+		assertNotSame(node.items, copy.items);
+		assertNotSame(node.values, copy.values);
+		assertNotSame(node.point.tags(), copy.point.tags());
+		assertSame(node.date, copy.date);
+		assertSame(copy, copy.next.next);
+		assertSame(copy.items.get(0), copy.items.get(1));
+		assertEquals(node.sorted.comparator(), copy.sorted.comparator());
+		assertTrue(ReflectionUtils.deepEquals(node, copy));
+
+		TestDataBean bean = new TestDataBean();
+		bean.add(KEY, new DataMap().add(KEY, VALUE));
+		bean.addIgnoredFields(BEAN_ID_FIELD);
+		TestDataBean beanCopy = ReflectionUtils.deepClone(bean);
+		assertEquals(bean.getBeanId(), beanCopy.getBeanId());
+		assertEquals(bean.getIgnoredFields(), beanCopy.getIgnoredFields());
+		assertNotSame(bean.get(KEY), beanCopy.get(KEY));
+		assertEquals(bean.toJSON(), beanCopy.toJSON());
+
+		assertSame(VALUE, ReflectionUtils.deepClone(VALUE));
+		List<DataMap> list = List.of(new DataMap().add(KEY, VALUE));
+		assertEquals(list, ReflectionUtils.deepClone(list));
+		assertNotSame(list.get(0), ReflectionUtils.deepClone(list).get(0));
+
+		// immutable and opaque JDK values are shared
+		Optional<String> optional = Optional.of(VALUE);
+		assertSame(optional, ReflectionUtils.deepClone(optional));
+		HexFormat format = HexFormat.of();
+		assertSame(format, ReflectionUtils.deepClone(format));
+		DataMap holder = new DataMap().add(KEY, optional).add(VALUE, format);
+		DataMap holderCopy = ReflectionUtils.deepClone(holder);
+		assertSame(optional, holderCopy.get(KEY));
+		assertTrue(ReflectionUtils.deepEquals(holder, holderCopy));
+
+		// a record cannot be created before its components
+		Chain chain = new Chain(new ArrayList<>());
+		chain.links().add(chain);
+		assertThrows(ApplicationException.class, () -> ReflectionUtils.deepClone(chain));
+	}
+
+	/**
+	 * Test method for {@link ReflectionUtils#deepEquals(Object, Object)} and
+	 * {@link ReflectionUtils#deepHashCode(Object)}.
+	 */
+	@Test
+	void testDeepEquals() {
+		Node left = Node.cycle();
+		Node right = Node.cycle();
+		assertTrue(ReflectionUtils.deepEquals(left, right));
+		assertEquals(ReflectionUtils.deepHashCode(left), ReflectionUtils.deepHashCode(right));
+
+		right.next.values[0] = 9;
+		assertFalse(ReflectionUtils.deepEquals(left, right));
+
+		assertTrue(ReflectionUtils.deepEquals(Set.of(new Node()), Set.of(new Node())));
+		assertFalse(ReflectionUtils.deepEquals(new TestDataBean().add(KEY, VALUE), new TestDataBean()));
+		assertEquals(ReflectionUtils.deepHashCode(new TestDataBean().add(KEY, VALUE)),
+				ReflectionUtils.deepHashCode(new TestDataBean().add(KEY, VALUE)));
+		assertTrue(ReflectionUtils.deepEquals(null, null));
+		assertFalse(ReflectionUtils.deepEquals(left, null));
+	}
+
+	/**
+	 * Record type for {@link #testDeepClone()}
+	 * 
+	 * @param x
+	 * @param tags
+	 */
+	private static record Point(int x, List<String> tags) {
+	}
+
+	/**
+	 * Record type for cycles in {@link #testDeepClone()}
+	 * 
+	 * @param links
+	 */
+	private static record Chain(List<Object> links) {
+	}
+
+	/**
+	 * Bean with throwing and overloaded accessors for
+	 * {@link #testInvokeThrowingAccessors()}
+	 */
+	public static class ThrowingBean {
+		/**
+		 * count
+		 */
+		private Long count = null;
+
+		/**
+		 * @return
+		 * @throws IOException always
+		 */
+		public String getChecked() throws IOException {
+			throw new IOException("getChecked");
+		}
+
+		/**
+		 * @param aValue
+		 * @throws IOException always
+		 */
+		public void setChecked(@SuppressWarnings("unused") String aValue) throws IOException {
+			throw new IOException("setChecked");
+		}
+
+		/**
+		 * @return
+		 */
+		public String getUnchecked() {
+			throw new IllegalStateException("getUnchecked");
+		}
+
+		/**
+		 * @return
+		 * @throws ApplicationException always
+		 */
+		public String getApplication() throws ApplicationException {
+			throw new ApplicationException("getApplication");
+		}
+
+		/**
+		 * @param aValue
+		 * @throws ApplicationException always
+		 */
+		public void setApplication(@SuppressWarnings("unused") String aValue) throws ApplicationException {
+			throw new ApplicationException("setApplication");
+		}
+
+		/**
+		 * Getter method for "count" property
+		 * 
+		 * @return count
+		 */
+		public Long getCount() {
+			return this.count;
+		}
+
+		/**
+		 * @param aCount
+		 */
+		public void setCount(String aCount) {
+			this.count = Long.valueOf(aCount);
+		}
+
+		/**
+		 * Setter method for "count" property
+		 * 
+		 * @param aCount
+		 */
+		public void setCount(Long aCount) {
+			this.count = aCount;
+		}
+
+		/**
+		 * @param aCount
+		 */
+		public void setCount(Object aCount) {
+			this.count = Long.valueOf(aCount.toString());
+		}
+	}
+
+	/**
+	 * Object graph for {@link #testDeepClone()}
+	 */
+	private static class Node {
+		/**
+		 * next node
+		 */
+		Node next = null;
+
+		/**
+		 * values
+		 */
+		int[] values = { 1, 2 };
+
+		/**
+		 * items
+		 */
+		List<Object> items = new ArrayList<>();
+
+		/**
+		 * date
+		 */
+		LocalDate date = LocalDate.of(2026, 10, 19);
+
+		/**
+		 * point
+		 */
+		Point point = new Point(1, new ArrayList<>(List.of(KEY)));
+
+		/**
+		 * sorted set
+		 */
+		TreeSet<String> sorted = new TreeSet<>(Comparator.reverseOrder());
+
+		/**
+		 * @return two nodes pointing to each other
+		 */
+		static Node cycle() {
+			Node first = new Node();
+			Node second = new Node();
+			DataMap shared = new DataMap().add(KEY, VALUE);
+			first.next = second;
+			second.next = first;
+			first.items.add(shared);
+			first.items.add(shared);
+			first.sorted.add(VALUE);
+
+			return first;
+		}
 	}
-}
\ No newline at end of file
+}
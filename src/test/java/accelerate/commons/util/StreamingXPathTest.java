@@ -0,0 +1,112 @@
+package accelerate.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import accelerate.commons.exception.ApplicationException;
+
+/**
+ * {@link Test} class for {@link StreamingXPath}
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+public class StreamingXPathTest {
+	/**
+	 * XML used by the tests
+	 */
+	private static final String TEST_XML = "<catalog xmlns:x='urn:x'>" //
+			+ "<book id='b1' lang='en'><title>One</title><price>10</price></book>" //
+			+ "<shelf><book id='b2'><title>Two</title><book id='b3'><title>Three</title></book></book></shelf>" //
+			+ "<book id='b4' lang='fr'><title>Four<!-- note --></title><x:tag>t</x:tag></book>" //
+			+ "</catalog>";
+
+	/**
+	 * Test method for {@link StreamingXPath#compile(String)}.
+	 */
+	@Test
+	void testCompile() {
+		assertSame(StreamingXPath.compile("/catalog/book"), StreamingXPath.compile("/catalog/book"));
+		assertThrows(ApplicationException.class, () -> StreamingXPath.compile(null));
+		assertThrows(ApplicationException.class, () -> StreamingXPath.compile("catalog/book"));
+		assertThrows(ApplicationException.class, () -> StreamingXPath.compile("/catalog/book[last()]"));
+		assertThrows(ApplicationException.class, () -> StreamingXPath.compile("/catalog/book[@id][1]"));
+		assertThrows(ApplicationException.class, () -> StreamingXPath.compile("/catalog//@id"));
+		assertThrows(ApplicationException.class, () -> StreamingXPath.compile("/catalog/text()/book"));
+	}
+
+	/**
+	 * Test method for {@link StreamingXPath#values(InputStream)}.
+	 */
+	@Test
+	void testValues() {
+		assertEquals(List.of("One10", "Fourt"), values("/catalog/book"));
+		assertEquals(List.of("b1", "b2", "b3", "b4"), values("//book/@id"));
+		assertEquals(List.of("One", "Two", "Three", "Four"), values("//book/title/text()"));
+		assertEquals(List.of("TwoThree"), values("/catalog/shelf/book"));
+		assertEquals(List.of("b4"), values("/catalog/book[2]/@id"));
+		assertEquals(List.of("b1"), values("/catalog/*[1]/@id"));
+		assertEquals(List.of("Four"), values("//book[@lang='fr']/title"));
+		assertEquals(List.of("b1", "b4"), values("//book[@lang]/@id"));
+		assertEquals(List.of("t"), values("//x:tag"));
+		assertEquals(List.of("Three"), values("//book//book/title"));
+		assertEquals(List.of(), values("/book"));
+	}
+
+	/**
+	 * Test method for {@link StreamingXPath#nodes(InputStream)}.
+	 */
+	@Test
+	void testNodes() {
+		List<Node> nodes;
+		try (Stream<Node> stream = StreamingXPath.compile("//book").nodes(input())) {
+			nodes = stream.collect(Collectors.toList());
+		}
+
+		assertEquals(4, nodes.size());
+		Element nested = (Element) nodes.get(1);
+		assertEquals("b2", nested.getAttribute("id"));
+		assertNull(nested.getParentNode().getParentNode());
+		assertEquals("b3", ((Element) nodes.get(2)).getAttribute("id"));
+		assertEquals(XMLUtils.xPathNodeValue("/catalog/shelf/book/book/title", XMLUtils.stringToXML(TEST_XML)),
+				XMLUtils.xPathNodeValue("/book/book/title", nested.getOwnerDocument()));
+		assertEquals(Node.COMMENT_NODE,
+				((Element) nodes.get(3)).getElementsByTagName("title").item(0).getLastChild().getNodeType());
+
+		Node attribute = StreamingXPath.compile("/catalog/book/@lang").nodes(input()).findFirst().get();
+		assertEquals(Node.ATTRIBUTE_NODE, attribute.getNodeType());
+		assertEquals("en", attribute.getNodeValue());
+	}
+
+	/**
+	 * @param aExpression
+	 * @return
+	 */
+	private static List<String> values(String aExpression) {
+		try (Stream<String> stream = StreamingXPath.compile(aExpression).values(input())) {
+			return stream.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * @return
+	 */
+	private static InputStream input() {
+		return new ByteArrayInputStream(TEST_XML.getBytes(StandardCharsets.UTF_8));
+	}
+}
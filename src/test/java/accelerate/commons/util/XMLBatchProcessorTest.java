@@ -0,0 +1,142 @@
+package accelerate.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+
+import accelerate.commons.exception.ApplicationException;
+import accelerate.commons.util.XMLBatchProcessor.FileResult;
+
+/**
+ * {@link Test} class for {@link XMLBatchProcessor}
+ *
+ * @version 1.0 Initial Version
+ * @author Rohit Narayanan
+ * @since October 19, 2026
+ */
+@SuppressWarnings("static-method")
+class XMLBatchProcessorTest {
+	/**
+	 * {@link Path} for temp directory
+	 */
+	private static Path tempPath = null;
+
+	/**
+	 * Number of valid XML files
+	 */
+	private static final int FILE_COUNT = 120;
+
+	/**
+	 * This method creates the test files
+	 *
+	 * @throws IOException
+	 */
+	@BeforeAll
+	static void initialize() throws IOException {
+		tempPath = Files.createTempDirectory("XMLBatchProcessorTest");
+		for (int idx = 0; idx < FILE_COUNT; idx++) {
+			Path dir = Files.createDirectories(tempPath.resolve("dir" + (idx % 7)));
+			Files.writeString(dir.resolve("file" + idx + ".xml"), "<doc id='" + idx + "'><value>v" + idx + "</value></doc>",
+					StandardCharsets.UTF_8);
+		}
+
+		Files.writeString(tempPath.resolve("broken.xml"), "<doc>", StandardCharsets.UTF_8);
+		Files.writeString(tempPath.resolve("notes.txt"), "<doc/>", StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * This method deletes the test files
+	 *
+	 * @throws IOException
+	 */
+	@AfterAll
+	static void cleanup() throws IOException {
+		FileSystemUtils.deleteRecursively(tempPath);
+	}
+
+	/**
+	 * Test method for
+	 * {@link XMLBatchProcessor#process(Path, String, java.util.function.Function, int)}.
+	 */
+	@Test
+	void testProcess() {
+		assertThrows(ApplicationException.class, () -> XMLBatchProcessor.process(tempPath, "xml", null));
+
+		Map<String, Boolean> threads = new ConcurrentHashMap<>();
+		AtomicInteger calls = new AtomicInteger();
+		Map<String, FileResult<String>> results = XMLBatchProcessor.process(tempPath, "xml", aDocument -> {
+			threads.put(Thread.currentThread().getName(), Boolean.TRUE);
+			calls.incrementAndGet();
+			String id = aDocument.getDocumentElement().getAttribute("id");
+			if (id.equals("13")) {
+				throw new IllegalStateException("rejected");
+			} else if (id.equals("27")) {
+				throw new StackOverflowError();
+			}
+
+			return XMLUtils.xPathNodeValue("/doc/value", aDocument);
+		}, 4);
+
+		assertEquals(FILE_COUNT + 1, results.size());
+		assertEquals(FILE_COUNT, calls.get());
+		assertFalse(results.containsKey("notes.txt"));
+		assertEquals("v5", results.get("dir5/file5.xml").getValue());
+		assertTrue(results.get("dir5/file5.xml").isSuccess());
+		assertTrue(results.get("broken.xml").getError() instanceof ApplicationException);
+		assertTrue(results.get("dir6/file13.xml").getError() instanceof IllegalStateException);
+		assertTrue(results.get("dir6/file27.xml").getError() instanceof StackOverflowError);
+		assertEquals(FILE_COUNT - 2, results.values().stream().filter(FileResult::isSuccess).count());
+		assertTrue(threads.size() > 1);
+
+		assertThrows(OutOfMemoryError.class, () -> XMLBatchProcessor.process(tempPath, "xml", aDocument -> {
+			throw new OutOfMemoryError("processor");
+		}, 2));
+	}
+
+	/**
+	 * Test method for
+	 * {@link XMLBatchProcessor#process(Path, String, java.util.function.Function, int)}
+	 * with an unreadable directory.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	void testProcessUnreadable() throws IOException {
+		assertThrows(ApplicationException.class,
+				() -> XMLBatchProcessor.process(tempPath.resolve("missing"), "xml", aDocument -> aDocument));
+
+		Path root = Files.createTempDirectory("XMLBatchProcessorTest");
+		Files.writeString(root.resolve("file.xml"), "<doc/>", StandardCharsets.UTF_8);
+		Path locked = Files.createDirectories(root.resolve("locked"));
+		Files.writeString(locked.resolve("file.xml"), "<doc/>", StandardCharsets.UTF_8);
+		Files.setPosixFilePermissions(locked, Set.of());
+		try {
+			assumeFalse(Files.isReadable(locked), "permissions are not enforced for this user");
+
+			Map<String, FileResult<Object>> results = XMLBatchProcessor.process(root, "xml", aDocument -> aDocument);
+			assertTrue(results.get("file.xml").isSuccess());
+			assertTrue(results.get("locked").getError() instanceof AccessDeniedException);
+		} finally {
+			Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+			FileSystemUtils.deleteRecursively(root);
+		}
+	}
+}
@@ -6,12 +6,37 @@ import static accelerate.commons.constant.CommonTestConstants.BEAN_NAME_FIELD;
 import static accelerate.commons.constant.CommonTestConstants.BEAN_NAME_VALUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
+import accelerate.commons.data.DataMap;
 import accelerate.commons.exception.ApplicationException;
 
 /**
@@ -60,6 +85,45 @@ public class XMLUtilsTests {
 		assertThat(XMLUtils.serialzeXML(testXMLDocument)).contains("</TestDataBean>");
 	}
 
+	/**
+	 * Test method for {@link XMLUtils#serialzeXML(Node, Writer, boolean)},
+	 * {@link XMLUtils#serialzeXML(Node, OutputStream, boolean)} and
+	 * {@link XMLUtils#serialzeXML(Node, Path, boolean)}.
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	void testSerialzeXMLStreams() throws IOException {
+		StringWriter writer = new StringWriter();
+		XMLUtils.serialzeXML(testXMLDocument, writer, false);
+		assertThat(writer.toString()).contains("<beanName>" + BEAN_NAME_VALUE + "</beanName>");
+		assertEquals(XMLUtils.serialzeXML(testXMLDocument), XMLUtils.serialzeXML(testXMLDocument, true));
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		XMLUtils.serialzeXML(testXMLDocument, outputStream, false);
+		assertEquals(writer.toString(), outputStream.toString(StandardCharsets.UTF_8));
+
+		// a failed transform does not affect the next one on the thread
+		assertThrows(ApplicationException.class, () -> XMLUtils.serialzeXML(testXMLDocument, new OutputStream() {
+			@Override
+			public void write(int aByte) throws IOException {
+				throw new IOException("closed");
+			}
+		}, false));
+		outputStream.reset();
+		XMLUtils.serialzeXML(testXMLDocument, outputStream, false);
+		assertEquals(writer.toString(), outputStream.toString(StandardCharsets.UTF_8));
+
+		Path path = Files.createTempFile("XMLUtilsTests", ".xml");
+		try {
+			XMLUtils.serialzeXML(testXMLDocument.getDocumentElement(), path, true);
+			assertEquals(BEAN_NAME_VALUE,
+					XMLUtils.xPathNodeValue("/TestDataBean/" + BEAN_NAME_FIELD, XMLUtils.loadXML(path.toUri().toString())));
+		} finally {
+			Files.delete(path);
+		}
+	}
+
 	/**
 	 * Test method for {@link XMLUtils#xPathNodeList(String, Node)}.
 	 */
@@ -100,4 +164,170 @@ public class XMLUtilsTests {
 
 		assertEquals(BEAN_ID_VALUE, XMLUtils.xPathNodeAttribute("/TestDataBean", BEAN_ID_FIELD, testXMLDocument));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test method for {@link XMLUtils#extract(Document, Map)} and
+	 * {@link XMLUtils#extract(InputStream, Map)}.
+	 */
+	@Test
+	void testExtract() {
+		Map<String, String> keyToXPath = new LinkedHashMap<>();
+		keyToXPath.put(BEAN_ID_FIELD, "/TestDataBean/@" + BEAN_ID_FIELD);
+		keyToXPath.put(BEAN_NAME_FIELD, "/TestDataBean/" + BEAN_NAME_FIELD);
+		keyToXPath.put("key", "//key");
+		keyToXPath.put("missing", "/TestDataBean/missing");
+
+		DataMap expected = DataMap.newMap(BEAN_ID_FIELD, BEAN_ID_VALUE, BEAN_NAME_FIELD, BEAN_NAME_VALUE, "key",
+				"value");
+		assertEquals(expected, XMLUtils.extract(testXMLDocument, keyToXPath));
+		assertEquals(expected, StreamUtils.loadInputStream("classpath:/accelerate/commons/util/XMLUtilsTests.xml",
+				aInputStream -> XMLUtils.extract(aInputStream, keyToXPath)));
+		assertSame(XMLUtils.compileExtractor(keyToXPath), XMLUtils.compileExtractor(new HashMap<>(keyToXPath)));
+
+		Map<String, String> fullXPath = Map.of("last", "/TestDataBean/*[last()]");
+		assertEquals(DataMap.newMap("last", "value"), XMLUtils.extract(testXMLDocument, fullXPath));
+		assertThrows(ApplicationException.class, () -> XMLUtils.extract(
+				new ByteArrayInputStream("<TestDataBean/>".getBytes(StandardCharsets.UTF_8)), fullXPath));
+
+		// mixed content is joined the same way in both modes
+		String mixedXML = "<doc><note>first <b>bold</b> second<![CDATA[ third]]></note></doc>";
+		Map<String, String> textXPath = Map.of("text", "/doc/note/text()", "note", "/doc/note");
+		DataMap mixed = DataMap.newMap("text", "first  second third", "note", "first  second third");
+		assertEquals(mixed, XMLUtils.extract(XMLUtils.stringToXML(mixedXML), textXPath));
+		assertEquals(mixed, XMLUtils.extract(
+				new ByteArrayInputStream(mixedXML.getBytes(StandardCharsets.UTF_8)), textXPath));
+	}
+
+	/**
+	 * Test method for {@link XMLUtils#xPathNodeValue(String, Node)} reusing the
+	 * compiled expressions cached by each thread.
+	 */
+	@Test
+	void testXPathCache() {
+		String xml = StreamUtils.readInputStream("classpath:/accelerate/commons/util/XMLUtilsTests.xml");
+		assertEquals(64, IntStream.range(0, 64).parallel().mapToObj(aIndex -> XMLUtils.stringToXML(xml))
+				.filter(aDocument -> BEAN_NAME_VALUE
+						.equals(XMLUtils.xPathNodeValue("/TestDataBean/" + BEAN_NAME_FIELD, aDocument))
+						&& BEAN_ID_VALUE.equals(XMLUtils.xPathNodeAttribute("/TestDataBean", BEAN_ID_FIELD, aDocument)))
+				.count());
+	}
+
+	/**
+	 * Test method for {@link XMLUtils#stringToXML(String)}, parsing the same
+	 * document on several threads
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	void testStringToXMLConcurrent() throws Exception {
+		String xml = StreamUtils.readInputStream("classpath:/accelerate/commons/util/XMLUtilsTests.xml");
+		int threads = 4;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int idx = 0; idx < threads; idx++) {
+				tasks.add(() -> {
+					int parsed = 0;
+					for (int count = 0; count < 100; count++) {
+						if ("TestDataBean".equals(XMLUtils.stringToXML(xml).getDocumentElement().getNodeName())) {
+							parsed++;
+						}
+					}
+					return parsed;
+				});
+			}
+
+			for (Future<Integer> result : executor.invokeAll(tasks)) {
+				assertEquals(Integer.valueOf(100), result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for {@link XMLUtils#toDataMap(String)} and
+	 * {@link XMLUtils#toDataMap(InputStream)}.
+	 */
+	@Test
+	void testToDataMap() {
+		assertThrows(ApplicationException.class, () -> XMLUtils.toDataMap((String) null));
+
+		DataMap expected = DataMap.newMap(BEAN_ID_FIELD, BEAN_ID_VALUE, BEAN_NAME_FIELD, BEAN_NAME_VALUE, "key",
+				"value");
+		assertEquals(expected, StreamUtils.loadInputStream("classpath:/accelerate/commons/util/XMLUtilsTests.xml",
+				XMLUtils::toDataMap));
+
+		DataMap dataMap = XMLUtils.toDataMap("<root a='1'><item>x</item><item id='2'>y</item><empty/>"
+				+ "<group><name>n</name>tail</group><![CDATA[<c>]]></root>");
+		assertEquals("1", dataMap.get("a"));
+		assertEquals(List.of("x", DataMap.newMap("id", "2", "", "y")), dataMap.get("item"));
+		assertEquals("", dataMap.get("empty"));
+		assertEquals(DataMap.newMap("name", "n", "", "tail"), dataMap.get("group"));
+		assertEquals("<c>", dataMap.get(""));
+	}
+
+	/**
+	 * Test method for {@link XMLUtils#toDataMap(String)}, comparing it with a walk
+	 * of the {@link Document} and with {@link JacksonUtils#fromXML(String, Class)}
+	 */
+	@Test
+	void testToDataMapLayout() {
+		String xml = catalogXML(200);
+		DataMap expected = XMLUtils.toDataMap(xml);
+		assertEquals(200, ((List<?>) expected.get("book")).size());
+		assertEquals(expected, domToDataMap(XMLUtils.stringToXML(xml).getDocumentElement()));
+		assertEquals(expected.keySet(), JacksonUtils.fromXML(xml, DataMap.class).keySet());
+	}
+
+	/**
+	 * @param aCount
+	 * @return catalog document with the given number of books
+	 */
+	static String catalogXML(int aCount) {
+		StringBuilder builder = new StringBuilder("<catalog version='1'>");
+		IntStream.range(0, aCount).forEach(aIndex -> builder.append("<book id='b").append(aIndex)
+				.append("'><title>Title ").append(aIndex).append("</title><price>").append(aIndex % 50)
+				.append("</price><tag>a</tag><tag>b</tag></book>"));
+		return builder.append("</catalog>").toString();
+	}
+
+	/**
+	 * @param aElement
+	 * @return content of the given element in the layout of
+	 *         {@link XMLUtils#toDataMap(String)}
+	 */
+	@SuppressWarnings("unchecked")
+	static DataMap domToDataMap(Element aElement) {
+		DataMap dataMap = new DataMap();
+		NamedNodeMap attributes = aElement.getAttributes();
+		for (int idx = 0; idx < attributes.getLength(); idx++) {
+			dataMap.put(attributes.item(idx).getNodeName(), attributes.item(idx).getNodeValue());
+		}
+
+		StringBuilder text = new StringBuilder();
+		for (Node child = aElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+			if (child.getNodeType() != Node.ELEMENT_NODE) {
+				text.append((child.getNodeType() == Node.COMMENT_NODE) ? "" : child.getNodeValue());
+				continue;
+			}
+
+			Element element = (Element) child;
+			Object value = (element.getAttributes().getLength() > 0) || (element.getElementsByTagName("*").getLength() > 0)
+					? domToDataMap(element)
+					: element.getTextContent();
+			Object existing = dataMap.putIfAbsent(element.getTagName(), value);
+			if (existing instanceof List) {
+				((List<Object>) existing).add(value);
+			} else if (existing != null) {
+				dataMap.put(element.getTagName(), new ArrayList<>(List.of(existing, value)));
+			}
+		}
+
+		if (!text.toString().isBlank()) {
+			dataMap.put("", text.toString());
+		}
+
+		return dataMap;
+	}
+}